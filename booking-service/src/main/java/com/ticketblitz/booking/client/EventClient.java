@@ -1,14 +1,23 @@
 package com.ticketblitz.booking.client;
 
+import com.ticketblitz.booking.dto.CartLine;
 import com.ticketblitz.booking.dto.EventDto;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "event-service", url = "${event-service.url}", fallback = EventClientFallback.class)
 public interface EventClient {
 
+    // Set by event-service on reserve when timed holds are enabled
+    String HOLD_TOKEN_HEADER = "X-Hold-Token";
+
+    // Set by event-service on reserve when it hands out numbered tickets; pass back on release
+    String TICKET_CLAIM_HEADER = "X-Ticket-Claim";
+
     @GetMapping("/events/{id}")
     @CircuitBreaker(name = "eventService")
     ResponseEntity<EventDto> getEventById(@PathVariable("id") Long eventId);
@@ -23,5 +32,27 @@ public interface EventClient {
     @CircuitBreaker(name = "eventService")
     ResponseEntity<Boolean> releaseTickets(@PathVariable("id") Long eventId,
                                            @RequestParam("count") int count,
+                                           @RequestParam(value = "claim", required = false) String claim,
                                            @RequestHeader("Authorization") String token);
+
+    // All-or-nothing across events (no hold token)
+    @PostMapping("/events/internal/reserve")
+    @CircuitBreaker(name = "eventService")
+    ResponseEntity<Boolean> reserveCart(@RequestBody List<CartLine> lines,
+                                        @RequestHeader("Authorization") String token);
+
+    @PutMapping("/events/internal/release")
+    @CircuitBreaker(name = "eventService")
+    ResponseEntity<Boolean> releaseCart(@RequestBody List<CartLine> lines,
+                                        @RequestHeader("Authorization") String token);
+
+    @PostMapping("/events/internal/holds/{token}/confirm")
+    @CircuitBreaker(name = "eventService")
+    ResponseEntity<Boolean> confirmHold(@PathVariable("token") String holdToken,
+                                        @RequestHeader("Authorization") String token);
+
+    @DeleteMapping("/events/internal/holds/{token}")
+    @CircuitBreaker(name = "eventService")
+    ResponseEntity<Boolean> releaseHold(@PathVariable("token") String holdToken,
+                                        @RequestHeader("Authorization") String token);
 }
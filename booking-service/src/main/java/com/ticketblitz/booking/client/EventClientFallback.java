@@ -1,11 +1,14 @@
 package com.ticketblitz.booking.client;
 
+import com.ticketblitz.booking.dto.CartLine;
 import com.ticketblitz.booking.dto.EventDto;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 @Component
 @Slf4j
 public class EventClientFallback implements EventClient {
@@ -24,8 +27,32 @@ public class EventClientFallback implements EventClient {
     }
 
     @Override
-    public ResponseEntity<Boolean> releaseTickets(Long eventId, int count, String token) {
+    public ResponseEntity<Boolean> releaseTickets(Long eventId, int count, String claim, String token) {
         log.error("⚠️ Cannot release tickets. Event Service Unreachable.");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(false);
     }
+
+    @Override
+    public ResponseEntity<Boolean> reserveCart(List<CartLine> lines, String token) {
+        log.error("⚠️ Cannot reserve cart of {} events. Event Service Unreachable.", lines.size());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(false);
+    }
+
+    @Override
+    public ResponseEntity<Boolean> releaseCart(List<CartLine> lines, String token) {
+        log.error("⚠️ Cannot release cart of {} events. Event Service Unreachable.", lines.size());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(false);
+    }
+
+    @Override
+    public ResponseEntity<Boolean> confirmHold(String holdToken, String token) {
+        log.error("⚠️ Cannot confirm hold {}. Event Service Unreachable.", holdToken);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(false);
+    }
+
+    @Override
+    public ResponseEntity<Boolean> releaseHold(String holdToken, String token) {
+        log.error("⚠️ Cannot release hold {}. Event Service Unreachable.", holdToken);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(false);
+    }
 }
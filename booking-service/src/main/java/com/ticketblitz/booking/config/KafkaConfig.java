@@ -0,0 +1,29 @@
+package com.ticketblitz.booking.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Configuration
+@Slf4j
+public class KafkaConfig {
+
+    /**
+     * Listener failures (e.g. event-service down while confirming a paid hold) are redelivered with
+     * exponential backoff. max-elapsed-ms must stay below the hold TTL, or the hold expires first.
+     */
+    @Bean
+    public DefaultErrorHandler kafkaErrorHandler(
+            @Value("${booking.saga.retry.max-elapsed-ms:300000}") long maxElapsedMs,
+            @Value("${booking.saga.retry.max-interval-ms:30000}") long maxIntervalMs) {
+        ExponentialBackOff backOff = new ExponentialBackOff(1000, 2.0);
+        backOff.setMaxInterval(maxIntervalMs); // Below max.poll.interval.ms
+        backOff.setMaxElapsedTime(maxElapsedMs);
+        return new DefaultErrorHandler((record, e) ->
+                log.error("CRITICAL: Giving up on {} (offset {}) after retries: {}", record.topic(), record.offset(), e.getMessage()),
+                backOff);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ticketblitz.booking.controller;
 
+import com.ticketblitz.booking.dto.BookCartRequest;
 import com.ticketblitz.booking.dto.BookTicketRequest;
 import com.ticketblitz.booking.dto.BookingResponse;
 import com.ticketblitz.booking.service.BookingService;
@@ -31,6 +32,14 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.bookTicket(request, token));
     }
 
+    /**
+     * Several events in one booking (festival days, parking + show): all reserved or none.
+     */
+    @PostMapping("/cart")
+    public ResponseEntity<BookingResponse> createCartBooking(@Valid @RequestBody BookCartRequest request,
+                                                             @RequestHeader("Authorization") String token) {
+        return ResponseEntity.ok(bookingService.bookCart(request, token));
+    }
 
     @GetMapping("/{id}")
     public ResponseEntity<BookingResponse> getBookingById(@PathVariable Long id) {
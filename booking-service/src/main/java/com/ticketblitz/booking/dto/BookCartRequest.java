@@ -0,0 +1,19 @@
+package com.ticketblitz.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BookCartRequest {
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotEmpty(message = "At least one event must be booked")
+    @Size(max = 50, message = "At most 50 lines per booking")
+    private List<@Valid CartLine> lines;
+}
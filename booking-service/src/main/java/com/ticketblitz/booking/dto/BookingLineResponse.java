@@ -0,0 +1,12 @@
+package com.ticketblitz.booking.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class BookingLineResponse {
+    private Long eventId;
+    private int ticketCount;
+    private BigDecimal price;
+}
@@ -3,6 +3,7 @@ package com.ticketblitz.booking.dto;
 import com.ticketblitz.booking.entity.BookingStatus;
 import lombok.Data;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -13,4 +14,5 @@ public class BookingResponse {
     private int ticketCount;
     private BookingStatus status;
     private BigDecimal totalPrice;
+    private List<BookingLineResponse> lines; // Multi-event bookings only
 }
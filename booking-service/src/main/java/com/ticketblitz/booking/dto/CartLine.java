@@ -0,0 +1,19 @@
+package com.ticketblitz.booking.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One event of a multi-event booking (also the body line of event-service's cart reserve/release)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartLine {
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @Min(value = 1, message = "At least 1 ticket must be booked")
+    private int count;
+}
@@ -1,12 +1,17 @@
 package com.ticketblitz.booking.entity;
 
+import com.ticketblitz.booking.dto.CartLine;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "booking")
@@ -18,13 +23,28 @@ public class Booking {
     private Long id;
 
     private Long userId;
-    private Long eventId;
+    private Long eventId; // null for multi-event bookings (see lines)
     private int ticketCount;
     private BigDecimal totalPrice;
 
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
 
+    // Timed hold issued by event-service on reserve (null when holds are disabled)
+    @Column(name = "hold_token", length = 36)
+    private String holdToken;
+
+    // Numbered-ticket claim issued by event-service on reserve (null unless it hands out numbered tickets)
+    @Column(name = "ticket_claim", length = 36)
+    private String ticketClaim;
+
+    // Multi-event booking: one line per event (empty for single-event bookings)
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "booking_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<BookingLine> lines = new ArrayList<>();
+
     @CreationTimestamp // Automatically sets time on INSERT
     @Column(name = "booking_time", insertable = false, updatable = false)
     private LocalDateTime bookingTime; // Renamed from 'booking_time' to camelCase if preferred, or keep as is
@@ -32,4 +52,11 @@ public class Booking {
     @Column(name = "updated_at")
     @UpdateTimestamp // Automatically updates time on UPDATE
     private LocalDateTime updatedAt;
+
+    // Lines in the shape event-service's cart release takes
+    public List<CartLine> cartLines() {
+        return lines.stream()
+                .map(line -> new CartLine(line.getEventId(), line.getTicketCount()))
+                .toList();
+    }
 }
@@ -0,0 +1,25 @@
+package com.ticketblitz.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * One event of a multi-event (cart) booking.
+ */
+@Entity
+@Table(name = "booking_line")
+@Data
+public class BookingLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long eventId;
+    private int ticketCount;
+
+    // Unit price at booking time
+    private BigDecimal price;
+}
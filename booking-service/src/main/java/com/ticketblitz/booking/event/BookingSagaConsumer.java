@@ -5,8 +5,11 @@ import com.ticketblitz.booking.dto.PaymentUpdateEvent;
 import com.ticketblitz.booking.entity.Booking;
 import com.ticketblitz.booking.entity.BookingStatus;
 import com.ticketblitz.booking.repository.BookingRepository;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,10 @@ public class BookingSagaConsumer {
     private final BookingRepository bookingRepository;
     private final EventClient eventClient;
 
+    /**
+     * Failures other than an expired hold are rethrown, so the message is redelivered with backoff
+     * (KafkaConfig) instead of being dropped while the customer has already paid.
+     */
     @KafkaListener(topics = "payment.updates", groupId = "booking-saga-group")
     @Transactional // Ensures the read-modify-write happens in one DB transaction
     public void handlePaymentUpdate(PaymentUpdateEvent event) {
@@ -26,11 +33,18 @@ public class BookingSagaConsumer {
 
         try {
             // 1. Fetch Existing (Using lock is safer but standard findById is okay for MVP)
-            Booking booking = bookingRepository.findById(event.getBookingId())
-                    .orElseThrow(() -> new RuntimeException("Booking not found: " + event.getBookingId()));
+            Booking booking = bookingRepository.findById(event.getBookingId()).orElse(null);
+            if (booking == null) {
+                log.error("Saga update for unknown Booking {} ignored", event.getBookingId()); // A retry cannot help
+                return;
+            }
 
             // 2. Logic to update Status
             if ("SUCCESS".equals(event.getStatus())) {
+                // Timed hold: tickets only stay sold once event-service accepts the confirmation
+                if (booking.getHoldToken() != null && !confirmHold(booking, bearer(event.getAuthToken()))) {
+                    return;
+                }
                 booking.setStatus(BookingStatus.CONFIRMED);
                 // Note: updated_at will be handled by @UpdateTimestamp (Java) or DB Trigger
                 log.info("✅ Booking {} CONFIRMED.", booking.getId());
@@ -40,12 +54,15 @@ public class BookingSagaConsumer {
 
                 // Compensating Transaction: Release Tickets
                 try {
-                    String token = event.getAuthToken(); // Assuming you added this field to DTO
-                    if (token != null && !token.startsWith("Bearer ")) {
-                        token = "Bearer " + token;
+                    String token = bearer(event.getAuthToken());
+                    if (booking.getHoldToken() != null) {
+                        // Idempotent: PaymentEventListener releases the same hold
+                        eventClient.releaseHold(booking.getHoldToken(), token);
+                    } else if (!booking.getLines().isEmpty()) {
+                        eventClient.releaseCart(booking.cartLines(), token);
+                    } else {
+                        eventClient.releaseTickets(booking.getEventId(), booking.getTicketCount(), booking.getTicketClaim(), token);
                     }
-                    // Ideally pass token here too if Event Service is secured!
-                    eventClient.releaseTickets(booking.getEventId(), booking.getTicketCount(), token);
                 } catch (Exception ex) {
                     log.error("Failed to release tickets for failed booking {}", booking.getId(), ex);
                 }
@@ -54,8 +71,45 @@ public class BookingSagaConsumer {
             // 3. Save (Updates the existing row)
             bookingRepository.save(booking);
 
-        } catch (Exception e) {
-            log.error("Error processing Saga update for Booking {}", event.getBookingId(), e);
+        } catch (RuntimeException e) {
+            log.error("Error processing Saga update for Booking {} (will be retried)", event.getBookingId(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return false if the hold expired (booking marked FAILED)
+     * @throws RuntimeException if event-service could not be reached: retry before the hold runs out
+     */
+    private boolean confirmHold(Booking booking, String token) {
+        try {
+            ResponseEntity<Boolean> response = eventClient.confirmHold(booking.getHoldToken(), token);
+            if (Boolean.TRUE.equals(response.getBody())) {
+                return true;
+            }
+            if (response.getStatusCode().value() == HttpStatus.CONFLICT.value()) {
+                markHoldExpired(booking);
+                return false;
+            }
+            throw new RuntimeException("Could not confirm hold " + booking.getHoldToken() + " for Booking " + booking.getId()
+                    + " (HTTP " + response.getStatusCode().value() + ")");
+        } catch (FeignException.Conflict e) {
+            markHoldExpired(booking);
+            return false;
+        }
+    }
+
+    private void markHoldExpired(Booking booking) {
+        booking.setStatus(BookingStatus.FAILED);
+        bookingRepository.save(booking);
+        log.error("CRITICAL: Hold {} for Booking {} expired before payment completed. Tickets were released; refund required.",
+                booking.getHoldToken(), booking.getId());
+    }
+
+    private String bearer(String token) {
+        if (token != null && !token.startsWith("Bearer ")) {
+            return "Bearer " + token;
         }
+        return token;
     }
 }
@@ -37,6 +37,9 @@ public class PaymentEventListener {
     private void handlePaymentSuccess(Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new RuntimeException("Booking not found"));
+        if (booking.getHoldToken() != null) {
+            return; // Timed hold: BookingSagaConsumer confirms the hold first, then the booking
+        }
         if (booking.getStatus() != BookingStatus.CONFIRMED) {
             booking.setStatus(BookingStatus.CONFIRMED);
             bookingRepository.save(booking);
@@ -60,7 +63,13 @@ public class PaymentEventListener {
 
         // 2. COMPENSATE: Release Tickets
         try {
-            eventClient.releaseTickets(booking.getEventId(), booking.getTicketCount(), token);
+            if (booking.getHoldToken() != null) {
+                eventClient.releaseHold(booking.getHoldToken(), token); // Idempotent across both listeners
+            } else if (!booking.getLines().isEmpty()) {
+                eventClient.releaseCart(booking.cartLines(), token);
+            } else {
+                eventClient.releaseTickets(booking.getEventId(), booking.getTicketCount(), booking.getTicketClaim(), token);
+            }
             log.info("Compensation Successful: Tickets released for Booking {}", bookingId);
         } catch (Exception e) {
             log.error("CRITICAL: Failed to release tickets for Booking {}.", bookingId, e);
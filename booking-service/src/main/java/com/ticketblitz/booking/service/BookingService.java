@@ -2,11 +2,14 @@ package com.ticketblitz.booking.service;
 
 import com.ticketblitz.booking.client.EventClient;
 import com.ticketblitz.booking.client.UserClient;
+import com.ticketblitz.booking.dto.BookCartRequest;
 import com.ticketblitz.booking.dto.BookTicketRequest;
 import com.ticketblitz.booking.dto.BookingCreatedEvent;
 import com.ticketblitz.booking.dto.BookingResponse;
+import com.ticketblitz.booking.dto.CartLine;
 import com.ticketblitz.booking.dto.EventDto;
 import com.ticketblitz.booking.entity.Booking;
+import com.ticketblitz.booking.entity.BookingLine;
 import com.ticketblitz.booking.entity.BookingStatus;
 import com.ticketblitz.booking.repository.BookingRepository;
 import com.ticketblitz.booking.mapper.BookingMapper;
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -87,6 +91,8 @@ public class BookingService {
         booking.setUserId(request.getUserId());
         booking.setEventId(request.getEventId());
         booking.setTicketCount(request.getTicketCount());
+        booking.setHoldToken(reservation.getHeaders().getFirst(EventClient.HOLD_TOKEN_HEADER));
+        booking.setTicketClaim(reservation.getHeaders().getFirst(EventClient.TICKET_CLAIM_HEADER));
 
         BigDecimal pricePerTicket = eventDto.getPrice();
         BigDecimal total = pricePerTicket.multiply(BigDecimal.valueOf(request.getTicketCount()));
@@ -110,6 +116,82 @@ public class BookingService {
         return bookingMapper.toResponse(savedBooking);
     }
 
+    /**
+     * Multi-event booking: every line is reserved in ONE all-or-nothing call to event-service,
+     * then paid as a single booking.
+     */
+    @Transactional
+    public BookingResponse bookCart(BookCartRequest request, String authToken) {
+        List<CartLine> lines = request.getLines();
+        log.info("Starting cart booking for User {}: {} events", request.getUserId(), lines.size());
+
+        // 1. ASYNC ORCHESTRATION: User and every Event in PARALLEL
+        CompletableFuture<Boolean> userFuture = CompletableFuture.supplyAsync(() ->
+                userClient.validateUser(request.getUserId(), authToken));
+
+        List<CompletableFuture<EventDto>> eventFutures = lines.stream()
+                .map(line -> CompletableFuture.supplyAsync(() -> {
+                    ResponseEntity<EventDto> response = eventClient.getEventById(line.getEventId());
+                    if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                        throw new IllegalArgumentException("Event not found: " + line.getEventId());
+                    }
+                    return response.getBody();
+                }))
+                .toList();
+
+        List<EventDto> events;
+        try {
+            CompletableFuture.allOf(eventFutures.toArray(CompletableFuture[]::new)).join();
+            if (!userFuture.join()) {
+                throw new IllegalArgumentException("User ID not found");
+            }
+            events = eventFutures.stream().map(CompletableFuture::join).toList();
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Async Fetch Failed", e);
+            throw new RuntimeException("Failed to fetch User or Event details: " + e.getMessage());
+        }
+
+        // 2. Reserve every line or none
+        ResponseEntity<Boolean> reservation = eventClient.reserveCart(lines, authToken);
+        if (!Boolean.TRUE.equals(reservation.getBody())) {
+            throw new IllegalStateException("Tickets sold out or unavailable.");
+        }
+
+        // 3. One booking, one line per event
+        Booking booking = new Booking();
+        booking.setUserId(request.getUserId());
+        booking.setStatus(BookingStatus.PENDING);
+        BigDecimal total = BigDecimal.ZERO;
+        int tickets = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            BookingLine line = new BookingLine();
+            line.setEventId(lines.get(i).getEventId());
+            line.setTicketCount(lines.get(i).getCount());
+            line.setPrice(events.get(i).getPrice());
+            booking.getLines().add(line);
+            total = total.add(line.getPrice().multiply(BigDecimal.valueOf(line.getTicketCount())));
+            tickets += line.getTicketCount();
+        }
+        booking.setTicketCount(tickets);
+        booking.setTotalPrice(total);
+
+        Booking savedBooking = bookingRepository.save(booking);
+
+        // 4. Send to Payment Service
+        kafkaTemplate.send(PAYMENT_TOPIC, new BookingCreatedEvent(
+                savedBooking.getId(),
+                savedBooking.getUserId(),
+                savedBooking.getTotalPrice(),
+                "user@example.com",
+                authToken
+        ));
+        log.info("Cart booking {} created ({} events, {} tickets). Sent to Kafka.", savedBooking.getId(), lines.size(), tickets);
+
+        return bookingMapper.toResponse(savedBooking);
+    }
+
     @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long id) {
         Booking booking = bookingRepository.findById(id)
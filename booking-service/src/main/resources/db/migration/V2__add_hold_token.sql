@@ -0,0 +1,2 @@
+-- Timed ticket hold from event-service: confirmed on payment success, released on failure
+ALTER TABLE booking ADD COLUMN IF NOT EXISTS hold_token VARCHAR(36);
@@ -0,0 +1,12 @@
+-- Multi-event (cart) bookings: one line per event, booking.event_id stays NULL
+ALTER TABLE booking ALTER COLUMN event_id DROP NOT NULL;
+
+CREATE TABLE booking_line (
+                              id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+                              booking_id BIGINT NOT NULL REFERENCES booking (id) ON DELETE CASCADE,
+                              event_id BIGINT NOT NULL,
+                              ticket_count INT NOT NULL,
+                              price DECIMAL(10, 2) NOT NULL
+);
+
+CREATE INDEX idx_booking_line_booking ON booking_line(booking_id);
@@ -0,0 +1,2 @@
+-- Numbered tickets claimed by event-service on reserve (POOL strategy): released by claim, not by count
+ALTER TABLE booking ADD COLUMN IF NOT EXISTS ticket_claim VARCHAR(36);
@@ -1,5 +1,6 @@
 package com.ticketblitz.booking.client;
 
+import com.ticketblitz.booking.dto.CartLine;
 import com.ticketblitz.booking.dto.EventDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class EventClientFallbackTest {
@@ -39,7 +42,34 @@ class EventClientFallbackTest {
     @Test
     @DisplayName("ReleaseTickets - Fallback: Should return 503 with false body")
     void releaseTickets_fallback_returns503WithFalse() {
-        ResponseEntity<Boolean> response = fallback.releaseTickets(99L, 3, "Bearer token");
+        ResponseEntity<Boolean> response = fallback.releaseTickets(99L, 3, null, "Bearer token");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ConfirmHold - Fallback: Should return 503 with false body")
+    void confirmHold_fallback_returns503WithFalse() {
+        ResponseEntity<Boolean> response = fallback.confirmHold("hold-token", "Bearer token");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ReleaseHold - Fallback: Should return 503 with false body")
+    void releaseHold_fallback_returns503WithFalse() {
+        ResponseEntity<Boolean> response = fallback.releaseHold("hold-token", "Bearer token");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ReserveCart - Fallback: Should return 503 with false body")
+    void reserveCart_fallback_returns503WithFalse() {
+        ResponseEntity<Boolean> response = fallback.reserveCart(List.of(new CartLine(1L, 2)), "Bearer token");
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
         assertThat(response.getBody()).isFalse();
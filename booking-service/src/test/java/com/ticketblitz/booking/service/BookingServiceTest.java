@@ -2,9 +2,11 @@ package com.ticketblitz.booking.service;
 
 import com.ticketblitz.booking.client.EventClient;
 import com.ticketblitz.booking.client.UserClient;
+import com.ticketblitz.booking.dto.BookCartRequest;
 import com.ticketblitz.booking.dto.BookTicketRequest;
 import com.ticketblitz.booking.dto.BookingCreatedEvent;
 import com.ticketblitz.booking.dto.BookingResponse;
+import com.ticketblitz.booking.dto.CartLine;
 import com.ticketblitz.booking.dto.EventDto;
 import com.ticketblitz.booking.entity.Booking;
 import com.ticketblitz.booking.entity.BookingStatus;
@@ -23,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -155,6 +158,43 @@ class BookingServiceTest {
         assertThat(producedEvent.getAuthToken()).isEqualTo(AUTH_TOKEN);
     }
 
+    @Test
+    @DisplayName("BookTicket - Timed Hold: Hold token from event-service stored on the booking")
+    void bookTicket_holdTokenHeader_storedOnBooking() {
+        when(userClient.validateUser(10L, AUTH_TOKEN)).thenReturn(true);
+        when(eventClient.getEventById(99L)).thenReturn(ResponseEntity.ok(standardEventDto));
+        when(eventClient.reserveTickets(99L, 3, AUTH_TOKEN)).thenReturn(ResponseEntity.ok()
+                .header(EventClient.HOLD_TOKEN_HEADER, "5f0c7b8e-0d7a-4c1e-9d52-3a1f2b6c9e11")
+                .body(true));
+
+        ArgumentCaptor<Booking> bookingCaptor = ArgumentCaptor.forClass(Booking.class);
+        when(bookingRepository.save(bookingCaptor.capture())).thenAnswer(inv -> inv.getArgument(0, Booking.class));
+        when(bookingMapper.toResponse(any(Booking.class))).thenReturn(standardResponse);
+
+        bookingService.bookTicket(standardRequest, AUTH_TOKEN);
+
+        assertThat(bookingCaptor.getValue().getHoldToken()).isEqualTo("5f0c7b8e-0d7a-4c1e-9d52-3a1f2b6c9e11");
+    }
+
+    @Test
+    @DisplayName("BookTicket - Numbered Tickets: Ticket claim from event-service stored on the booking")
+    void bookTicket_ticketClaimHeader_storedOnBooking() {
+        when(userClient.validateUser(10L, AUTH_TOKEN)).thenReturn(true);
+        when(eventClient.getEventById(99L)).thenReturn(ResponseEntity.ok(standardEventDto));
+        when(eventClient.reserveTickets(99L, 3, AUTH_TOKEN)).thenReturn(ResponseEntity.ok()
+                .header(EventClient.TICKET_CLAIM_HEADER, "0b6e1d2c-4f3a-4c9b-8e7d-6a5b4c3d2e1f")
+                .body(true));
+
+        ArgumentCaptor<Booking> bookingCaptor = ArgumentCaptor.forClass(Booking.class);
+        when(bookingRepository.save(bookingCaptor.capture())).thenAnswer(inv -> inv.getArgument(0, Booking.class));
+        when(bookingMapper.toResponse(any(Booking.class))).thenReturn(standardResponse);
+
+        bookingService.bookTicket(standardRequest, AUTH_TOKEN);
+
+        assertThat(bookingCaptor.getValue().getTicketClaim()).isEqualTo("0b6e1d2c-4f3a-4c9b-8e7d-6a5b4c3d2e1f");
+        assertThat(bookingCaptor.getValue().getHoldToken()).isNull();
+    }
+
     // ========================================================================
     // USER VALIDATION FAILURE TESTS
     // ========================================================================
@@ -544,5 +584,57 @@ class BookingServiceTest {
         verify(kafkaTemplate, never()).send(anyString(), any());
     }
 
+    // ========================================================================
+    // MULTI-EVENT CART
+    // ========================================================================
 
+    @Test
+    @DisplayName("BookCart - Happy Path: One all-or-nothing reservation, one line per event, summed total")
+    void bookCart_happyPath_singleReservation_linesSaved() {
+        EventDto parking = new EventDto();
+        parking.setId(7L);
+        parking.setPrice(new BigDecimal("20.00"));
+        List<CartLine> lines = List.of(new CartLine(99L, 3), new CartLine(7L, 1));
+        BookCartRequest request = new BookCartRequest();
+        request.setUserId(10L);
+        request.setLines(lines);
+
+        when(userClient.validateUser(10L, AUTH_TOKEN)).thenReturn(true);
+        when(eventClient.getEventById(99L)).thenReturn(ResponseEntity.ok(standardEventDto));
+        when(eventClient.getEventById(7L)).thenReturn(ResponseEntity.ok(parking));
+        when(eventClient.reserveCart(lines, AUTH_TOKEN)).thenReturn(ResponseEntity.ok(true));
+        ArgumentCaptor<Booking> bookingCaptor = ArgumentCaptor.forClass(Booking.class);
+        when(bookingRepository.save(bookingCaptor.capture())).thenAnswer(inv -> inv.getArgument(0, Booking.class));
+        when(bookingMapper.toResponse(any(Booking.class))).thenReturn(standardResponse);
+
+        bookingService.bookCart(request, AUTH_TOKEN);
+
+        Booking saved = bookingCaptor.getValue();
+        assertThat(saved.getEventId()).isNull();
+        assertThat(saved.getTicketCount()).isEqualTo(4);
+        assertThat(saved.getTotalPrice()).isEqualByComparingTo("770.00");
+        assertThat(saved.getLines()).extracting("eventId").containsExactly(99L, 7L);
+        verify(eventClient, never()).reserveTickets(anyLong(), anyInt(), anyString());
+        verify(kafkaTemplate).send(eq("payment.process"), any(BookingCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("BookCart - Sold Out: No booking when any line cannot be reserved")
+    void bookCart_soldOut_noBookingSaved() {
+        List<CartLine> lines = List.of(new CartLine(99L, 3));
+        BookCartRequest request = new BookCartRequest();
+        request.setUserId(10L);
+        request.setLines(lines);
+
+        when(userClient.validateUser(10L, AUTH_TOKEN)).thenReturn(true);
+        when(eventClient.getEventById(99L)).thenReturn(ResponseEntity.ok(standardEventDto));
+        when(eventClient.reserveCart(lines, AUTH_TOKEN)).thenReturn(ResponseEntity.badRequest().body(false));
+
+        assertThatThrownBy(() -> bookingService.bookCart(request, AUTH_TOKEN))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("sold out");
+
+        verify(bookingRepository, never()).save(any());
+        verify(kafkaTemplate, never()).send(anyString(), any());
+    }
 }
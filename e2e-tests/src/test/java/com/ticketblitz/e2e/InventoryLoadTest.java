@@ -0,0 +1,212 @@
+package com.ticketblitz.e2e;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Inventory contention benchmark, straight against the Event DB (no services needed).
+ * Same workload (N buyers x 1 ticket) through the two allocation paths:
+ *   - PESSIMISTIC: SELECT ... FOR UPDATE on the events row, then UPDATE  (every buyer queues on one row)
+ *   - POOL:        UPDATE ticket_pool ... FOR UPDATE SKIP LOCKED         (buyers lock disjoint rows)
+ * Skipped when the DB is not reachable.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class InventoryLoadTest {
+
+    // DB Config (Event Service)
+    private static final String EVENT_DB_URL = "jdbc:postgresql://localhost:5433/ticketblitz_event";
+    private static final String EVENT_DB_USER = "postgres";
+    private static final String EVENT_DB_PASS = "abhinav195";
+
+    private static final int THREADS = 32;
+    private static final int TICKETS = 4_000;
+
+    private static Long eventId;
+    private static double pessimisticPerSecond;
+    private static double poolPerSecond;
+
+    @BeforeAll
+    static void setup() {
+        try (Connection conn = connect(); Statement st = conn.createStatement()) {
+            ResultSet rs = st.executeQuery("SELECT id FROM categories ORDER BY id LIMIT 1");
+            Assumptions.assumeTrue(rs.next(), "No category to attach the load-test event to");
+            long categoryId = rs.getLong(1);
+
+            try (PreparedStatement ps = conn.prepareStatement("""
+                    INSERT INTO events (title, date, location, price, total_tickets, available_tickets, category_id, version)
+                    VALUES ('Inventory Load Test', NOW() + INTERVAL '30 days', 'Load Arena', 10.00, ?, ?, ?, 0)
+                    RETURNING id
+                    """)) {
+                ps.setInt(1, TICKETS);
+                ps.setInt(2, TICKETS);
+                ps.setLong(3, categoryId);
+                ResultSet created = ps.executeQuery();
+                created.next();
+                eventId = created.getLong(1);
+            }
+        } catch (SQLException e) {
+            Assumptions.abort("Event DB not reachable: " + e.getMessage());
+        }
+    }
+
+    @AfterAll
+    static void cleanup() throws SQLException {
+        if (eventId == null) {
+            return;
+        }
+        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement("DELETE FROM events WHERE id = ?")) {
+            ps.setLong(1, eventId); // ticket_pool rows cascade
+            ps.executeUpdate();
+        }
+        System.out.printf("📊 Inventory load: PESSIMISTIC %.0f res/s, POOL %.0f res/s (%d threads)%n",
+                pessimisticPerSecond, poolPerSecond, THREADS);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Load: Row lock on the events row")
+    void pessimisticRowLock() throws Exception {
+        resetEvent();
+        pessimisticPerSecond = run(conn -> {
+            try (PreparedStatement lock = conn.prepareStatement("SELECT available_tickets FROM events WHERE id = ? FOR UPDATE");
+                 PreparedStatement update = conn.prepareStatement("UPDATE events SET available_tickets = available_tickets - 1 WHERE id = ?")) {
+                lock.setLong(1, eventId);
+                ResultSet rs = lock.executeQuery();
+                rs.next();
+                if (rs.getInt(1) < 1) {
+                    return false;
+                }
+                update.setLong(1, eventId);
+                update.executeUpdate();
+                return true;
+            }
+        });
+
+        assertEquals(0, availableTickets(), "Every ticket should be sold exactly once");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Load: SKIP LOCKED claims on ticket_pool")
+    void poolSkipLocked() throws Exception {
+        resetEvent();
+        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement("""
+                INSERT INTO ticket_pool (event_id, ticket_no, status)
+                SELECT ?, n, 'AVAILABLE' FROM generate_series(1, ?) AS n
+                """)) {
+            ps.setLong(1, eventId);
+            ps.setInt(2, TICKETS);
+            ps.executeUpdate();
+        }
+
+        poolPerSecond = run(conn -> {
+            try (PreparedStatement claim = conn.prepareStatement("""
+                    UPDATE ticket_pool SET status = 'RESERVED', reserved_at = NOW()
+                    WHERE id IN (
+                        SELECT id FROM ticket_pool
+                        WHERE event_id = ? AND status = 'AVAILABLE'
+                        ORDER BY id LIMIT 1
+                        FOR UPDATE SKIP LOCKED
+                    )
+                    """)) {
+                claim.setLong(1, eventId);
+                return claim.executeUpdate() == 1;
+            }
+        });
+
+        try (Connection conn = connect(); PreparedStatement ps = conn.prepareStatement(
+                "SELECT COUNT(*), COUNT(DISTINCT ticket_no) FROM ticket_pool WHERE event_id = ? AND status = 'RESERVED'")) {
+            ps.setLong(1, eventId);
+            ResultSet rs = ps.executeQuery();
+            rs.next();
+            assertEquals(TICKETS, rs.getInt(1), "Every pool row should be claimed");
+            assertEquals(TICKETS, rs.getInt(2), "No ticket should be claimed twice");
+        }
+        System.out.printf("📊 Speed-up: %.1fx%n", poolPerSecond / pessimisticPerSecond);
+    }
+
+    // --- HELPERS ---
+
+    private interface Reservation {
+        boolean attempt(Connection conn) throws SQLException;
+    }
+
+    /**
+     * THREADS buyers, one transaction per ticket, until the stock is gone.
+     *
+     * @return committed reservations per second
+     */
+    private static double run(Reservation reservation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Callable<Integer> buyer = () -> {
+                int sold = 0;
+                try (Connection conn = connect()) {
+                    conn.setAutoCommit(false);
+                    start.await();
+                    while (true) {
+                        boolean reserved = reservation.attempt(conn);
+                        conn.commit();
+                        if (!reserved) {
+                            return sold;
+                        }
+                        sold++;
+                    }
+                }
+            };
+            results.add(pool.submit(buyer));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        int sold = 0;
+        for (Future<Integer> result : results) {
+            sold += result.get();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        pool.shutdown();
+
+        assertEquals(TICKETS, sold, "Sold count should match the stock");
+        return sold / seconds;
+    }
+
+    private static void resetEvent() throws SQLException {
+        try (Connection conn = connect();
+             PreparedStatement ps = conn.prepareStatement("UPDATE events SET available_tickets = ? WHERE id = ?")) {
+            ps.setInt(1, TICKETS);
+            ps.setLong(2, eventId);
+            ps.executeUpdate();
+        }
+    }
+
+    private static int availableTickets() throws SQLException {
+        try (Connection conn = connect();
+             PreparedStatement ps = conn.prepareStatement("SELECT available_tickets FROM events WHERE id = ?")) {
+            ps.setLong(1, eventId);
+            ResultSet rs = ps.executeQuery();
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(EVENT_DB_URL, EVENT_DB_USER, EVENT_DB_PASS);
+    }
+}
@@ -0,0 +1,182 @@
+package com.ticketblitz.event.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LIVE AVAILABILITY CACHE
+ * The "events" cache only holds event metadata (title, images, price...), which never changes on a sale.
+ * The number of tickets left lives here instead, one Redis counter per event (availability:{eventId}),
+ * adjusted IN PLACE by each committed reserve / release instead of being evicted.
+ *
+ * Display-only: the reservation paths never read it. Adjustments only apply to a counter that exists
+ * (a miss is re-seeded from the DB), and the TTL bounds any drift from a seed racing an adjustment.
+ * Redis errors degrade to a miss.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityCache {
+
+    static final String KEY_PREFIX = "availability:";
+
+    // KEYS: counter | ARGV: delta -> new value, or -1 if not cached (never seeds a partial value)
+    private static final RedisScript<Long> ADJUST = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${cache.availability.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${cache.availability.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    /**
+     * @return null on a miss (caller loads from the DB and {@link #put}s it)
+     */
+    public Integer get(Long eventId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(key(eventId));
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (RuntimeException e) {
+            log.debug("Availability cache read failed for Event {}: {}", eventId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(Long eventId, int available) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(eventId), Integer.toString(available), Duration.ofSeconds(ttlSeconds));
+        } catch (RuntimeException e) {
+            log.debug("Availability cache write failed for Event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    /**
+     * One MGET for the whole batch.
+     *
+     * @return counters by event id; misses (and everything, on a Redis error) are absent
+     */
+    public Map<Long, Integer> getAll(List<Long> eventIds) {
+        Map<Long, Integer> found = new HashMap<>();
+        if (!enabled || eventIds.isEmpty()) {
+            return found;
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(eventIds.stream().map(AvailabilityCache::key).toList());
+            for (int i = 0; values != null && i < eventIds.size(); i++) {
+                if (values.get(i) != null) {
+                    found.put(eventIds.get(i), Integer.valueOf(values.get(i)));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Availability cache multi-get failed for {} events: {}", eventIds.size(), e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * One pipeline for the whole batch.
+     */
+    public void putAll(Map<Long, Integer> available) {
+        if (!enabled || available.isEmpty()) {
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    available.forEach((eventId, count) ->
+                            operations.opsForValue().set(key(eventId), Integer.toString(count), ttl));
+                    return null;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("Availability cache write failed for {} events: {}", available.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Apply {@code delta} once the surrounding transaction commits (immediately if there is none).
+     */
+    public void adjustAfterCommit(Long eventId, int delta) {
+        if (!enabled || delta == 0) {
+            return;
+        }
+        afterCommit(() -> adjust(eventId, delta));
+    }
+
+    public void evictAfterCommit(Collection<Long> eventIds) {
+        if (!enabled || eventIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = eventIds.stream().map(AvailabilityCache::key).toList();
+        afterCommit(() -> {
+            try {
+                redisTemplate.delete(keys);
+            } catch (RuntimeException e) {
+                log.warn("Availability cache eviction failed for {} events: {}", keys.size(), e.getMessage());
+            }
+        });
+    }
+
+    private void adjust(Long eventId, int delta) {
+        try {
+            redisTemplate.execute(ADJUST, List.of(key(eventId)), Integer.toString(delta));
+        } catch (RuntimeException e) {
+            // A stale counter would outlive this sale: drop it so the next read re-seeds
+            log.warn("Availability cache adjust failed for Event {}: {}", eventId, e.getMessage());
+            evictQuietly(eventId);
+        }
+    }
+
+    private void evictQuietly(Long eventId) {
+        try {
+            redisTemplate.delete(key(eventId));
+        } catch (RuntimeException ignored) {
+            // TTL expires it
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String key(Long eventId) {
+        return KEY_PREFIX + eventId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ticketblitz.event.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A cache that can read and write many keys in one round trip.
+ */
+public interface BulkCache {
+
+    /**
+     * @return the cached values by key; misses are absent
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    void putAll(Map<?, ?> entries);
+}
@@ -0,0 +1,67 @@
+package com.ticketblitz.event.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Broadcasts L1 invalidations to every event-service replica over Redis pub/sub.
+ * Message: {@code origin|cacheName|key}, key {@value #ALL} = clear. A replica ignores its own messages
+ * (it already invalidated locally). Pub/sub is fire-and-forget: a replica that misses a message
+ * serves the stale entry until its L1 TTL runs out.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    static final String ALL = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void register(String cacheName, NearCache nearCache) {
+        nearCaches.put(cacheName, nearCache);
+    }
+
+    void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, origin + "|" + cacheName + "|" + key);
+        } catch (RuntimeException e) {
+            log.warn("Cache invalidation broadcast failed ({} / {}): {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || origin.equals(parts[0])) {
+            return;
+        }
+        NearCache nearCache = nearCaches.get(parts[1]);
+        if (nearCache == null) {
+            return;
+        }
+        if (ALL.equals(parts[2])) {
+            nearCache.clear();
+        } else {
+            nearCache.invalidate(parts[2]);
+        }
+        log.debug("L1 invalidated by peer: {} / {}", parts[1], parts[2]);
+    }
+}
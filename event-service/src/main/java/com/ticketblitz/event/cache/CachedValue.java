@@ -0,0 +1,12 @@
+package com.ticketblitz.event.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Cache envelope for {@link RefreshingCacheLoader}: the value plus when and how expensively it was loaded.
+ */
+public record CachedValue<T>(T value, long loadedAtMillis, long loadMillis) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,377 @@
+package com.ticketblitz.event.cache;
+
+import com.ticketblitz.event.dto.EventDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * COMPACT CACHE CODEC for the Redis event caches
+ * Cached event DTOs ({@code CachedValue<EventDto>} and {@code CachedValue<List<EventDto>>}) are written as
+ * MAGIC | VERSION | KIND | loadedAt | loadMillis | payload, where each EventDto is a length-prefixed
+ * message of tagged fields (tag = field << 3 | wire type, protobuf style):
+ *   - absent field = null, fields may come in any order
+ *   - readers skip fields they don't know, so adding a field needs no version bump
+ *   - never reuse or retype a field number; bump VERSION only for a change to the envelope itself
+ * Anything else falls back to Java serialization. Values without MAGIC (Java serialization starts with 0xACED)
+ * are read back the same way, so entries written before the switch stay readable.
+ * An unknown VERSION reads as a cache miss (rolling deploys).
+ */
+@Slf4j
+public class EventCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB7;
+    static final byte VERSION = 1;
+
+    private static final byte KIND_EVENT = 1;
+    private static final byte KIND_EVENT_LIST = 2;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_BYTES = 2;
+
+    // EventDto field numbers (append only)
+    private static final int F_ID = 1;
+    private static final int F_TITLE = 2;
+    private static final int F_DESCRIPTION = 3;
+    private static final int F_DATE = 4;
+    private static final int F_LOCATION = 5;
+    private static final int F_CATEGORY = 6;
+    private static final int F_PRICE = 7;
+    private static final int F_TOTAL_TICKETS = 8;
+    private static final int F_AVAILABLE_TICKETS = 9;
+    private static final int F_IMAGE_URLS = 10;
+
+    private final RedisSerializer<Object> fallback;
+
+    public EventCacheSerializer(ClassLoader classLoader) {
+        this.fallback = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value instanceof CachedValue<?> cached) {
+            byte kind = kindOf(cached.value());
+            if (kind != 0) {
+                Writer out = new Writer();
+                out.write(MAGIC);
+                out.write(VERSION);
+                out.write(kind);
+                out.writeVarLong(cached.loadedAtMillis());
+                out.writeVarLong(cached.loadMillis());
+                if (kind == KIND_EVENT) {
+                    writeEvent(out, (EventDto) cached.value());
+                } else {
+                    List<?> events = (List<?>) cached.value();
+                    out.writeVarInt(events.size());
+                    for (Object event : events) {
+                        writeEvent(out, (EventDto) event);
+                    }
+                }
+                return out.toByteArray();
+            }
+        }
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        Reader in = new Reader(bytes);
+        in.read();
+        byte version = in.read();
+        if (version != VERSION) {
+            log.debug("Cache entry has codec version {} (this instance reads {}), treating as a miss", version, VERSION);
+            return null;
+        }
+        byte kind = in.read();
+        long loadedAt = in.readVarLong();
+        long loadMillis = in.readVarLong();
+        if (kind == KIND_EVENT) {
+            return new CachedValue<>(readEvent(in), loadedAt, loadMillis);
+        }
+        if (kind == KIND_EVENT_LIST) {
+            int size = in.readVarInt();
+            List<EventDto> events = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                events.add(readEvent(in));
+            }
+            return new CachedValue<>(events, loadedAt, loadMillis);
+        }
+        log.debug("Cache entry has unknown kind {}, treating as a miss", kind);
+        return null;
+    }
+
+    private static byte kindOf(Object value) {
+        if (value instanceof EventDto) {
+            return KIND_EVENT;
+        }
+        if (value instanceof List<?> list && list.stream().allMatch(EventDto.class::isInstance)) {
+            return KIND_EVENT_LIST;
+        }
+        return 0;
+    }
+
+    // ========== EVENT MESSAGE ==========
+
+    private static void writeEvent(Writer out, EventDto event) {
+        Writer body = new Writer();
+        body.writeLongField(F_ID, event.id());
+        body.writeStringField(F_TITLE, event.title());
+        body.writeStringField(F_DESCRIPTION, event.description());
+        if (event.date() != null) {
+            Writer date = new Writer();
+            date.writeVarLong(event.date().toEpochSecond(ZoneOffset.UTC));
+            date.writeVarInt(event.date().getNano());
+            body.writeBytesField(F_DATE, date);
+        }
+        body.writeStringField(F_LOCATION, event.location());
+        body.writeStringField(F_CATEGORY, event.category());
+        if (event.price() != null) {
+            Writer price = new Writer();
+            price.writeVarInt(event.price().scale());
+            price.writeRaw(event.price().unscaledValue().toByteArray());
+            body.writeBytesField(F_PRICE, price);
+        }
+        body.writeLongField(F_TOTAL_TICKETS, event.totalTickets() != null ? event.totalTickets().longValue() : null);
+        body.writeLongField(F_AVAILABLE_TICKETS, event.availableTickets() != null ? event.availableTickets().longValue() : null);
+        if (event.imageUrls() != null) {
+            Writer urls = new Writer();
+            urls.writeVarInt(event.imageUrls().size());
+            for (String url : event.imageUrls()) {
+                urls.writeString(url);
+            }
+            body.writeBytesField(F_IMAGE_URLS, urls);
+        }
+        out.writeVarInt(body.size());
+        out.writeAll(body);
+    }
+
+    private static EventDto readEvent(Reader in) {
+        Reader body = in.slice(in.readVarInt());
+        Long id = null;
+        String title = null;
+        String description = null;
+        LocalDateTime date = null;
+        String location = null;
+        String category = null;
+        BigDecimal price = null;
+        Integer totalTickets = null;
+        Integer availableTickets = null;
+        List<String> imageUrls = null;
+
+        while (body.hasMore()) {
+            int tag = body.readVarInt();
+            int field = tag >>> 3;
+            int wire = tag & 7;
+            switch (field) {
+                case F_ID -> id = body.readVarLong();
+                case F_TITLE -> title = body.readString();
+                case F_DESCRIPTION -> description = body.readString();
+                case F_DATE -> {
+                    Reader value = body.slice(body.readVarInt());
+                    date = LocalDateTime.ofEpochSecond(value.readVarLong(), value.readVarInt(), ZoneOffset.UTC);
+                }
+                case F_LOCATION -> location = body.readString();
+                case F_CATEGORY -> category = body.readString();
+                case F_PRICE -> {
+                    Reader value = body.slice(body.readVarInt());
+                    int scale = value.readVarInt();
+                    price = new BigDecimal(new BigInteger(value.remaining()), scale);
+                }
+                case F_TOTAL_TICKETS -> totalTickets = (int) body.readVarLong();
+                case F_AVAILABLE_TICKETS -> availableTickets = (int) body.readVarLong();
+                case F_IMAGE_URLS -> {
+                    Reader value = body.slice(body.readVarInt());
+                    int count = value.readVarInt();
+                    imageUrls = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        imageUrls.add(value.readString());
+                    }
+                }
+                default -> body.skip(wire); // Written by a newer version
+            }
+        }
+        return new EventDto(id, title, description, date, location, category, price,
+                totalTickets, availableTickets, imageUrls);
+    }
+
+    // ========== WIRE FORMAT ==========
+
+    private static final class Writer {
+        private byte[] buffer = new byte[128];
+        private int size;
+
+        void write(byte b) {
+            ensure(1);
+            buffer[size++] = b;
+        }
+
+        void writeRaw(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeAll(Writer other) {
+            ensure(other.size);
+            System.arraycopy(other.buffer, 0, buffer, size, other.size);
+            size += other.size;
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((byte) value);
+        }
+
+        // ZigZag, so small negatives stay small
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                write((byte) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            write((byte) zigzag);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            writeRaw(bytes);
+        }
+
+        void writeLongField(int field, Long value) {
+            if (value != null) {
+                writeVarInt(field << 3 | WIRE_VARINT);
+                writeVarLong(value);
+            }
+        }
+
+        void writeStringField(int field, String value) {
+            if (value != null) {
+                writeVarInt(field << 3 | WIRE_BYTES);
+                writeString(value);
+            }
+        }
+
+        void writeBytesField(int field, Writer value) {
+            writeVarInt(field << 3 | WIRE_BYTES);
+            writeVarInt(value.size);
+            writeAll(value);
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+        private final int limit;
+
+        Reader(byte[] data) {
+            this(data, 0, data.length);
+        }
+
+        private Reader(byte[] data, int position, int limit) {
+            this.data = data;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        boolean hasMore() {
+            return position < limit;
+        }
+
+        byte read() {
+            if (position >= limit) {
+                throw new SerializationException("Truncated cache entry");
+            }
+            return data[position++];
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = read();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint in cache entry");
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                byte b = read();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new SerializationException("Malformed varint in cache entry");
+        }
+
+        String readString() {
+            int length = readVarInt();
+            checkAvailable(length);
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Reader slice(int length) {
+            checkAvailable(length);
+            Reader slice = new Reader(data, position, position + length);
+            position += length;
+            return slice;
+        }
+
+        byte[] remaining() {
+            byte[] rest = Arrays.copyOfRange(data, position, limit);
+            position = limit;
+            return rest;
+        }
+
+        void skip(int wire) {
+            switch (wire) {
+                case WIRE_VARINT -> readVarLong();
+                case WIRE_BYTES -> slice(readVarInt());
+                default -> throw new SerializationException("Unknown wire type in cache entry: " + wire);
+            }
+        }
+
+        private void checkAvailable(int length) {
+            if (length < 0 || position + length > limit) {
+                throw new SerializationException("Truncated cache entry");
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ticketblitz.event.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MGET / pipelined SET against the keys and values a RedisCache with the same configuration would use
+ * (prefix, key conversion, value codec, TTL), so entries are interchangeable with single-key access.
+ */
+public class RedisBulkOps {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration config;
+
+    public RedisBulkOps(RedisConnectionFactory connectionFactory, RedisCacheConfiguration config) {
+        this.connectionFactory = connectionFactory;
+        this.config = config;
+    }
+
+    /**
+     * @return one value per key, in order (null = miss)
+     */
+    public List<Object> multiGet(String cacheName, List<?> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        byte[][] rawKeys = keys.stream().map(key -> rawKey(cacheName, key)).toArray(byte[][]::new);
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+        if (rawValues == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+        List<Object> values = new ArrayList<>(rawValues.size());
+        for (byte[] raw : rawValues) {
+            values.add(raw != null ? config.getValueSerializationPair().read(ByteBuffer.wrap(raw)) : null);
+        }
+        return values;
+    }
+
+    public void multiPut(String cacheName, Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                entries.forEach((key, value) -> {
+                    Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+                    Expiration expiration = ttl != null && !ttl.isZero() && !ttl.isNegative()
+                            ? Expiration.from(ttl) : Expiration.persistent();
+                    connection.stringCommands().set(rawKey(cacheName, key),
+                            ByteUtils.getBytes(config.getValueSerializationPair().write(value)), expiration, SetOption.upsert());
+                });
+            } finally {
+                connection.closePipeline();
+            }
+        }
+    }
+
+    private byte[] rawKey(String cacheName, Object key) {
+        String converted = config.getConversionService().convert(key, String.class);
+        String cacheKey = config.usePrefix() ? config.getKeyPrefixFor(cacheName) + converted : converted;
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(cacheKey));
+    }
+}
@@ -0,0 +1,200 @@
+package com.ticketblitz.event.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * STAMPEDE-SAFE CACHE READS
+ * - Single flight: per key, at most one load is in flight on this instance; concurrent misses wait for it.
+ * - Early refresh (XFetch): a fresh entry is reloaded in the background with a probability that rises
+ *   as it approaches ttl-seconds, weighted by how long it took to load, so hot keys rarely expire at all.
+ * - Stale-while-revalidate: for stale-seconds past the TTL the old value is served while one
+ *   background load replaces it.
+ * Entries are stored as {@link CachedValue}; anything else in the cache counts as a miss.
+ * {@link #getAll} is the batch variant: one multi-get, one loader call for every miss, one bulk write-back.
+ *
+ * Metrics: cache.loads{cache, result=loaded|coalesced}, cache.refreshes{cache, trigger=early|stale}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshingCacheLoader {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${cache.refresh.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Value("${cache.refresh.stale-seconds:60}")
+    private long staleSeconds = 60;
+
+    @Value("${cache.refresh.beta:1.0}")
+    private double beta = 1.0;
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Cache cache, Object key, Supplier<T> loader) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        if (wrapper != null && wrapper.get() instanceof CachedValue<?> cached) {
+            long now = System.currentTimeMillis();
+            long expiresAt = cached.loadedAtMillis() + ttlSeconds * 1000;
+            if (now < expiresAt) {
+                if (refreshEarly(cached, now, expiresAt)) {
+                    refreshAsync(cache, key, loader, "early");
+                }
+                return (T) cached.value();
+            }
+            if (now < expiresAt + staleSeconds * 1000) {
+                refreshAsync(cache, key, loader, "stale");
+                return (T) cached.value();
+            }
+        }
+        return load(cache, key, loader);
+    }
+
+    /**
+     * Batch read. Entries past their TTL count as misses (the batch load fetches them anyway);
+     * batch loads are not coalesced with concurrent single-key loads.
+     *
+     * @param loader gets the missing keys, returns what it found
+     * @return values by key in {@code keys} order; keys found neither in the cache nor by the loader are absent
+     */
+    @SuppressWarnings("unchecked")
+    public <K, T> Map<K, T> getAll(Cache cache, Collection<K> keys, Function<List<K>, Map<K, T>> loader) {
+        Map<Object, Object> cachedEntries = cache instanceof BulkCache bulk ? bulk.getAll(keys) : getEach(cache, keys);
+        long now = System.currentTimeMillis();
+        Map<K, T> found = new LinkedHashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            if (cachedEntries.get(key) instanceof CachedValue<?> cached && now < cached.loadedAtMillis() + ttlSeconds * 1000) {
+                found.put(key, (T) cached.value());
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        meterRegistry.counter("cache.loads", "cache", cache.getName(), "result", "loaded").increment(misses.size());
+        long start = System.currentTimeMillis();
+        Map<K, T> loaded = loader.apply(misses);
+        long end = System.currentTimeMillis();
+        Map<K, CachedValue<T>> entries = new LinkedHashMap<>();
+        loaded.forEach((key, value) -> entries.put(key, new CachedValue<>(value, end, end - start)));
+        if (cache instanceof BulkCache bulk) {
+            bulk.putAll(entries);
+        } else {
+            entries.forEach(cache::put);
+        }
+
+        Map<K, T> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            T value = found.containsKey(key) ? found.get(key) : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    private static Map<Object, Object> getEach(Cache cache, Collection<?> keys) {
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                entries.put(key, wrapper.get());
+            }
+        }
+        return entries;
+    }
+
+    // XFetch: now - loadTime * beta * ln(rand) >= expiry (ln(rand) <= 0, so the gap grows with load cost)
+    private boolean refreshEarly(CachedValue<?> cached, long now, long expiresAt) {
+        double gap = -cached.loadMillis() * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return now + gap >= expiresAt;
+    }
+
+    private void refreshAsync(Cache cache, Object key, Supplier<?> loader, String trigger) {
+        if (inFlight.containsKey(flightKey(cache, key))) {
+            return; // Someone is already on it
+        }
+        meterRegistry.counter("cache.refreshes", "cache", cache.getName(), "trigger", trigger).increment();
+        refreshers.execute(() -> {
+            try {
+                load(cache, key, loader);
+            } catch (RuntimeException e) {
+                log.warn("Background refresh of {}::{} failed, keeping the cached value: {}", cache.getName(), key, e.getMessage());
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Cache cache, Object key, Supplier<T> loader) {
+        String flightKey = flightKey(cache, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            meterRegistry.counter("cache.loads", "cache", cache.getName(), "result", "coalesced").increment();
+            return (T) join(running);
+        }
+
+        meterRegistry.counter("cache.loads", "cache", cache.getName(), "result", "loaded").increment();
+        try {
+            long start = System.currentTimeMillis();
+            T value = loader.get();
+            long end = System.currentTimeMillis();
+            if (value != null) {
+                cache.put(key, new CachedValue<>(value, end, end - start));
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String flightKey(Cache cache, Object key) {
+        return cache.getName() + "::" + key;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshers.shutdownNow();
+    }
+}
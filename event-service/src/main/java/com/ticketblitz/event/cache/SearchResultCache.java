@@ -0,0 +1,197 @@
+package com.ticketblitz.event.cache;
+
+import com.ticketblitz.event.dto.EventFacets;
+import com.ticketblitz.event.dto.EventSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SEARCH RESULT CACHE
+ * One entry per result page: the event ids and the next cursor, never the events themselves
+ * (those come from the "events" cache and the live availability counters, so ticket counts stay live).
+ * Facet counts are cached next to the pages, one entry per search (they do not depend on the page).
+ *
+ * Keys: search:{generation}:{limit, cursor, normalized criteria} and search:{generation}:facets:{normalized criteria}.
+ * createEvent / deleteEvent bump the generation after commit, so every entry cached before is unreachable
+ * at once; old entries just expire.
+ * Empty pages get the short negative TTL, so a new event shows up quickly even if a bump is lost.
+ * Redis errors degrade to a miss.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchResultCache {
+
+    static final String GENERATION_KEY = "search:generation";
+    static final String KEY_PREFIX = "search:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${cache.search.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${cache.search.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    @Value("${cache.search.negative-ttl-seconds:5}")
+    private long negativeTtlSeconds = 5;
+
+    public record Hits(List<Long> ids, String nextCursor) {
+    }
+
+    /**
+     * @return the current generation, or null if the cache is off or unreachable (bypass it)
+     */
+    public String generation() {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+            return generation != null ? generation : "0";
+        } catch (RuntimeException e) {
+            log.debug("Search cache generation read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static String pageKey(String generation, EventSearchCriteria criteria, String cursor, int limit) {
+        return KEY_PREFIX + generation + ":n=" + limit + "|after=" + (cursor != null ? cursor.trim() : "") + "|"
+                + normalize(criteria);
+    }
+
+    public static String facetKey(String generation, EventSearchCriteria criteria) {
+        return KEY_PREFIX + generation + ":facets:" + normalize(criteria);
+    }
+
+    /**
+     * @return null on a miss
+     */
+    public Hits get(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? decode(value) : null;
+        } catch (RuntimeException e) {
+            log.debug("Search cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(String key, Hits hits) {
+        write(key, encode(hits), hits.ids().isEmpty());
+    }
+
+    /**
+     * @return null on a miss
+     */
+    public EventFacets getFacets(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? decodeFacets(value) : null;
+        } catch (RuntimeException e) {
+            log.debug("Search cache read failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public void putFacets(String key, EventFacets facets) {
+        write(key, encodeFacets(facets), facets.categories().isEmpty());
+    }
+
+    private void write(String key, String value, boolean empty) {
+        try {
+            redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(empty ? negativeTtlSeconds : ttlSeconds));
+        } catch (RuntimeException e) {
+            log.debug("Search cache write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Bump the generation once the surrounding transaction commits (immediately if there is none).
+     */
+    public void invalidateAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        Runnable bump = () -> {
+            try {
+                redisTemplate.opsForValue().increment(GENERATION_KEY);
+            } catch (RuntimeException e) {
+                log.warn("Search cache invalidation failed, cached pages expire within {}s: {}", ttlSeconds, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump.run();
+            }
+        });
+    }
+
+    // ========== KEY & VALUE FORMAT ==========
+
+    /**
+     * Spellings of the same search share one entry: see {@link EventSearchCriteria#normalized()}.
+     * The query goes last, so separators inside it cannot make two searches collide.
+     */
+    static String normalize(EventSearchCriteria criteria) {
+        EventSearchCriteria n = criteria.normalized();
+        return "min=" + (n.minPrice() != null ? n.minPrice().toPlainString() : "")
+                + "|max=" + (n.maxPrice() != null ? n.maxPrice().toPlainString() : "")
+                + "|from=" + (n.from() != null ? n.from() : "")
+                + "|to=" + (n.to() != null ? n.to() : "")
+                + "|c=" + (n.category() != null ? n.category().length() + ":" + n.category() : "")
+                + "|q=" + (n.query() != null ? n.query() : "");
+    }
+
+    // "{nextCursor}|{id},{id},..." (cursors are base64url, never contain '|')
+    private static String encode(Hits hits) {
+        return (hits.nextCursor() != null ? hits.nextCursor() : "") + "|"
+                + hits.ids().stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static Hits decode(String value) {
+        int separator = value.indexOf('|');
+        String cursor = value.substring(0, separator);
+        String ids = value.substring(separator + 1);
+        return new Hits(ids.isEmpty() ? List.of() : Arrays.stream(ids.split(",")).map(Long::valueOf).toList(),
+                cursor.isEmpty() ? null : cursor);
+    }
+
+    // One "{c|p}{count}:{name}" line per facet value (the count never contains ':', the name may)
+    private static String encodeFacets(EventFacets facets) {
+        StringBuilder out = new StringBuilder();
+        facets.categories().forEach((name, count) -> out.append('c').append(count).append(':').append(name).append('\n'));
+        facets.priceRanges().forEach((name, count) -> out.append('p').append(count).append(':').append(name).append('\n'));
+        return out.toString();
+    }
+
+    private static EventFacets decodeFacets(String value) {
+        Map<String, Long> categories = new LinkedHashMap<>();
+        Map<String, Long> priceRanges = new LinkedHashMap<>();
+        for (String line : value.split("\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 1) {
+                (line.charAt(0) == 'c' ? categories : priceRanges)
+                        .put(line.substring(colon + 1), Long.valueOf(line.substring(1, colon)));
+            }
+        }
+        return new EventFacets(categories, priceRanges);
+    }
+}
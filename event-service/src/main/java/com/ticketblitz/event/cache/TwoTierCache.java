@@ -0,0 +1,213 @@
+package com.ticketblitz.event.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * NEAR CACHE (L1, in-process) in front of the shared Redis cache (L2).
+ * Reads try L1, then L2 (filling L1). Puts go to L2 and the local L1 only: in this service they are
+ * read-through fills and refreshes of what the database already holds (changes go through @CacheEvict).
+ * Evictions and clears reach every other replica's L1 via the {@link CacheInvalidationBus}.
+ * With no L1 configured it is a metered L2.
+ * Bulk reads/writes use one MGET / one pipeline when {@link RedisBulkOps} is given, else loop over L2.
+ *
+ * Metrics: cache.tier.requests{cache, tier=l1|l2, result=hit|miss}, cache.tier.l1.size{cache}.
+ */
+public class TwoTierCache implements Cache, BulkCache {
+
+    private final Cache l2;
+    private final NearCache l1;
+    private final CacheInvalidationBus bus;
+    private final RedisBulkOps bulk;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCache(Cache l2, NearCache l1, CacheInvalidationBus bus, MeterRegistry meterRegistry) {
+        this(l2, l1, bus, null, meterRegistry);
+    }
+
+    public TwoTierCache(Cache l2, NearCache l1, CacheInvalidationBus bus, RedisBulkOps bulk, MeterRegistry meterRegistry) {
+        this.l2 = l2;
+        this.l1 = l1;
+        this.bus = bus;
+        this.bulk = bulk;
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+        if (l1 != null) {
+            meterRegistry.gauge("cache.tier.l1.size", Tags.of("cache", getName()), l1, NearCache::size);
+            if (bus != null) {
+                bus.register(getName(), l1);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (l1 != null) {
+            Object value = l1.get(key.toString());
+            if (value != null) {
+                l1Hits.increment();
+                return new SimpleValueWrapper(value);
+            }
+            l1Misses.increment();
+        }
+        ValueWrapper wrapper = l2.get(key);
+        if (wrapper == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        if (l1 != null && wrapper.get() != null) {
+            l1.put(key.toString(), wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = l2.get(key, valueLoader);
+        if (l1 != null && value != null) {
+            l1.put(key.toString(), value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        if (l1 != null) {
+            if (value != null) {
+                l1.put(key.toString(), value);
+            } else {
+                l1.invalidate(key.toString());
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        if (l1 != null) {
+            l1.invalidate(key.toString());
+            broadcast(key.toString());
+        }
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        if (l1 != null) {
+            l1.clear();
+            broadcast(CacheInvalidationBus.ALL);
+        }
+    }
+
+    // ========== BULK ==========
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new LinkedHashMap<>();
+        List<Object> remaining = new ArrayList<>();
+        for (Object key : keys) {
+            Object value = l1 != null ? l1.get(key.toString()) : null;
+            if (value != null) {
+                l1Hits.increment();
+                found.put(key, value);
+            } else {
+                if (l1 != null) {
+                    l1Misses.increment();
+                }
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return found;
+        }
+
+        List<Object> values = bulk != null ? bulk.multiGet(getName(), remaining) : remaining.stream()
+                .map(l2::get)
+                .map(wrapper -> wrapper != null ? wrapper.get() : null)
+                .toList();
+        for (int i = 0; i < remaining.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                l2Misses.increment();
+                continue;
+            }
+            l2Hits.increment();
+            found.put(remaining.get(i), value);
+            if (l1 != null) {
+                l1.put(remaining.get(i).toString(), value);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (bulk != null) {
+            bulk.multiPut(getName(), entries);
+        } else {
+            entries.forEach(l2::put);
+        }
+        if (l1 != null) {
+            entries.forEach((key, value) -> l1.put(key.toString(), value));
+        }
+    }
+
+    private void broadcast(String key) {
+        if (bus != null) {
+            bus.publish(getName(), key);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Cache lookups per tier")
+                .tag("cache", getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
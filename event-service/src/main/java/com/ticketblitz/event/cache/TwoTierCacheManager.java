@@ -0,0 +1,53 @@
+package com.ticketblitz.event.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the Redis cache manager (L2) in a {@link TwoTierCache}.
+ * nearMaxEntries <= 0 disables L1 (metered Redis only).
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager l2Manager;
+    private final CacheInvalidationBus bus;
+    private final RedisBulkOps bulk;
+    private final MeterRegistry meterRegistry;
+    private final int nearMaxEntries;
+    private final long nearTtlMillis;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager l2Manager, CacheInvalidationBus bus, RedisBulkOps bulk,
+                               MeterRegistry meterRegistry, int nearMaxEntries, long nearTtlMillis) {
+        this.l2Manager = l2Manager;
+        this.bus = bus;
+        this.bulk = bulk;
+        this.meterRegistry = meterRegistry;
+        this.nearMaxEntries = nearMaxEntries;
+        this.nearTtlMillis = nearTtlMillis;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l2 = l2Manager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(l2,
+                nearMaxEntries > 0 ? new NearCache(nearMaxEntries, nearTtlMillis) : null, bus, bulk, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2Manager.getCacheNames();
+    }
+}
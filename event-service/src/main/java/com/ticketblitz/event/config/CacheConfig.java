@@ -0,0 +1,81 @@
+package com.ticketblitz.event.config;
+
+import com.ticketblitz.event.cache.CacheInvalidationBus;
+import com.ticketblitz.event.cache.EventCacheSerializer;
+import com.ticketblitz.event.cache.RedisBulkOps;
+import com.ticketblitz.event.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+/**
+ * TWO-TIER CACHE: in-process near cache (L1) in front of the spring.cache.redis settings (L2).
+ * Replaces Boot's auto-configured RedisCacheManager; L1 is off unless cache.near.enabled.
+ * Values use the compact EventCacheSerializer unless cache.codec=jdk (plain Java serialization).
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Value("${cache.near.enabled:false}")
+    private boolean nearEnabled;
+
+    @Value("${cache.near.max-entries:10000}")
+    private int nearMaxEntries;
+
+    @Value("${cache.near.ttl-seconds:30}")
+    private long nearTtlSeconds;
+
+    @Value("${cache.codec:binary}")
+    private String codec;
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                     @Value("${cache.near.channel:cache:invalidate}") String channel) {
+        return new CacheInvalidationBus(redisTemplate, channel);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties,
+                                     CacheInvalidationBus bus, MeterRegistry meterRegistry) {
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        ClassLoader classLoader = getClass().getClassLoader();
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig(classLoader);
+        if (!"jdk".equalsIgnoreCase(codec)) {
+            defaults = defaults.serializeValuesWith(SerializationPair.fromSerializer(new EventCacheSerializer(classLoader)));
+        }
+        if (redis.getTimeToLive() != null) {
+            defaults = defaults.entryTtl(redis.getTimeToLive());
+        }
+        if (!redis.isCacheNullValues()) {
+            defaults = defaults.disableCachingNullValues();
+        }
+        RedisCacheManager l2 = RedisCacheManager.builder(connectionFactory).cacheDefaults(defaults).build();
+        l2.afterPropertiesSet();
+        return new TwoTierCacheManager(l2, nearEnabled ? bus : null, new RedisBulkOps(connectionFactory, defaults),
+                meterRegistry, nearEnabled ? nearMaxEntries : 0, nearTtlSeconds * 1000);
+    }
+
+    // Only replicas with an L1 need to hear about peer writes
+    @Bean
+    @ConditionalOnProperty(value = "cache.near.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   CacheInvalidationBus bus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(bus.getChannel()));
+        return container;
+    }
+}
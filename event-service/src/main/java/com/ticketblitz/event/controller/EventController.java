@@ -1,20 +1,51 @@
 package com.ticketblitz.event.controller;
 
+import com.ticketblitz.event.dto.CartLine;
 import com.ticketblitz.event.dto.EventDto;
 import com.ticketblitz.event.dto.EventResponse;
+import com.ticketblitz.event.dto.EventSearchCriteria;
+import com.ticketblitz.event.dto.EventSearchPage;
+import com.ticketblitz.event.dto.EventSuggestion;
+import com.ticketblitz.event.dto.HoldSummary;
+import com.ticketblitz.event.dto.SeatAllocation;
+import com.ticketblitz.event.dto.SeatSectionDto;
+import com.ticketblitz.event.entity.TicketHold;
+import com.ticketblitz.event.inventory.TicketPoolInventory;
+import com.ticketblitz.event.service.EventExportService;
 import com.ticketblitz.event.service.EventService;
+import com.ticketblitz.event.service.HoldService;
+import com.ticketblitz.event.service.ImageRendition;
+import com.ticketblitz.event.service.ImageService;
+import com.ticketblitz.event.service.ReservationBatcher;
+import com.ticketblitz.event.service.SeatMapService;
+import com.ticketblitz.event.service.TypeaheadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/events")
@@ -22,7 +53,19 @@ import java.util.List;
 @Validated
 public class EventController {
 
+    // Tomcat sendfile request attributes
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     private final EventService eventService;
+    private final EventExportService eventExportService;
+    private final ReservationBatcher reservationBatcher;
+    private final HoldService holdService;
+    private final SeatMapService seatMapService;
+    private final TypeaheadService typeaheadService;
+    private final ImageService imageService;
 
     // ADMIN ONLY - CREATE EVENT
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -49,10 +92,110 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
-    // PUBLIC - GET ALL EVENTS
+    // ADMIN ONLY - FLAG EVENT AS HOT (inventory counter moves to Redis)
+    @PutMapping("/{id}/hot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> setHot(@PathVariable Long id, @RequestParam boolean enabled) {
+        eventService.setHot(id, enabled);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ADMIN ONLY - ADD RESERVED-SEATING SECTION
+    @PostMapping("/{id}/sections")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SeatSectionDto> addSection(
+            @PathVariable Long id,
+            @RequestParam @NotBlank String name,
+            @RequestParam @Min(1) @Max(2000) int rows,
+            @RequestParam @Min(1) @Max(1000) int seatsPerRow
+    ) {
+        return ResponseEntity.ok(seatMapService.createSection(id, name, rows, seatsPerRow));
+    }
+
+    // PUBLIC - UPCOMING EVENTS by date (keyset paged: pass nextCursor back as cursor)
     @GetMapping
-    public ResponseEntity<List<EventDto>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<EventSearchPage> getEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit
+    ) {
+        return ResponseEntity.ok(eventService.getUpcomingEvents(cursor, limit));
+    }
+
+    // ADMIN ONLY - EXPORT every upcoming event as one JSON array, streamed from a DB cursor (constant heap).
+    // The stream holds a DB connection while it writes, so a slow client is cut off at the export timeout
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEvents(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(TimeUnit.SECONDS.toMillis(EventExportService.TIMEOUT_SECONDS));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(eventExportService::exportUpcomingEvents);
+    }
+
+    // PUBLIC - EVENT IMAGE (original | card | thumb) from the local image cache; keys are immutable, so
+    // responses are cacheable for a year, and the file goes out via sendfile where the container supports it
+    @GetMapping("/images/{size}/{key}")
+    public ResponseEntity<Resource> getImage(@PathVariable String size, @PathVariable String key,
+                                             HttpServletRequest request) {
+        Optional<ImageService.CachedImage> found = imageService.get(ImageRendition.parse(size), key);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        ImageService.CachedImage image = found.get();
+        CacheControl cacheControl = image.fallback()
+                ? CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic() // Rendition not there yet: retry soon
+                : CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        if (image.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(image.etag()).cacheControl(cacheControl).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(image.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .contentLength(image.size());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // ZERO-COPY: no body here; the connector streams the file kernel-side after the headers
+            request.setAttribute(SENDFILE_FILENAME, image.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.size());
+            return ok.build();
+        }
+        return ok.body(new FileSystemResource(image.file()));
+    }
+
+    // PUBLIC - RANKED FULL-TEXT SEARCH (keyset paged: pass nextCursor back as cursor)
+    @GetMapping("/search")
+    public ResponseEntity<EventSearchPage> searchEvents(
+            @RequestParam(value = "q", required = false) @Size(max = 200) String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DecimalMin("0.0") BigDecimal minPrice,
+            @RequestParam(required = false) @DecimalMin("0.0") BigDecimal maxPrice,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(required = false) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit,
+            @RequestParam(defaultValue = "false") boolean facets,
+            Principal principal
+    ) {
+        EventSearchCriteria criteria = new EventSearchCriteria(query, category, minPrice, maxPrice, from, to);
+        String userId = principal != null ? principal.getName() : "anonymous";
+        return ResponseEntity.ok(eventService.searchEvents(criteria, cursor, limit, facets, userId));
+    }
+
+    // PUBLIC - TYPEAHEAD (in-memory, never hits the DB)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventSuggestion>> suggest(
+            @RequestParam("q") @NotBlank @Size(max = 100) String query,
+            @RequestParam(defaultValue = "8") @Min(1) @Max(20) int limit
+    ) {
+        return ResponseEntity.ok(typeaheadService.suggest(query, limit));
+    }
+
+    // PUBLIC - GET MANY EVENTS AT ONCE (?ids=1,2,3); unknown ids are skipped
+    @GetMapping("/batch")
+    public ResponseEntity<List<EventDto>> getEventsBatch(@RequestParam @NotEmpty @Size(max = 100) List<Long> ids) {
+        return ResponseEntity.ok(eventService.getEvents(ids));
     }
 
     // PUBLIC - GET EVENT BY ID
@@ -67,13 +210,117 @@ public class EventController {
             @PathVariable Long id,
             @RequestParam @Min(1) int count
     ) {
-        boolean success = eventService.reserveTickets(id, count);
+        // Timed holds: same boolean body, hold token + expiry returned as headers
+        if (holdService.isEnabled()) {
+            Optional<TicketHold> hold = holdService.hold(id, count);
+            if (hold.isEmpty()) {
+                return ResponseEntity.badRequest().body(false);
+            }
+            return withTicketNumbers(ResponseEntity.ok(), hold.get().getToken())
+                    .header(HoldService.HOLD_TOKEN_HEADER, hold.get().getToken().toString())
+                    .header(HoldService.HOLD_EXPIRES_HEADER, hold.get().getExpiresAt().toString())
+                    .body(true);
+        }
+
+        // Numbered tickets (POOL): the claim is the caller's handle for releasing exactly these tickets
+        if (eventService.claimsTickets()) {
+            UUID claim = UUID.randomUUID();
+            if (!eventService.reserveTickets(id, count, claim)) {
+                return ResponseEntity.badRequest().body(false);
+            }
+            return withTicketNumbers(ResponseEntity.ok(), claim)
+                    .header(TicketPoolInventory.CLAIM_HEADER, claim.toString())
+                    .body(true);
+        }
+
+        // Group-commit: concurrent requests for the same event share one locked transaction
+        boolean success = reservationBatcher.isEnabled()
+                ? reservationBatcher.reserve(id, count)
+                : eventService.reserveTickets(id, count);
         if (success) {
             return ResponseEntity.ok(true);
         } else {
             return ResponseEntity.badRequest().body(false);
         }
     }
+
+    private ResponseEntity.BodyBuilder withTicketNumbers(ResponseEntity.BodyBuilder response, UUID claim) {
+        List<Integer> numbers = eventService.claimedTickets(claim);
+        if (!numbers.isEmpty()) {
+            response.header(TicketPoolInventory.NUMBERS_HEADER,
+                    numbers.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return response;
+    }
+
+    // INTERNAL ENDPOINT - RESERVE A MULTI-EVENT CART (all-or-nothing, no holds)
+    @PostMapping("/internal/reserve")
+    public ResponseEntity<Boolean> reserveCart(@RequestBody @NotEmpty @Size(max = 50) List<@Valid CartLine> lines) {
+        if (eventService.reserveCart(lines)) {
+            return ResponseEntity.ok(true);
+        }
+        return ResponseEntity.badRequest().body(false);
+    }
+
+    // COMPENSATING TRANSACTION - RELEASE A MULTI-EVENT CART
+    @PutMapping("/internal/release")
+    public ResponseEntity<Boolean> releaseCart(@RequestBody @NotEmpty @Size(max = 50) List<@Valid CartLine> lines) {
+        eventService.releaseCart(lines);
+        return ResponseEntity.ok(true);
+    }
+
+    // INTERNAL ENDPOINT - CONFIRM HOLD (booking saga, payment succeeded)
+    @PostMapping("/internal/holds/{token}/confirm")
+    public ResponseEntity<Boolean> confirmHold(@PathVariable UUID token) {
+        if (holdService.confirm(token)) {
+            return ResponseEntity.ok(true);
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(false);
+    }
+
+    // INTERNAL ENDPOINT - RELEASE HOLD (booking cancelled / payment failed)
+    @DeleteMapping("/internal/holds/{token}")
+    public ResponseEntity<Boolean> releaseHold(@PathVariable UUID token) {
+        return ResponseEntity.ok(holdService.release(token));
+    }
+
+    // PUBLIC - SEAT MAP
+    @GetMapping("/{id}/seats")
+    public ResponseEntity<List<SeatSectionDto>> getSeatMap(@PathVariable Long id) {
+        return ResponseEntity.ok(seatMapService.getSeatMap(id));
+    }
+
+    // INTERNAL ENDPOINT - RESERVE BEST N ADJACENT SEATS
+    @PostMapping("/internal/{id}/seats/reserve")
+    public ResponseEntity<SeatAllocation> reserveSeats(
+            @PathVariable Long id,
+            @RequestParam @Min(1) @Max(64) int count,
+            @RequestParam(required = false) Long section
+    ) {
+        return seatMapService.reserveBestAvailable(id, count, section)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.badRequest().build());
+    }
+
+    // COMPENSATING TRANSACTION - RELEASE SEATS
+    @PutMapping("/{id}/seats/release")
+    public ResponseEntity<Boolean> releaseSeats(
+            @PathVariable Long id,
+            @RequestParam Long section,
+            @RequestParam @Min(0) int row,
+            @RequestParam @Min(0) int firstSeat,
+            @RequestParam @Min(1) @Max(64) int count
+    ) {
+        seatMapService.releaseSeats(id, section, row, firstSeat, count);
+        return ResponseEntity.ok(true);
+    }
+
+    // PUBLIC - UNCONFIRMED HOLDS ON AN EVENT
+    @GetMapping("/{id}/holds")
+    public ResponseEntity<HoldSummary> getHolds(@PathVariable Long id) {
+        return ResponseEntity.ok(holdService.summary(id));
+    }
+
     /**
      * PUBLIC ENDPOINT - Get Latest Events
      * Used by Recommendation Service as Tier 3 fallback
@@ -92,9 +339,10 @@ public class EventController {
     @PutMapping("/{id}/release")
     public ResponseEntity<Boolean> releaseTickets(
             @PathVariable Long id,
-            @RequestParam @Min(1) int count
+            @RequestParam @Min(1) int count,
+            @RequestParam(required = false) UUID claim // X-Ticket-Claim from reserve (POOL)
     ) {
-        eventService.releaseTickets(id, count);
+        eventService.releaseTickets(id, count, claim);
         return ResponseEntity.ok(true);
     }
 
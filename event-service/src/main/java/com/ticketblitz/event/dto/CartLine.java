@@ -0,0 +1,13 @@
+package com.ticketblitz.event.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One line of a multi-event cart: count tickets of eventId.
+ */
+public record CartLine(
+        @NotNull Long eventId,
+        @Min(1) int count
+) {
+}
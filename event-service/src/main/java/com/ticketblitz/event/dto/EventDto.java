@@ -42,4 +42,9 @@ public record EventDto(
 ) implements Serializable {
         @Serial
         private static final long serialVersionUID = 1L;
+
+        // Cached metadata + live availability
+        public EventDto withAvailableTickets(Integer available) {
+                return new EventDto(id, title, description, date, location, category, price, totalTickets, available, imageUrls);
+        }
 }
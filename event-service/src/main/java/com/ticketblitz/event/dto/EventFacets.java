@@ -0,0 +1,32 @@
+package com.ticketblitz.event.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts next to search results. Each facet ignores its own filter, so the counts say what picking
+ * another value would return: categories honour the price filter, price ranges honour the category filter.
+ *
+ * @param categories  category name -> upcoming matches, most first
+ * @param priceRanges "0-50", "50-100", ..., "500+" -> upcoming matches, cheapest first (empty ranges omitted)
+ */
+public record EventFacets(
+        Map<String, Long> categories,
+        Map<String, Long> priceRanges
+) {
+    // Upper bounds (exclusive) of the price ranges; EventRepository.countFacets buckets on the same edges
+    public static final List<BigDecimal> PRICE_EDGES = List.of(
+            new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("200"), new BigDecimal("500"));
+
+    /**
+     * @param bucket width_bucket index: 0 = below the first edge, PRICE_EDGES.size() = at or above the last
+     */
+    public static String priceRange(int bucket) {
+        if (bucket >= PRICE_EDGES.size()) {
+            return PRICE_EDGES.get(PRICE_EDGES.size() - 1).toPlainString() + "+";
+        }
+        String low = bucket == 0 ? "0" : PRICE_EDGES.get(bucket - 1).toPlainString();
+        return low + "-" + PRICE_EDGES.get(bucket).toPlainString();
+    }
+}
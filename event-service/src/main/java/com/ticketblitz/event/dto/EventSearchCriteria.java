@@ -1,10 +1,37 @@
 package com.ticketblitz.event.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
 
+/**
+ * Search filters; null = unfiltered. Only upcoming events are ever returned (from is clamped to now).
+ */
 public record EventSearchCriteria(
         String query,
         String category,
         BigDecimal minPrice,
-        BigDecimal maxPrice
-) {}
+        BigDecimal maxPrice,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+    public EventSearchCriteria(String query, String category, BigDecimal minPrice, BigDecimal maxPrice) {
+        this(query, category, minPrice, maxPrice, null, null);
+    }
+
+    /**
+     * Same search, canonical spelling (cache key): query trimmed, lower-cased and single-spaced,
+     * blanks as null, prices without trailing zeros, a from that is not in the future dropped (clamped anyway).
+     * Category is left as is: it is matched exactly.
+     */
+    public EventSearchCriteria normalized() {
+        String q = query != null ? query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) : "";
+        return new EventSearchCriteria(
+                q.isEmpty() ? null : q,
+                category != null && !category.isBlank() ? category : null,
+                minPrice != null ? minPrice.stripTrailingZeros() : null,
+                maxPrice != null ? maxPrice.stripTrailingZeros() : null,
+                from != null && from.isAfter(LocalDateTime.now()) ? from : null,
+                to);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ticketblitz.event.dto;
+
+import java.util.List;
+
+/**
+ * One page of search results. Pass nextCursor back to get the next page; null = last page.
+ * facets is only filled in when asked for (null otherwise).
+ */
+public record EventSearchPage(
+        List<EventDto> events,
+        String nextCursor,
+        EventFacets facets
+) {
+    public EventSearchPage(List<EventDto> events, String nextCursor) {
+        this(events, nextCursor, null);
+    }
+
+    public EventSearchPage withFacets(EventFacets facets) {
+        return new EventSearchPage(events, nextCursor, facets);
+    }
+}
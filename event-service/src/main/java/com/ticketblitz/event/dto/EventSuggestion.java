@@ -0,0 +1,15 @@
+package com.ticketblitz.event.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Typeahead hit: just enough to render the dropdown row and link to GET /events/{id}.
+ */
+public record EventSuggestion(
+        Long id,
+        String title,
+        String location,
+        String category,
+        LocalDateTime date
+) {
+}
@@ -0,0 +1,11 @@
+package com.ticketblitz.event.dto;
+
+/**
+ * Unconfirmed holds on an event. heldTickets are gone from availableTickets but may come back on expiry.
+ */
+public record HoldSummary(
+        Long eventId,
+        long activeHolds,
+        long heldTickets
+) {
+}
@@ -0,0 +1,52 @@
+package com.ticketblitz.event.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last result on a page (opaque to clients).
+ * Ranked search: (rank, id), ordered rank DESC, id ASC. Keyword fallback: (date, id), ordered date ASC, id ASC.
+ * The rank travels as its exact float bits, so the next page resumes exactly after the last row.
+ */
+public record SearchCursor(Float rank, LocalDateTime date, Long id) {
+
+    public static SearchCursor ranked(float rank, long id) {
+        return new SearchCursor(rank, null, id);
+    }
+
+    public static SearchCursor dated(LocalDateTime date, long id) {
+        return new SearchCursor(null, date, id);
+    }
+
+    public String encode() {
+        String raw = rank != null
+                ? "r:" + Integer.toHexString(Float.floatToIntBits(rank)) + ":" + id
+                : "d:" + date.toEpochSecond(ZoneOffset.UTC) + ":" + date.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return null for a missing cursor (first page)
+     * @throws IllegalArgumentException if the cursor was not produced by {@link #encode()}
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && parts[0].equals("r")) {
+                return ranked(Float.intBitsToFloat(Integer.parseUnsignedInt(parts[1], 16)), Long.parseLong(parts[2]));
+            }
+            if (parts.length == 4 && parts[0].equals("d")) {
+                LocalDateTime date = LocalDateTime.ofEpochSecond(Long.parseLong(parts[1]), Integer.parseInt(parts[2]), ZoneOffset.UTC);
+                return dated(date, Long.parseLong(parts[3]));
+            }
+        } catch (RuntimeException e) {
+            // Fall through
+        }
+        throw new IllegalArgumentException("Invalid search cursor");
+    }
+}
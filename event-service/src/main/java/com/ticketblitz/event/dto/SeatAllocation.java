@@ -0,0 +1,13 @@
+package com.ticketblitz.event.dto;
+
+/**
+ * count adjacent seats in one row: seats firstSeat .. firstSeat+count-1 (0-based row and seat).
+ */
+public record SeatAllocation(
+        Long sectionId,
+        String section,
+        int row,
+        int firstSeat,
+        int count
+) {
+}
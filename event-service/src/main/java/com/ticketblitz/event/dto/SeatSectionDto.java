@@ -0,0 +1,15 @@
+package com.ticketblitz.event.dto;
+
+/**
+ * availability = Base64 of the encoded SeatBitmap (row-major, bit set = free), for seat-map rendering.
+ */
+public record SeatSectionDto(
+        Long id,
+        String name,
+        int sortOrder,
+        int rowCount,
+        int seatsPerRow,
+        int availableSeats,
+        String availability
+) {
+}
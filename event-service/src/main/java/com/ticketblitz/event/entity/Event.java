@@ -2,6 +2,9 @@ package com.ticketblitz.event.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -49,10 +52,9 @@ public class Event {
     @Column(nullable = false)
     private Integer availableTickets;
 
-    // This creates a separate table 'event_images' linked by 'event_id'
-    @ElementCollection(fetch = FetchType.EAGER) // Eager load for now (images are critical for display)
-    @CollectionTable(name = "event_images", joinColumns = @JoinColumn(name = "event_id"))
-    @Column(name = "image_url")
+    // Inline text[] column on the events row (V10): read with the row, no side table to rewrite on flush
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "image_urls", nullable = false)
     @Builder.Default
     private List<String> imageUrls = new ArrayList<>();
 
@@ -62,4 +64,14 @@ public class Event {
 
     @Version
     private Long version;
+
+    // HOT: inventory counter lives in Redis (RedisInventoryEngine), this row is written behind
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean hot = false;
+
+    // ACTOR: highest inventory journal LSN already folded into availableTickets (makes replay idempotent)
+    @Column(name = "journal_lsn", nullable = false)
+    @Builder.Default
+    private Long journalLsn = 0L;
 }
@@ -0,0 +1,8 @@
+package com.ticketblitz.event.entity;
+
+public enum HoldStatus {
+    /** Tickets reserved, awaiting payment. Released when the TTL runs out. */
+    HELD,
+    /** Payment succeeded: tickets stay sold. Row is purged at the original expiry. */
+    CONFIRMED
+}
@@ -0,0 +1,30 @@
+package com.ticketblitz.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time-bound ownership of in-memory inventory (ACTOR strategy): one row per lease, renewed by its owner.
+ * Another instance can only take it over once expiresAt has passed.
+ */
+@Entity
+@Table(name = "inventory_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
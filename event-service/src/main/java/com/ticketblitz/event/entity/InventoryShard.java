@@ -0,0 +1,33 @@
+package com.ticketblitz.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One bucket of an event's inventory (SHARDED reservation strategy).
+ * No @ManyToOne to Event on purpose: reservations must never load/lock the parent row.
+ */
+@Entity
+@Table(name = "event_inventory_shard", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shard_event_no", columnNames = {"event_id", "shard_no"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InventoryShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer availableTickets;
+}
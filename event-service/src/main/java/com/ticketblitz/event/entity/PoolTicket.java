@@ -0,0 +1,46 @@
+package com.ticketblitz.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One numbered ticket of an event (POOL reservation strategy).
+ * No @ManyToOne to Event on purpose: claims must never load/lock the parent row.
+ */
+@Entity
+@Table(name = "ticket_pool", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ticket_pool_event_no", columnNames = {"event_id", "ticket_no"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PoolTicket {
+
+    public static final String AVAILABLE = "AVAILABLE";
+    public static final String RESERVED = "RESERVED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "ticket_no", nullable = false)
+    private Integer ticketNo;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    @Column(name = "reserved_at")
+    private LocalDateTime reservedAt;
+
+    // Hold token / booking claim that reserved this ticket (null = untracked caller, or free)
+    @Column(name = "claim_id")
+    private UUID claimId;
+}
@@ -0,0 +1,50 @@
+package com.ticketblitz.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Reserved-seating block of an event: rowCount x seatsPerRow seats.
+ * Seat availability is an encoded SeatBitmap; revision bumps on every change so each instance
+ * can tell whether its in-memory copy is still current.
+ */
+@Entity
+@Table(name = "seat_sections", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_seat_section_event_name", columnNames = {"event_id", "name"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatSection {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Allocation preference across sections (lower = better)
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder;
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    @Column(name = "seats_per_row", nullable = false)
+    private Integer seatsPerRow;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+
+    @Column(nullable = false, length = 1 << 20)
+    private byte[] availability;
+
+    @Column(nullable = false)
+    private Long revision;
+}
@@ -0,0 +1,40 @@
+package com.ticketblitz.event.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tickets reserved for a pending booking. Released automatically at expiresAt unless confirmed.
+ * No @ManyToOne to Event: confirm/expire must never load the parent row.
+ */
+@Entity
+@Table(name = "ticket_holds", indexes = {
+        @Index(name = "idx_ticket_holds_event_status", columnList = "event_id, status"),
+        @Index(name = "idx_ticket_holds_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketHold {
+
+    @Id
+    private UUID token;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "ticket_count", nullable = false)
+    private Integer ticketCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private HoldStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,482 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.entity.InventoryLease;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.InventoryLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ACTOR INVENTORY (single writer per event)
+ * Events are hashed onto N mailboxes. Each mailbox is one virtual thread that owns the live counters
+ * of its events in a primitive long -> int map and applies reserve/release commands strictly one at
+ * a time: no locks, no SQL on the critical path. Callers simply block (cheap on virtual threads).
+ *
+ * Every change is appended to the memory-mapped InventoryJournal (tagged with the caller's trace id
+ * as booking correlation); the caller is answered once the record is fsynced (group fsync), while
+ * the mailbox moves straight on to the next command.
+ * A scheduled checkpoint folds journaled deltas into events.available_tickets (rows locked in id
+ * order) and compacts the segments that are fully applied.
+ * On startup, leftover segments are replayed before any mailbox accepts commands.
+ *
+ * A counter is loaded under the row lock the first time its event is touched. Events owned by Redis
+ * (hot) are refused with NOT_MANAGED. detach MUST be called while holding the event's row lock.
+ *
+ * A mailbox never waits on a row lock: the holder may itself be waiting on that mailbox (setHot / delete
+ * sending DETACH). A load that finds the row locked (SKIP LOCKED) goes back to the inbox and is retried
+ * a little later, so the DETACH queued behind it still gets through. Callers wait at most reply-timeout-ms;
+ * a reservation applied after its caller gave up is released again.
+ *
+ * SINGLE INSTANCE: the counters live in this JVM, so two replicas serving ACTOR would each sell the
+ * full stock. The instance that holds the "inventory-actor" row of inventory_leases is the only one
+ * that serves commands; another instance started with ACTOR while that lease is live refuses to start.
+ * The lease is renewed on every checkpoint, and the owner stops serving half a lease-seconds before a
+ * takeover becomes possible (counters are dropped and reloaded once it holds the lease again).
+ * Deltas journaled by an owner that died before checkpointing are only applied when that instance
+ * (with its journal-dir) comes back, so fail over to a new host only after its journal is replayed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActorInventoryEngine {
+
+    private static final int MISSING = Integer.MIN_VALUE;
+    private static final int LOCKED = Integer.MIN_VALUE + 1;
+    static final String LEASE = "inventory-actor";
+
+    private final EventRepository eventRepository;
+    private final InventoryLeaseRepository leaseRepository;
+    private final RedisInventoryEngine redisInventory;
+    private final InventoryJournal journal;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+    private volatile long leaseValidUntil; // Epoch ms; 0 = not held
+    private volatile long leaseEpoch; // Bumped whenever the lease is (re)acquired after a gap
+
+    @Value("${inventory.reservation-strategy:PESSIMISTIC}")
+    private ReservationStrategy reservationStrategy = ReservationStrategy.PESSIMISTIC;
+
+    @Value("${inventory.actor.mailboxes:16}")
+    private int mailboxCount = 16;
+
+    @Value("${inventory.actor.checkpoint-batch-size:100}")
+    private int checkpointBatchSize = 100;
+
+    @Value("${inventory.actor.reply-timeout-ms:5000}")
+    private long replyTimeoutMs = 5000;
+
+    @Value("${inventory.actor.load-retry-ms:5}")
+    private long loadRetryMs = 5;
+
+    @Value("${inventory.actor.lease-seconds:10}")
+    private long leaseSeconds = 10;
+
+    private volatile Mailbox[] mailboxes;
+
+    public boolean isActive() {
+        return reservationStrategy == ReservationStrategy.ACTOR;
+    }
+
+    public ReservationOutcome reserve(Long eventId, int count) {
+        return send(Op.RESERVE, eventId, count);
+    }
+
+    /**
+     * @return false if the event is owned by Redis (caller takes the hot path)
+     */
+    public boolean release(Long eventId, int count) {
+        return send(Op.RELEASE, eventId, count) != ReservationOutcome.NOT_MANAGED;
+    }
+
+    /**
+     * Stop serving this event from memory and fold its un-applied deltas into the (locked) row.
+     * Used before the counter moves to Redis or the event is deleted.
+     */
+    public void detach(Event event) {
+        send(Op.DETACH, event.getId(), 0);
+        InventoryJournal.Taken taken = journal.take(new long[]{event.getId()});
+        int delta = taken.deltas().get(event.getId(), 0);
+
+        event.setAvailableTickets(event.getAvailableTickets() + delta);
+        event.setJournalLsn(Math.max(event.getJournalLsn(), taken.lsn()));
+        if (delta != 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        journal.restore(taken.deltas());
+                    }
+                }
+            });
+        }
+        log.info("Event {} detached from inventory actors (un-applied delta: {})", event.getId(), delta);
+    }
+
+    private ReservationOutcome send(Op op, Long eventId, int count) {
+        Mailbox[] boxes = mailboxes;
+        if (boxes == null) {
+            throw new RuntimeException("Inventory actors not started (journal replay in progress?)");
+        }
+        Command command = new Command(op, eventId, count, MDC.get("traceId"), new CompletableFuture<>());
+        boxes[Math.floorMod(Long.hashCode(eventId), boxes.length)].inbox.add(command);
+        try {
+            return command.result().orTimeout(replyTimeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RuntimeException("Inventory actor did not answer within " + replyTimeoutMs + " ms (Event " + eventId + ")");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // ========== MAILBOX ==========
+
+    private enum Op { RESERVE, RELEASE, DETACH }
+
+    private record Command(Op op, long eventId, int count, String correlation,
+                           CompletableFuture<ReservationOutcome> result) {
+    }
+
+    /**
+     * @param lsn journal record the caller must wait for (0 = nothing written)
+     */
+    private record Applied(ReservationOutcome outcome, long lsn) {
+    }
+
+    private final class Mailbox implements Runnable {
+        private final BlockingQueue<Command> inbox = new LinkedBlockingQueue<>();
+        private LongIntHashMap counters = new LongIntHashMap(1024);
+        private long epoch;
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    handle(inbox.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void handle(Command command) {
+            if (command.result().isDone()) {
+                return; // Caller timed out before we got to it: never applied
+            }
+            try {
+                Applied applied = apply(command);
+                if (applied == null) {
+                    // Row locked: retry behind whatever is queued (possibly the lock holder's DETACH)
+                    CompletableFuture.delayedExecutor(loadRetryMs, TimeUnit.MILLISECONDS).execute(() -> inbox.add(command));
+                    return;
+                }
+                if (applied.lsn() == 0) {
+                    command.result().complete(applied.outcome());
+                    return;
+                }
+                // Answer once durable; don't hold up the mailbox while the fsync is in flight
+                journal.whenDurable(applied.lsn()).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        command.result().completeExceptionally(error);
+                    } else if (!command.result().complete(applied.outcome())
+                            && command.op() == Op.RESERVE && applied.outcome() == ReservationOutcome.RESERVED) {
+                        // Caller timed out after we took the tickets: give them back
+                        inbox.add(new Command(Op.RELEASE, command.eventId(), command.count(), command.correlation(),
+                                new CompletableFuture<>()));
+                    }
+                });
+            } catch (RuntimeException e) {
+                command.result().completeExceptionally(e);
+            }
+        }
+
+        /**
+         * @return null if the event's row is locked and the command must be retried
+         */
+        private Applied apply(Command command) {
+            long eventId = command.eventId();
+            if (command.op() == Op.DETACH) {
+                counters.remove(eventId, MISSING);
+                return new Applied(ReservationOutcome.RESERVED, 0);
+            }
+            if (System.currentTimeMillis() >= leaseValidUntil) {
+                throw new RuntimeException("Inventory actors do not hold the lease (another instance may own the counters)");
+            }
+            if (epoch != leaseEpoch) { // Lease was lost in between: another owner may have sold from the rows
+                counters = new LongIntHashMap(1024);
+                epoch = leaseEpoch;
+            }
+
+            int available = counters.get(eventId, MISSING);
+            if (available == MISSING) {
+                available = load(eventId);
+                if (available == LOCKED) {
+                    return null;
+                }
+                if (available == MISSING) {
+                    return new Applied(ReservationOutcome.NOT_MANAGED, 0);
+                }
+                counters.put(eventId, available);
+            }
+
+            long lsn;
+            if (command.op() == Op.RESERVE) {
+                if (available < command.count()) {
+                    log.warn("Actor reservation failed: Insufficient inventory. Event: {}, Requested: {}, Available: {}",
+                            eventId, command.count(), available);
+                    return new Applied(ReservationOutcome.SOLD_OUT, 0);
+                }
+                // Journal first: a failed append changes nothing
+                lsn = journal.append(eventId, -command.count(), command.correlation());
+                counters.put(eventId, available - command.count());
+            } else {
+                lsn = journal.append(eventId, command.count(), command.correlation());
+                counters.put(eventId, available + command.count());
+            }
+            return new Applied(ReservationOutcome.RESERVED, lsn);
+        }
+
+        /**
+         * Row + not-yet-checkpointed deltas, read under the row lock so a concurrent checkpoint
+         * is either fully visible or not started. LOCKED if someone else holds that lock.
+         */
+        private int load(long eventId) {
+            Integer available = transactionTemplate.execute(status -> {
+                Optional<Event> locked = eventRepository.findByIdSkipLocked(eventId);
+                if (locked.isEmpty()) {
+                    if (!eventRepository.existsById(eventId)) {
+                        throw new RuntimeException("Event not found");
+                    }
+                    return LOCKED;
+                }
+                Event event = locked.get();
+                if (Boolean.TRUE.equals(event.getHot()) && redisInventory.isEnabled()) {
+                    return MISSING;
+                }
+                return event.getAvailableTickets() + journal.pending(eventId);
+            });
+            return available == null ? MISSING : available;
+        }
+    }
+
+    // ========== CHECKPOINT ==========
+
+    @Scheduled(fixedDelayString = "${inventory.actor.checkpoint-interval-ms:200}")
+    public void checkpoint() {
+        if (mailboxes == null) {
+            return;
+        }
+        renewLease(); // Journaled deltas are real sales: fold them in even if the lease is gone
+        foldJournal();
+    }
+
+    private boolean foldJournal() {
+        try {
+            InventoryJournal.Checkpoint checkpoint = journal.beginCheckpoint();
+            long[] eventIds = checkpoint.eventIds();
+            Arrays.sort(eventIds); // Same lock order as everyone else (ascending id)
+            for (int from = 0; from < eventIds.length; from += checkpointBatchSize) {
+                applyPending(Arrays.copyOfRange(eventIds, from, Math.min(from + checkpointBatchSize, eventIds.length)));
+            }
+            // Every record up to the checkpoint LSN is now in the DB
+            journal.compact(checkpoint.lsn());
+            return true;
+        } catch (Exception e) {
+            log.error("Inventory journal checkpoint failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void applyPending(long[] eventIds) {
+        AtomicReference<InventoryJournal.Taken> taken = new AtomicReference<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                eventRepository.lockInventoryRows(Arrays.stream(eventIds).boxed().toList());
+                taken.set(journal.take(eventIds));
+                taken.get().deltas().forEach((eventId, delta) ->
+                        eventRepository.applyJournalDelta(eventId, delta, taken.get().lsn()));
+            });
+            log.debug("Checkpointed inventory journal for {} events", eventIds.length);
+        } catch (RuntimeException e) {
+            if (taken.get() != null) {
+                journal.restore(taken.get().deltas());
+            }
+            throw e;
+        }
+    }
+
+    // ========== LEASE ==========
+
+    /**
+     * Claim or renew the lease. Serving stops half a lease before the row lets anyone else take over,
+     * so there is always a gap between two owners.
+     */
+    boolean renewLease() {
+        long now = System.currentTimeMillis();
+        boolean held;
+        try {
+            held = Integer.valueOf(1).equals(transactionTemplate.execute(status -> leaseRepository.claim(LEASE, owner,
+                    LocalDateTime.now(), LocalDateTime.now().plusSeconds(leaseSeconds)))) || createLease();
+        } catch (RuntimeException e) {
+            log.error("Inventory actor lease renewal failed: {}", e.getMessage());
+            held = false;
+        }
+        if (!held) {
+            if (leaseValidUntil != 0) {
+                log.error("Inventory actor lease lost: refusing commands until it is held again");
+            }
+            leaseValidUntil = 0;
+            return false;
+        }
+        if (now >= leaseValidUntil) {
+            leaseEpoch++; // Written before leaseValidUntil, read after it by the mailboxes
+        }
+        leaseValidUntil = now + leaseSeconds * 500;
+        return true;
+    }
+
+    // First start against this database: no row to claim yet
+    private boolean createLease() {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (leaseRepository.existsById(LEASE)) {
+                    return false;
+                }
+                leaseRepository.saveAndFlush(new InventoryLease(LEASE, owner, LocalDateTime.now().plusSeconds(leaseSeconds)));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false; // Another instance created it first
+        }
+    }
+
+    // ========== STARTUP ==========
+
+    /**
+     * 1. Replay leftover segments into the rows (skipping records a row already contains).
+     * 2. If ACTOR is the active strategy, open a fresh segment and start the mailboxes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        if (isActive() && !renewLease()) {
+            throw new IllegalStateException("Inventory actors already run on another live instance: "
+                    + "the ACTOR strategy serves from one instance at a time");
+        }
+        try {
+            List<Path> segments = journal.segments();
+            if (segments.isEmpty() && !isActive()) {
+                return;
+            }
+            long lastLsn = replay(segments);
+            journal.delete(segments);
+
+            if (isActive()) {
+                journal.open(Math.max(lastLsn, eventRepository.findMaxJournalLsn()));
+                start();
+            }
+        } catch (Exception e) {
+            log.error("Inventory journal recovery failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Two sequential scans of the mapped segments (which events, then which deltas) and one UPDATE
+     * per touched event: replay cost is dominated by the number of events, not records.
+     */
+    private long replay(List<Path> segments) {
+        long started = System.nanoTime();
+        LongIntHashMap touched = new LongIntHashMap();
+        long[] lastLsn = {0};
+        journal.scan(segments, (lsn, eventId, delta, timestamp, high, low) -> {
+            touched.put(eventId, 0);
+            lastLsn[0] = lsn;
+        });
+        if (touched.isEmpty()) {
+            return 0;
+        }
+
+        LongIntHashMap deltas = new LongIntHashMap(touched.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            long[] ids = touched.keys();
+            Arrays.sort(ids);
+            List<Long> eventIds = Arrays.stream(ids).boxed().toList();
+            eventRepository.lockInventoryRows(eventIds);
+            Map<Long, Long> appliedLsn = new HashMap<>();
+            eventRepository.findJournalPositions(eventIds).forEach(p -> appliedLsn.put(p.getId(), p.getJournalLsn()));
+
+            journal.scan(segments, (lsn, eventId, delta, timestamp, high, low) -> {
+                Long applied = appliedLsn.get(eventId);
+                if (applied != null && lsn > applied) {
+                    deltas.addTo(eventId, delta);
+                }
+            });
+            deltas.forEach((eventId, delta) -> eventRepository.applyJournalDelta(eventId, delta, lastLsn[0]));
+        });
+        log.info("Inventory journal replayed in {} ms: {} events touched, {} adjusted (last LSN {})",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), touched.size(), deltas.size(), lastLsn[0]);
+        return lastLsn[0];
+    }
+
+    private synchronized void start() {
+        if (mailboxes != null) {
+            return;
+        }
+        Mailbox[] boxes = new Mailbox[mailboxCount];
+        for (int i = 0; i < boxes.length; i++) {
+            boxes[i] = new Mailbox();
+            Thread.ofVirtual().name("inventory-actor-" + i).start(boxes[i]);
+        }
+        mailboxes = boxes;
+        log.info("Inventory actors started ({} mailboxes)", mailboxCount);
+    }
+
+    /**
+     * Stop serving, fold what is journaled, and hand the lease over if nothing is left behind.
+     */
+    @PreDestroy
+    public void stop() {
+        if (mailboxes != null && leaseValidUntil != 0) {
+            leaseValidUntil = 0;
+            if (foldJournal()) {
+                try {
+                    transactionTemplate.execute(status -> leaseRepository.giveUp(LEASE, owner, LocalDateTime.now()));
+                } catch (RuntimeException e) {
+                    log.warn("Could not give up the inventory actor lease: {}", e.getMessage());
+                }
+            }
+        }
+        journal.close();
+    }
+}
@@ -0,0 +1,179 @@
+package com.ticketblitz.event.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HIERARCHICAL TIMING WHEEL
+ * O(1) schedule / cancel / per-tick expiry for a large number of timeouts (hold expiry).
+ * Each level has 64 slots; level L covers 64^(L+1) ticks. A timeout sits in the coarsest level it
+ * needs and is cascaded down one level whenever the finer wheel wraps, so it is re-filed at most
+ * once per level. Deadlines beyond the top level are parked in its last slot and re-filed on cascade.
+ *
+ * Timeouts never fire early: the deadline is rounded UP to a whole tick.
+ * Thread-safe (coarse monitor): request threads schedule, one ticker advances.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMs;
+    private final int levels;
+    private final Timeout<T>[] heads;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int levels, long startMs) {
+        if (tickMs <= 0 || levels < 1 || SLOT_BITS * levels > 60) {
+            throw new IllegalArgumentException("Invalid timing wheel: tickMs=" + tickMs + ", levels=" + levels);
+        }
+        this.tickMs = tickMs;
+        this.levels = levels;
+        this.heads = new Timeout[levels * SLOTS];
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * @return handle for {@link #cancel(Timeout)}; a deadline in the past fires on the next tick
+     */
+    public synchronized Timeout<T> schedule(T item, long deadlineMs) {
+        Timeout<T> timeout = new Timeout<>(item, Math.ceilDiv(deadlineMs, tickMs));
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return false if the timeout already fired or was cancelled
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Move the clock to {@code nowMs}, cascading as the wheels wrap.
+     *
+     * @return items whose deadline has passed, in tick order
+     */
+    public synchronized List<T> advance(long nowMs) {
+        long targetTick = nowMs / tickMs;
+        List<T> expired = new ArrayList<>();
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick); // Nothing to cascade: jump
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < levels; level++) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+
+            Timeout<T> timeout = detachBucket((int) (currentTick & SLOT_MASK));
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.next = null;
+                if (timeout.deadlineTick <= currentTick) {
+                    size--;
+                    expired.add(timeout.item);
+                } else {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<T> timeout = detachBucket(level * SLOTS + slot);
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        long tick = timeout.deadlineTick;
+        int level = 0;
+        if (delta <= 0) {
+            tick = currentTick + 1;
+        } else {
+            while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+            long horizon = 1L << (SLOT_BITS * levels);
+            if (delta >= horizon) {
+                tick = currentTick + horizon - 1; // Beyond the top wheel: re-filed when this slot cascades
+            }
+        }
+        int bucket = level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timeout.bucket = bucket;
+        timeout.prev = null;
+        timeout.next = heads[bucket];
+        if (heads[bucket] != null) {
+            heads[bucket].prev = timeout;
+        }
+        heads[bucket] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            heads[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    // Unhook a whole slot; entries are marked detached and re-placed or fired by the caller
+    private Timeout<T> detachBucket(int bucket) {
+        Timeout<T> head = heads[bucket];
+        heads[bucket] = null;
+        for (Timeout<T> t = head; t != null; t = t.next) {
+            t.bucket = -1;
+            t.prev = null;
+        }
+        return head;
+    }
+
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int bucket = -1;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T item() {
+            return item;
+        }
+    }
+}
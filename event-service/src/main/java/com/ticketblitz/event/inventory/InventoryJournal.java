@@ -0,0 +1,396 @@
+package com.ticketblitz.event.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * MEMORY-MAPPED INVENTORY JOURNAL (ACTOR strategy)
+ * Every counter change is one fixed 48-byte record in a pre-sized, memory-mapped segment file:
+ *
+ *   0 lsn | 8 eventId | 16 delta | 20 check | 24 timestamp | 32 correlation (128-bit trace id)
+ *
+ * The LSN is written LAST, so a record only becomes visible to replay once complete; the check word
+ * catches records torn by a power loss. Appends never hit the disk directly: a syncer thread forces
+ * the segment and completes every waiter up to that LSN in one go (group fsync).
+ *
+ * Deltas are summed per event in memory until a checkpoint folds them into the DB row.
+ * LSNs only ever grow (also across restarts) and events.journal_lsn records how far each row has
+ * been applied, so replaying a segment twice is harmless. Full segments roll over to a new file;
+ * sealed segments are deleted (compacted) once every record in them has been applied.
+ */
+@Component
+@Slf4j
+public class InventoryJournal {
+
+    static final int RECORD_SIZE = 48;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final CompletableFuture<Void> DURABLE = CompletableFuture.completedFuture(null);
+
+    private final LongIntHashMap pending = new LongIntHashMap();
+    private final PriorityBlockingQueue<Waiter> waiters = new PriorityBlockingQueue<>();
+
+    private MappedByteBuffer segment;
+    private Path current;
+    private long lastLsn;
+    private volatile long durableLsn;
+    private volatile Thread syncer;
+
+    @Value("${inventory.actor.journal-dir:data/inventory-journal}")
+    private Path directory = Path.of("data/inventory-journal");
+
+    @Value("${inventory.actor.journal-segment-bytes:67108864}")
+    private long segmentBytes = 64L * 1024 * 1024;
+
+    @Value("${inventory.actor.journal-fsync:true}")
+    private boolean fsync = true;
+
+    @Value("${inventory.actor.journal-sync-interval-ms:5}")
+    private long syncIntervalMs = 5;
+
+    public record Record(long lsn, long eventId, int delta, long timestamp, long correlationHigh, long correlationLow) {
+    }
+
+    /**
+     * Deltas removed from the journal, all with LSN <= {@code lsn}.
+     */
+    public record Taken(LongIntHashMap deltas, long lsn) {
+    }
+
+    /**
+     * Events with un-applied deltas as of {@code lsn}.
+     */
+    public record Checkpoint(long[] eventIds, long lsn) {
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long lsn, long eventId, int delta, long timestamp, long correlationHigh, long correlationLow);
+    }
+
+    private record Waiter(long lsn, CompletableFuture<Void> durable) implements Comparable<Waiter> {
+        @Override
+        public int compareTo(Waiter other) {
+            return Long.compare(lsn, other.lsn);
+        }
+    }
+
+    // ========== LIFECYCLE ==========
+
+    /**
+     * Start appending after {@code lastLsn} (the highest LSN ever issued or applied).
+     */
+    public synchronized void open(long lastLsn) {
+        this.lastLsn = lastLsn;
+        this.durableLsn = lastLsn;
+        mapSegment(lastLsn + 1);
+        if (fsync) {
+            syncer = Thread.ofVirtual().name("inventory-journal-sync").unstarted(this::syncLoop);
+            syncer.start();
+        }
+        log.info("Inventory journal open: {} (next LSN {}, fsync={})", current, lastLsn + 1, fsync);
+    }
+
+    public synchronized boolean isOpen() {
+        return segment != null;
+    }
+
+    public void close() {
+        Thread running = syncer;
+        syncer = null;
+        if (running != null) {
+            LockSupport.unpark(running);
+        }
+        synchronized (this) {
+            if (segment == null) {
+                return;
+            }
+            segment.force();
+            segment = null;
+            markDurable(lastLsn);
+        }
+    }
+
+    // ========== WRITE PATH ==========
+
+    /**
+     * @param correlation trace id of the booking request (hex), may be null
+     * @return the record's LSN
+     */
+    public synchronized long append(long eventId, int delta, String correlation) {
+        if (segment == null) {
+            throw new IllegalStateException("Inventory journal is not open");
+        }
+        if (segment.remaining() < RECORD_SIZE) {
+            roll();
+        }
+        long lsn = lastLsn + 1;
+        long timestamp = System.currentTimeMillis();
+        long correlationHigh = parseHex(correlation, 0);
+        long correlationLow = parseHex(correlation, 1);
+
+        int pos = segment.position();
+        segment.putLong(pos + 8, eventId);
+        segment.putInt(pos + 16, delta);
+        segment.putInt(pos + 20, check(lsn, eventId, delta, timestamp, correlationHigh, correlationLow));
+        segment.putLong(pos + 24, timestamp);
+        segment.putLong(pos + 32, correlationHigh);
+        segment.putLong(pos + 40, correlationLow);
+        segment.putLong(pos, lsn); // Commit marker: written last
+        segment.position(pos + RECORD_SIZE);
+
+        lastLsn = lsn;
+        pending.addTo(eventId, delta);
+        return lsn;
+    }
+
+    /**
+     * Completes once the record is on disk (immediately when fsync is disabled).
+     */
+    public CompletableFuture<Void> whenDurable(long lsn) {
+        Thread running = syncer;
+        if (running == null || lsn <= durableLsn) {
+            return DURABLE;
+        }
+        Waiter waiter = new Waiter(lsn, new CompletableFuture<>());
+        waiters.add(waiter);
+        if (lsn <= durableLsn) {
+            waiter.durable().complete(null); // Raced a sync that already covered it
+        }
+        LockSupport.unpark(running);
+        return waiter.durable();
+    }
+
+    private void syncLoop() {
+        while (syncer == Thread.currentThread()) {
+            MappedByteBuffer buffer;
+            long target;
+            synchronized (this) {
+                buffer = segment;
+                target = lastLsn;
+            }
+            if (buffer == null || target <= durableLsn) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(syncIntervalMs));
+                continue;
+            }
+            try {
+                buffer.force(); // ONE fsync for everything appended since the last one
+                markDurable(target);
+            } catch (RuntimeException e) {
+                log.error("Inventory journal fsync failed: {}", e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(syncIntervalMs));
+            }
+        }
+    }
+
+    private synchronized void markDurable(long lsn) {
+        durableLsn = Math.max(durableLsn, lsn);
+        Waiter head;
+        while ((head = waiters.peek()) != null && head.lsn() <= durableLsn) {
+            Waiter waiter = waiters.poll();
+            if (waiter != null) {
+                waiter.durable().complete(null);
+            }
+        }
+    }
+
+    private void roll() {
+        segment.force(); // Sealed segments are always fully durable
+        markDurable(lastLsn);
+        mapSegment(lastLsn + 1);
+        log.info("Inventory journal rolled to {}", current);
+    }
+
+    private void mapSegment(long firstLsn) {
+        current = directory.resolve(segmentName(firstLsn));
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(current,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map inventory journal segment " + current, e);
+        }
+    }
+
+    // ========== PENDING (not yet in the DB) ==========
+
+    public synchronized long[] pendingEventIds() {
+        return pending.keys();
+    }
+
+    public synchronized int pending(long eventId) {
+        return pending.get(eventId, 0);
+    }
+
+    public synchronized Checkpoint beginCheckpoint() {
+        return new Checkpoint(pending.keys(), lastLsn);
+    }
+
+    /**
+     * Remove the un-applied deltas of these events. Caller holds their row locks.
+     */
+    public synchronized Taken take(long[] eventIds) {
+        LongIntHashMap deltas = new LongIntHashMap(eventIds.length);
+        for (long eventId : eventIds) {
+            int delta = pending.remove(eventId, 0);
+            if (delta != 0) {
+                deltas.put(eventId, delta);
+            }
+        }
+        return new Taken(deltas, lastLsn);
+    }
+
+    /**
+     * Put deltas back after the DB write that was supposed to apply them rolled back.
+     */
+    public synchronized void restore(LongIntHashMap deltas) {
+        deltas.forEach(pending::addTo);
+    }
+
+    /**
+     * Delete sealed segments whose records are all <= {@code appliedLsn}.
+     */
+    public void compact(long appliedLsn) {
+        List<Path> segments = segments();
+        Path open;
+        synchronized (this) {
+            open = current;
+        }
+        for (int i = 0; i + 1 < segments.size() && !segments.get(i).equals(open); i++) {
+            if (firstLsn(segments.get(i + 1)) - 1 > appliedLsn) {
+                break;
+            }
+            delete(List.of(segments.get(i)));
+        }
+    }
+
+    // ========== RECOVERY ==========
+
+    public List<Path> segments() {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list inventory journal " + directory, e);
+        }
+    }
+
+    /**
+     * Sequential scan over mapped segments, in LSN order, without materialising records.
+     * Stops at the first empty slot or torn record of each segment.
+     */
+    public void scan(List<Path> segments, Visitor visitor) {
+        for (Path segment : segments) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                for (int pos = 0; pos + RECORD_SIZE <= data.limit(); pos += RECORD_SIZE) {
+                    long lsn = data.getLong(pos);
+                    if (lsn == 0) {
+                        break;
+                    }
+                    long eventId = data.getLong(pos + 8);
+                    int delta = data.getInt(pos + 16);
+                    long timestamp = data.getLong(pos + 24);
+                    long correlationHigh = data.getLong(pos + 32);
+                    long correlationLow = data.getLong(pos + 40);
+                    if (data.getInt(pos + 20) != check(lsn, eventId, delta, timestamp, correlationHigh, correlationLow)) {
+                        log.warn("Torn record at {} offset {} (LSN {}), ignoring the rest of the segment", segment, pos, lsn);
+                        break;
+                    }
+                    visitor.visit(lsn, eventId, delta, timestamp, correlationHigh, correlationLow);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read inventory journal segment " + segment, e);
+            }
+        }
+    }
+
+    public List<Record> read(List<Path> segments) {
+        List<Record> records = new ArrayList<>();
+        scan(segments, (lsn, eventId, delta, timestamp, high, low) ->
+                records.add(new Record(lsn, eventId, delta, timestamp, high, low)));
+        return records;
+    }
+
+    public void delete(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("Could not delete applied journal segment {}: {}", segment, e.getMessage());
+            }
+        }
+    }
+
+    // ========== HELPERS ==========
+
+    private static String segmentName(long firstLsn) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX);
+    }
+
+    private static long firstLsn(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int check(long lsn, long eventId, int delta, long timestamp, long high, long low) {
+        long h = lsn;
+        h = mix(h ^ eventId);
+        h = mix(h ^ delta);
+        h = mix(h ^ timestamp);
+        h = mix(h ^ high);
+        h = mix(h ^ low);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long mix(long h) {
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * 128-bit trace ids are 32 hex chars (64-bit ones 16): word 0 = high half, word 1 = low half.
+     * Parsed in place (no allocation on the append path); anything that is not hex counts as 0.
+     */
+    static long parseHex(String hex, int word) {
+        if (hex == null || hex.length() > 32) {
+            return 0;
+        }
+        int end = word == 1 ? hex.length() : hex.length() - 16;
+        long value = 0;
+        for (int i = Math.max(0, end - 16); i < end; i++) {
+            int digit = Character.digit(hex.charAt(i), 16);
+            if (digit < 0) {
+                return 0;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+}
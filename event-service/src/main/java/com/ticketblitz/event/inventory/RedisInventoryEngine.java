@@ -0,0 +1,295 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * REDIS-FRONTED INVENTORY for events flagged hot.
+ *
+ * Redis owns the live counter (inventory:{eventId}); reserve/release are single Lua scripts, so the
+ * "available >= count" check and the decrement can never interleave -> no oversell.
+ * Every change is also journaled as a net delta in the inventory:pending hash, which a scheduled
+ * write-behind drains into events.available_tickets in batches (rows locked in id order).
+ *
+ * Durability of un-flushed deltas relies on Redis persistence (AOF recommended) and on the counters
+ * not being evicted (no allkeys-* maxmemory policy on this instance).
+ *
+ * attach/detach MUST be called while holding the event's row lock (findByIdLocked).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisInventoryEngine {
+
+    static final String COUNTER_PREFIX = "inventory:";
+    static final String PENDING_KEY = "inventory:pending";
+    static final String MANAGED_KEY = "inventory:managed";
+
+    // KEYS: counter, pending | ARGV: eventId, count -> new balance, -1 sold out, -2 not managed
+    private static final RedisScript<Long> RESERVE = RedisScript.of("""
+            local available = redis.call('GET', KEYS[1])
+            if not available then return -2 end
+            local count = tonumber(ARGV[2])
+            if tonumber(available) < count then return -1 end
+            redis.call('HINCRBY', KEYS[2], ARGV[1], -count)
+            return redis.call('DECRBY', KEYS[1], count)
+            """, Long.class);
+
+    // KEYS: counter, pending | ARGV: eventId, count -> new balance, -2 not managed
+    private static final RedisScript<Long> RELEASE = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('INCRBY', KEYS[1], ARGV[2])
+            """, Long.class);
+
+    // KEYS: counter, pending, managed | ARGV: eventId, dbAvailable
+    // Aligns counter with DB + un-flushed delta, always towards the LOWER value.
+    // Returns the adjustment (<= 0) the caller must apply to the DB row.
+    private static final RedisScript<Long> ATTACH = RedisScript.of("""
+            local expected = tonumber(ARGV[2]) + tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            redis.call('SADD', KEYS[3], ARGV[1])
+            local counter = redis.call('GET', KEYS[1])
+            if not counter then
+              redis.call('SET', KEYS[1], expected)
+              return 0
+            end
+            counter = tonumber(counter)
+            if counter > expected then
+              redis.call('DECRBY', KEYS[1], counter - expected)
+              return 0
+            end
+            return counter - expected
+            """, Long.class);
+
+    // KEYS: counter, pending, managed | ARGV: eventId -> un-flushed delta
+    private static final RedisScript<Long> DETACH = RedisScript.of("""
+            local delta = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[3], ARGV[1])
+            return delta
+            """, Long.class);
+
+    // KEYS: pending | ARGV: eventIds -> deltas (same order), removed from the journal
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TAKE_PENDING = RedisScript.of("""
+            local deltas = {}
+            for i, id in ipairs(ARGV) do
+              deltas[i] = tonumber(redis.call('HGET', KEYS[1], id) or '0')
+              redis.call('HDEL', KEYS[1], id)
+            end
+            return deltas
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.redis.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.redis.flush-batch-size:100}")
+    private int flushBatchSize = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if Redis currently owns this event's counter
+     */
+    public boolean isManaged(Long eventId) {
+        return enabled && Boolean.TRUE.equals(redisTemplate.hasKey(counterKey(eventId)));
+    }
+
+    public ReservationOutcome reserve(Long eventId, int count) {
+        if (!enabled) {
+            return ReservationOutcome.NOT_MANAGED;
+        }
+        Long result = redisTemplate.execute(RESERVE, List.of(counterKey(eventId), PENDING_KEY),
+                eventId.toString(), Integer.toString(count));
+        if (result == null || result == -2) {
+            return ReservationOutcome.NOT_MANAGED;
+        }
+        if (result == -1) {
+            log.warn("Redis reservation failed: Insufficient inventory. Event: {}, Requested: {}", eventId, count);
+            return ReservationOutcome.SOLD_OUT;
+        }
+        log.info("Redis reservation success. Event: {}, New availability: {}", eventId, result);
+        return ReservationOutcome.RESERVED;
+    }
+
+    /**
+     * @return false if the event is not managed by Redis (caller falls back to the DB path)
+     */
+    public boolean release(Long eventId, int count) {
+        if (!enabled) {
+            return false;
+        }
+        Long result = redisTemplate.execute(RELEASE, List.of(counterKey(eventId), PENDING_KEY),
+                eventId.toString(), Integer.toString(count));
+        if (result == null || result == -2) {
+            return false;
+        }
+        log.info("Redis release success. Event: {}, New availability: {}", eventId, result);
+        return true;
+    }
+
+    /**
+     * Hand the counter to Redis (or re-align an existing one). Caller holds the row lock.
+     *
+     * @return adjustment (<= 0) to apply to events.available_tickets
+     */
+    public int attach(Long eventId, int dbAvailable) {
+        Long adjustment = redisTemplate.execute(ATTACH, List.of(counterKey(eventId), PENDING_KEY, MANAGED_KEY),
+                eventId.toString(), Integer.toString(dbAvailable));
+        if (adjustment != null && adjustment != 0) {
+            log.warn("Redis counter for Event {} was behind the DB by {}. Lowering DB to match.", eventId, -adjustment);
+        }
+        return adjustment == null ? 0 : adjustment.intValue();
+    }
+
+    /**
+     * Take the counter back from Redis. Caller holds the row lock.
+     *
+     * @return un-flushed delta to apply to events.available_tickets
+     */
+    public int detach(Long eventId) {
+        Long delta = redisTemplate.execute(DETACH, List.of(counterKey(eventId), PENDING_KEY, MANAGED_KEY),
+                eventId.toString());
+        return delta == null ? 0 : delta.intValue();
+    }
+
+    // ========== WRITE-BEHIND ==========
+
+    @Scheduled(fixedDelayString = "${inventory.redis.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Set<Long> pendingIds = new TreeSet<>();
+            redisTemplate.opsForHash().keys(PENDING_KEY).forEach(k -> pendingIds.add(Long.valueOf(k.toString())));
+
+            List<Long> batch = new ArrayList<>(flushBatchSize);
+            for (Long id : pendingIds) {
+                batch.add(id);
+                if (batch.size() == flushBatchSize) {
+                    flushBatch(batch);
+                    batch = new ArrayList<>(flushBatchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                flushBatch(batch);
+            }
+        } catch (Exception e) {
+            log.error("Inventory write-behind failed: {}", e.getMessage());
+        }
+    }
+
+    private void flushBatch(List<Long> eventIds) {
+        List<Long> taken = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Same lock order as everyone else (ascending id) -> no deadlocks with detach/attach
+                eventRepository.lockInventoryRows(eventIds);
+                taken.addAll(takePending(eventIds));
+                for (int i = 0; i < eventIds.size(); i++) {
+                    long delta = taken.get(i);
+                    if (delta != 0) {
+                        eventRepository.applyInventoryDelta(eventIds.get(i), (int) delta);
+                    }
+                }
+            });
+            log.debug("Flushed inventory deltas for {} hot events", eventIds.size());
+        } catch (RuntimeException e) {
+            // DB write failed after draining the journal: put the deltas back for the next run
+            for (int i = 0; i < taken.size(); i++) {
+                if (taken.get(i) != 0) {
+                    redisTemplate.opsForHash().increment(PENDING_KEY, eventIds.get(i).toString(), taken.get(i));
+                }
+            }
+            throw e;
+        }
+    }
+
+    private List<Long> takePending(List<Long> eventIds) {
+        List<?> raw = redisTemplate.execute(TAKE_PENDING, List.of(PENDING_KEY),
+                eventIds.stream().map(String::valueOf).toArray(Object[]::new));
+        List<Long> deltas = new ArrayList<>(eventIds.size());
+        for (int i = 0; i < eventIds.size(); i++) {
+            deltas.add(raw != null && i < raw.size() ? ((Number) raw.get(i)).longValue() : 0L);
+        }
+        return deltas;
+    }
+
+    // ========== STARTUP RECONCILIATION ==========
+
+    /**
+     * 1. Write back anything the previous instance journaled but never flushed.
+     * 2. Attach every hot event (re-seeding counters Redis may have lost).
+     * 3. Detach counters for events that are no longer hot (or no longer exist).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            flush();
+
+            Set<Long> eventIds = new TreeSet<>(eventRepository.findHotEventIds());
+            Set<String> managed = redisTemplate.opsForSet().members(MANAGED_KEY);
+            if (managed != null) {
+                managed.forEach(id -> eventIds.add(Long.valueOf(id)));
+            }
+
+            for (Long eventId : eventIds) {
+                transactionTemplate.executeWithoutResult(status -> reconcile(eventId));
+            }
+            log.info("Redis inventory reconciled for {} events", eventIds.size());
+        } catch (Exception e) {
+            log.error("Redis inventory reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private void reconcile(Long eventId) {
+        Event event = eventRepository.findByIdLocked(eventId).orElse(null);
+        if (event == null) {
+            detach(eventId);
+            return;
+        }
+        if (Boolean.TRUE.equals(event.getHot())) {
+            int adjustment = attach(eventId, event.getAvailableTickets());
+            if (adjustment != 0) {
+                event.setAvailableTickets(event.getAvailableTickets() + adjustment);
+                eventRepository.save(event);
+            }
+        } else {
+            int delta = detach(eventId);
+            if (delta != 0) {
+                event.setAvailableTickets(event.getAvailableTickets() + delta);
+                eventRepository.save(event);
+            }
+        }
+    }
+
+    private static String counterKey(Long eventId) {
+        return COUNTER_PREFIX + eventId;
+    }
+}
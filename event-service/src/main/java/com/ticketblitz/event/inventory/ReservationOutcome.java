@@ -0,0 +1,11 @@
+package com.ticketblitz.event.inventory;
+
+/**
+ * Result of a reservation attempt against an in-front-of-Postgres inventory engine.
+ */
+public enum ReservationOutcome {
+    RESERVED,
+    SOLD_OUT,
+    /** The engine does not own this event's counter; caller must fall back to the DB path. */
+    NOT_MANAGED
+}
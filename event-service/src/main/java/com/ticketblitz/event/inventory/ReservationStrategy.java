@@ -0,0 +1,44 @@
+package com.ticketblitz.event.inventory;
+
+/**
+ * How EventService mutates inventory on reserve/release.
+ * Selected with the inventory.reservation-strategy property.
+ */
+public enum ReservationStrategy {
+
+    /**
+     * SELECT ... FOR UPDATE, check in Java, flush at commit.
+     * The row lock is held for the whole Hibernate round-trip.
+     */
+    PESSIMISTIC,
+
+    /**
+     * Single guarded UPDATE (available_tickets >= :count) ... RETURNING.
+     * The row lock is held only for the statement itself.
+     */
+    ATOMIC,
+
+    /**
+     * Lock-free read, then a version-checked compare-and-set on Event's @Version column.
+     * Retried on conflict up to inventory.optimistic.max-attempts times.
+     */
+    OPTIMISTIC,
+
+    /**
+     * Stock split over N event_inventory_shard rows (lazily, on first reservation).
+     * Each reservation locks one random bucket and falls over to siblings when it is empty.
+     */
+    SHARDED,
+
+    /**
+     * Single-writer mailboxes own the live counters in memory (ActorInventoryEngine).
+     * Changes go to an append-only journal and are checkpointed into the row in the background.
+     */
+    ACTOR,
+
+    /**
+     * One ticket_pool row per ticket (lazily, on first reservation). A reservation claims N free rows
+     * with FOR UPDATE SKIP LOCKED; available_tickets is refreshed from the pool in the background.
+     */
+    POOL
+}
@@ -0,0 +1,384 @@
+package com.ticketblitz.event.inventory;
+
+import java.util.Arrays;
+
+/**
+ * SEAT AVAILABILITY BITMAP (one section)
+ * Bit set = seat available. Every row starts on a word boundary, so a row never shares a word
+ * with its neighbour and block search only has to stitch words within the row.
+ *
+ * Best-N-adjacent search works on whole words: log2(N) shift-ANDs turn a row word into a mask of
+ * every position where N free seats start, so an 80k-seat section is a few thousand word ops.
+ * Adjacent blocks are limited to {@link #MAX_BLOCK} seats (one word of look-ahead).
+ *
+ * Persisted form ({@link #encode()}): header + either the packed bits or run lengths, whichever is
+ * smaller (an empty or sold-out section is a handful of bytes).
+ * NOT thread-safe: callers copy, mutate and publish under the section row lock.
+ */
+public final class SeatBitmap {
+
+    public static final int MAX_BLOCK = 64;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte KIND_RAW = 0;
+    private static final byte KIND_RUNS = 1;
+
+    private final int rows;
+    private final int seatsPerRow;
+    private final int stride;
+    private final long[] words;
+
+    private SeatBitmap(int rows, int seatsPerRow, long[] words) {
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.stride = (seatsPerRow + 63) >>> 6;
+        this.words = words;
+    }
+
+    public static SeatBitmap allAvailable(int rows, int seatsPerRow) {
+        if (rows < 1 || seatsPerRow < 1) {
+            throw new IllegalArgumentException("Section needs at least one row and one seat per row");
+        }
+        SeatBitmap bitmap = new SeatBitmap(rows, seatsPerRow, new long[rows * ((seatsPerRow + 63) >>> 6)]);
+        for (int row = 0; row < rows; row++) {
+            bitmap.setRange(row, 0, seatsPerRow, true);
+        }
+        return bitmap;
+    }
+
+    public SeatBitmap copy() {
+        return new SeatBitmap(rows, seatsPerRow, words.clone());
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int seatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public boolean isAvailable(int row, int seat) {
+        checkRange(row, seat, 1);
+        int bit = seat & 63;
+        return (words[row * stride + (seat >>> 6)] >>> bit & 1L) != 0;
+    }
+
+    public int available() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // ========== ALLOCATION ==========
+
+    /**
+     * Best block of {@code count} adjacent free seats: frontmost row first, then closest to the row centre.
+     *
+     * @return {row, firstSeat}, or null if no row has {@code count} adjacent free seats (or rows are shorter)
+     */
+    public int[] findBestBlock(int count) {
+        if (count < 1 || count > MAX_BLOCK) {
+            throw new IllegalArgumentException("Block size must be between 1 and " + MAX_BLOCK);
+        }
+        if (count > seatsPerRow) {
+            return null;
+        }
+        int target = (seatsPerRow - count) / 2; // Centred start
+        for (int row = 0; row < rows; row++) {
+            int base = row * stride;
+            int best = -1;
+            scan:
+            for (int w = 0; w < stride; w++) {
+                long lo = words[base + w];
+                if (lo == 0) {
+                    continue;
+                }
+                long starts = blockStarts(lo, w + 1 < stride ? words[base + w + 1] : 0L, count);
+                while (starts != 0) {
+                    int seat = (w << 6) + Long.numberOfTrailingZeros(starts);
+                    if (best < 0 || Math.abs(seat - target) < Math.abs(best - target)) {
+                        best = seat;
+                    } else if (seat > target) {
+                        break scan; // Candidates only move further from the centre now
+                    }
+                    starts &= starts - 1;
+                }
+            }
+            if (best >= 0) {
+                return new int[]{row, best};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bit i of the result is set iff seats i .. i+count-1 are all free, looking ahead into {@code next}.
+     */
+    static long blockStarts(long word, long next, int count) {
+        long lo = word;
+        long hi = next;
+        int span = 1;
+        while (span < count) {
+            int shift = Math.min(span, count - span);
+            lo &= (lo >>> shift) | (hi << (64 - shift));
+            hi &= hi >>> shift;
+            span += shift;
+        }
+        return lo;
+    }
+
+    public void take(int row, int firstSeat, int count) {
+        checkRange(row, firstSeat, count);
+        if (!allMatch(row, firstSeat, count, true)) {
+            throw new IllegalStateException("Seats already taken: row " + row + ", seats " + firstSeat + "-" + (firstSeat + count - 1));
+        }
+        setRange(row, firstSeat, count, false);
+    }
+
+    public void release(int row, int firstSeat, int count) {
+        checkRange(row, firstSeat, count);
+        if (!allMatch(row, firstSeat, count, false)) {
+            throw new IllegalStateException("Seats not taken: row " + row + ", seats " + firstSeat + "-" + (firstSeat + count - 1));
+        }
+        setRange(row, firstSeat, count, true);
+    }
+
+    private boolean allMatch(int row, int firstSeat, int count, boolean available) {
+        for (int seat = firstSeat; seat < firstSeat + count; seat++) {
+            if (isAvailable(row, seat) != available) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setRange(int row, int firstSeat, int count, boolean available) {
+        int seat = firstSeat;
+        int end = firstSeat + count;
+        while (seat < end) {
+            int bit = seat & 63;
+            int n = Math.min(64 - bit, end - seat);
+            long mask = (n == 64 ? -1L : (1L << n) - 1) << bit;
+            int index = row * stride + (seat >>> 6);
+            words[index] = available ? words[index] | mask : words[index] & ~mask;
+            seat += n;
+        }
+    }
+
+    private void checkRange(int row, int firstSeat, int count) {
+        if (row < 0 || row >= rows || firstSeat < 0 || count < 1 || firstSeat + count > seatsPerRow) {
+            throw new IllegalArgumentException("No such seats: row " + row + ", seats " + firstSeat + "-" + (firstSeat + count - 1));
+        }
+    }
+
+    // ========== PERSISTENCE ==========
+
+    public byte[] encode() {
+        ByteWriter runs = new ByteWriter();
+        int runCount = writeRuns(runs);
+        int rawBytes = (rows * seatsPerRow + 7) >>> 3;
+
+        ByteWriter out = new ByteWriter();
+        out.write(FORMAT_VERSION);
+        out.writeVarInt(rows);
+        out.writeVarInt(seatsPerRow);
+        if (runs.size() + 5 < rawBytes) {
+            out.write(KIND_RUNS);
+            out.writeVarInt(runCount);
+            out.writeAll(runs);
+        } else {
+            out.write(KIND_RAW);
+            writeRaw(out);
+        }
+        return out.toByteArray();
+    }
+
+    public static SeatBitmap decode(byte[] data) {
+        ByteReader in = new ByteReader(data);
+        if (in.read() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported seat bitmap format");
+        }
+        int rows = in.readVarInt();
+        int seatsPerRow = in.readVarInt();
+        SeatBitmap bitmap = new SeatBitmap(rows, seatsPerRow, new long[rows * ((seatsPerRow + 63) >>> 6)]);
+        byte kind = in.read();
+        if (kind == KIND_RUNS) {
+            bitmap.readRuns(in, in.readVarInt());
+        } else if (kind == KIND_RAW) {
+            bitmap.readRaw(in);
+        } else {
+            throw new IllegalArgumentException("Unknown seat bitmap encoding: " + kind);
+        }
+        return bitmap;
+    }
+
+    // Alternating run lengths over the seats in row-major order, starting with a (possibly empty) free run
+    private int writeRuns(ByteWriter out) {
+        boolean current = true;
+        int length = 0;
+        int runCount = 0;
+        for (int row = 0; row < rows; row++) {
+            int seat = 0;
+            while (seat < seatsPerRow) {
+                long word = words[row * stride + (seat >>> 6)] >>> (seat & 63);
+                int valid = Math.min(64 - (seat & 63), seatsPerRow - seat);
+                int same = Math.min(valid, Long.numberOfTrailingZeros(current ? ~word : word));
+                length += same;
+                seat += same;
+                if (same < valid) {
+                    out.writeVarInt(length);
+                    runCount++;
+                    current = !current;
+                    length = 0;
+                }
+            }
+        }
+        out.writeVarInt(length);
+        return runCount + 1;
+    }
+
+    private void readRuns(ByteReader in, int runCount) {
+        long position = 0;
+        boolean available = true;
+        for (int i = 0; i < runCount; i++) {
+            long length = in.readVarInt();
+            if (available) {
+                long seat = position;
+                long end = position + length;
+                while (seat < end) {
+                    int row = (int) (seat / seatsPerRow);
+                    int first = (int) (seat % seatsPerRow);
+                    int n = (int) Math.min(seatsPerRow - first, end - seat);
+                    setRange(row, first, n, true);
+                    seat += n;
+                }
+            }
+            position += length;
+            available = !available;
+        }
+        if (position != (long) rows * seatsPerRow) {
+            throw new IllegalArgumentException("Corrupt seat bitmap: runs cover " + position + " seats");
+        }
+    }
+
+    private void writeRaw(ByteWriter out) {
+        long buffer = 0;
+        int buffered = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int seat = 0; seat < seatsPerRow; seat += 8) {
+                int n = Math.min(8, seatsPerRow - seat);
+                long bits = words[row * stride + (seat >>> 6)] >>> (seat & 63) & ((1L << n) - 1);
+                buffer |= bits << buffered;
+                buffered += n;
+                if (buffered >= 8) {
+                    out.write((byte) buffer);
+                    buffer >>>= 8;
+                    buffered -= 8;
+                }
+            }
+        }
+        if (buffered > 0) {
+            out.write((byte) buffer);
+        }
+    }
+
+    private void readRaw(ByteReader in) {
+        int bit = 8;
+        for (int row = 0; row < rows; row++) {
+            for (int seat = 0; seat < seatsPerRow; seat++, bit++) {
+                if (bit == 8) {
+                    in.loadByte();
+                    bit = 0;
+                }
+                if (in.currentBit(bit)) {
+                    words[row * stride + (seat >>> 6)] |= 1L << (seat & 63);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SeatBitmap other && rows == other.rows && seatsPerRow == other.seatsPerRow
+                && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + seatsPerRow) + Arrays.hashCode(words);
+    }
+
+    private static final class ByteWriter {
+        private byte[] buffer = new byte[64];
+        private int size;
+
+        void write(byte b) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = b;
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((byte) value);
+        }
+
+        void writeAll(ByteWriter other) {
+            for (int i = 0; i < other.size; i++) {
+                write(other.buffer[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class ByteReader {
+        private final byte[] data;
+        private int position;
+        private int current;
+
+        ByteReader(byte[] data) {
+            this.data = data;
+        }
+
+        byte read() {
+            if (position >= data.length) {
+                throw new IllegalArgumentException("Truncated seat bitmap");
+            }
+            return data[position++];
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = read();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in seat bitmap");
+        }
+
+        void loadByte() {
+            current = read() & 0xFF;
+        }
+
+        boolean currentBit(int bit) {
+            return (current >>> bit & 1) != 0;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.entity.InventoryShard;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.InventoryShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SHARDED INVENTORY
+ * An event's stock lives in N event_inventory_shard rows instead of one events row, so up to N
+ * reservations commit in parallel. Availability = events.available_tickets + SUM(shards).
+ *
+ * Lock order (deadlock-free): events row -> shard rows by shard_no. Reservations only ever hold ONE
+ * shard lock and never the event row.
+ * reserve/release run inside the caller's transaction; split/merge require the event row lock.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedInventory {
+
+    private final InventoryShardRepository shardRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.reservation-strategy:PESSIMISTIC}")
+    private ReservationStrategy reservationStrategy = ReservationStrategy.PESSIMISTIC;
+
+    @Value("${inventory.sharded.shard-count:8}")
+    private int shardCount = 8;
+
+    public boolean isActive() {
+        return reservationStrategy == ReservationStrategy.SHARDED;
+    }
+
+    /**
+     * @return NOT_MANAGED if the event has not been split yet
+     */
+    public ReservationOutcome reserve(Long eventId, int count) {
+        // 1. Fast path: one blind guarded UPDATE on a random bucket
+        if (shardRepository.decrement(eventId, ThreadLocalRandom.current().nextInt(shardCount), count).isPresent()) {
+            return ReservationOutcome.RESERVED;
+        }
+
+        // 2. Fall over to siblings that can still satisfy the whole request
+        if (reserveFromSiblings(eventId, count)) {
+            return ReservationOutcome.RESERVED;
+        }
+        if (shardRepository.findShardNos(eventId).isEmpty()) {
+            return ReservationOutcome.NOT_MANAGED;
+        }
+
+        // 3. Stock may be fragmented (sum >= count, but no single bucket has enough):
+        //    lock every bucket, take the tickets from the pooled total and spread the rest evenly
+        if (reserveAcrossShards(eventId, count)) {
+            return ReservationOutcome.RESERVED;
+        }
+        log.warn("Sharded reservation failed: Insufficient inventory. Event: {}, Requested: {}", eventId, count);
+        return ReservationOutcome.SOLD_OUT;
+    }
+
+    private boolean reserveFromSiblings(Long eventId, int count) {
+        List<Integer> candidates = shardRepository.findShardsWithStock(eventId, count);
+        int offset = candidates.isEmpty() ? 0 : ThreadLocalRandom.current().nextInt(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            int shardNo = candidates.get((offset + i) % candidates.size());
+            if (shardRepository.decrement(eventId, shardNo, count).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return false if the event has not been split (caller applies the release to the events row)
+     */
+    public boolean release(Long eventId, int count) {
+        if (shardRepository.increment(eventId, ThreadLocalRandom.current().nextInt(shardCount), count).isPresent()) {
+            return true;
+        }
+        List<Integer> shardNos = shardRepository.findShardNos(eventId);
+        return !shardNos.isEmpty() && shardRepository.increment(eventId, shardNos.get(0), count).isPresent();
+    }
+
+    /**
+     * Move the row's stock into N buckets. Caller holds the event row lock. Idempotent.
+     */
+    public void split(Event event) {
+        if (!shardRepository.findShardNos(event.getId()).isEmpty()) {
+            return;
+        }
+        int total = event.getAvailableTickets();
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            shardRepository.save(InventoryShard.builder()
+                    .eventId(event.getId())
+                    .shardNo(shardNo)
+                    .availableTickets(share(total, shardNo))
+                    .build());
+        }
+        event.setAvailableTickets(0);
+        eventRepository.save(event);
+        log.info("Event {} split into {} inventory shards ({} tickets)", event.getId(), shardCount, total);
+    }
+
+    /**
+     * Fold all buckets back into the row. Caller holds the event row lock.
+     */
+    public void merge(Event event) {
+        List<InventoryShard> shards = shardRepository.findByEventIdLocked(event.getId());
+        if (shards.isEmpty()) {
+            return;
+        }
+        int total = shards.stream().mapToInt(InventoryShard::getAvailableTickets).sum();
+        shardRepository.deleteByEventId(event.getId());
+        event.setAvailableTickets(event.getAvailableTickets() + total);
+        eventRepository.save(event);
+        log.info("Event {} merged {} inventory shards back ({} tickets)", event.getId(), shards.size(), total);
+    }
+
+    /**
+     * Aggregate shard stock per event (one grouped query for a whole page).
+     */
+    public Map<Long, Integer> totals(Collection<Long> eventIds) {
+        Map<Long, Integer> totals = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return totals;
+        }
+        for (InventoryShardRepository.ShardTotal total : shardRepository.sumByEventIds(eventIds)) {
+            totals.put(total.getEventId(), total.getAvailableTickets().intValue());
+        }
+        return totals;
+    }
+
+    // ========== REBALANCING ==========
+
+    /**
+     * Spread stock evenly again once some buckets run dry, so the random fast path keeps hitting.
+     */
+    @Scheduled(fixedDelayString = "${inventory.sharded.rebalance-interval-ms:2000}")
+    public void rebalanceDryShards() {
+        if (!isActive()) {
+            return;
+        }
+        try {
+            for (Long eventId : shardRepository.findEventsNeedingRebalance()) {
+                transactionTemplate.executeWithoutResult(status -> rebalanceLocked(eventId));
+            }
+        } catch (Exception e) {
+            log.error("Shard rebalance failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean reserveAcrossShards(Long eventId, int count) {
+        List<InventoryShard> shards = shardRepository.findByEventIdLocked(eventId);
+        int total = shards.stream().mapToInt(InventoryShard::getAvailableTickets).sum();
+        if (total < count) {
+            return false;
+        }
+        redistribute(shards, total - count);
+        log.debug("Reserved {} tickets across {} shards of Event {}", count, shards.size(), eventId);
+        return true;
+    }
+
+    private void rebalanceLocked(Long eventId) {
+        List<InventoryShard> shards = shardRepository.findByEventIdLocked(eventId);
+        int total = shards.stream().mapToInt(InventoryShard::getAvailableTickets).sum();
+        redistribute(shards, total);
+        log.debug("Rebalanced {} shards of Event {} ({} tickets)", shards.size(), eventId, total);
+    }
+
+    private void redistribute(List<InventoryShard> shards, int total) {
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setAvailableTickets(total / shards.size() + (i < total % shards.size() ? 1 : 0));
+        }
+        shardRepository.saveAllAndFlush(shards);
+    }
+
+    private int share(int total, int shardNo) {
+        return total / shardCount + (shardNo < total % shardCount ? 1 : 0);
+    }
+
+    // ========== STARTUP ==========
+
+    /**
+     * Strategy switched away from SHARDED: fold leftover buckets back into their rows.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void mergeLeftoverShards() {
+        if (isActive()) {
+            return;
+        }
+        try {
+            for (Long eventId : shardRepository.findShardedEventIds()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        eventRepository.findByIdLocked(eventId).ifPresent(this::merge));
+            }
+        } catch (Exception e) {
+            log.error("Merging leftover inventory shards failed: {}", e.getMessage());
+        }
+    }
+}
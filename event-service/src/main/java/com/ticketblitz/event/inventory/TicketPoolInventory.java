@@ -0,0 +1,171 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.TicketPoolRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TICKET POOL INVENTORY
+ * Every ticket of an event is a ticket_pool row. A reservation claims N free rows with
+ * FOR UPDATE SKIP LOCKED, so concurrent buyers lock disjoint rows and never queue behind each other
+ * (nor behind the events row).
+ *
+ * events.available_tickets becomes a derived counter, refreshed every refresh-interval-ms.
+ * Trade-off: SKIP LOCKED can report SOLD_OUT while the last free rows are held by in-flight claims
+ * that later roll back. The next request sees them again.
+ *
+ * Each claim is tagged with the caller's claim id (hold token, or the X-Ticket-Claim handed to the booking),
+ * so a release flips back exactly the tickets that booking holds and their numbers can be reported.
+ * Untracked callers (cart, seat map, group commit) release by count among untracked rows only.
+ *
+ * Lock order: events row -> pool rows (populate/drain). Claims only ever lock pool rows.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketPoolInventory {
+
+    public static final String CLAIM_HEADER = "X-Ticket-Claim";
+    public static final String NUMBERS_HEADER = "X-Ticket-Numbers";
+
+    private final TicketPoolRepository poolRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.reservation-strategy:PESSIMISTIC}")
+    private ReservationStrategy reservationStrategy = ReservationStrategy.PESSIMISTIC;
+
+    public boolean isActive() {
+        return reservationStrategy == ReservationStrategy.POOL;
+    }
+
+    /**
+     * @param claimId tags the claimed tickets (null = untracked)
+     * @return NOT_MANAGED if the event has no pool yet
+     */
+    public ReservationOutcome reserve(Long eventId, int count, UUID claimId) {
+        List<Long> claimed = poolRepository.claim(eventId, count, claimId);
+        if (claimed.size() == count) {
+            return ReservationOutcome.RESERVED;
+        }
+        if (claimed.isEmpty() && !poolRepository.existsByEventId(eventId)) {
+            return ReservationOutcome.NOT_MANAGED;
+        }
+        if (!claimed.isEmpty()) {
+            poolRepository.unclaimIds(claimed); // All-or-nothing
+        }
+        log.warn("Pool reservation failed: Insufficient free tickets. Event: {}, Requested: {}, Claimable: {}",
+                eventId, count, claimed.size());
+        return ReservationOutcome.SOLD_OUT;
+    }
+
+    /**
+     * @param claimId the claim the tickets were reserved under (null = untracked)
+     * @return false if the event has no pool (caller applies the release to the events row)
+     */
+    public boolean release(Long eventId, int count, UUID claimId) {
+        List<Long> released = claimId != null
+                ? poolRepository.unclaim(claimId)
+                : poolRepository.unclaimUntracked(eventId, count);
+        if (released.isEmpty() && !poolRepository.existsByEventId(eventId)) {
+            return false;
+        }
+        if (claimId != null) {
+            if (released.size() != count) {
+                // Redelivered release (already back in the pool), or reserved before the event was pooled
+                log.warn("Pool release of claim {}: Event {}, requested {}, released {}", claimId, eventId, count, released.size());
+            }
+            return true;
+        }
+        int missing = count - released.size();
+        if (missing > 0) {
+            // Sold from the row counter before pooling: no claimed rows to flip back
+            int restocked = poolRepository.restock(eventId, missing);
+            if (restocked < missing) {
+                log.warn("Pool release short: Event {}, requested {}, released {}", eventId, count, released.size() + restocked);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the ticket numbers currently reserved under this claim, ascending
+     */
+    public List<Integer> ticketNumbers(UUID claimId) {
+        return poolRepository.findTicketNumbers(claimId);
+    }
+
+    /**
+     * One row per remaining ticket, numbered after the ones already sold. Caller holds the event row lock. Idempotent.
+     */
+    public void populate(Event event) {
+        if (poolRepository.existsByEventId(event.getId())) {
+            return;
+        }
+        int available = event.getAvailableTickets();
+        if (available > 0) {
+            int firstNo = event.getTotalTickets() - available + 1;
+            poolRepository.populate(event.getId(), firstNo, firstNo + available - 1);
+        }
+        log.info("Event {} moved to the ticket pool ({} tickets)", event.getId(), available);
+    }
+
+    /**
+     * Fold the pool back into the row counter. Caller holds the event row lock.
+     */
+    public void drain(Event event) {
+        if (!poolRepository.existsByEventId(event.getId())) {
+            return;
+        }
+        int available = (int) poolRepository.drain(event.getId());
+        event.setAvailableTickets(available);
+        eventRepository.save(event);
+        log.info("Event {} drained from the ticket pool ({} tickets)", event.getId(), available);
+    }
+
+    // ========== DERIVED COUNTER ==========
+
+    @Scheduled(fixedDelayString = "${inventory.pool.refresh-interval-ms:1000}")
+    public void refreshAvailableTickets() {
+        if (!isActive()) {
+            return;
+        }
+        try {
+            Integer updated = transactionTemplate.execute(status -> poolRepository.refreshAvailableTickets());
+            log.debug("Refreshed available_tickets of {} pooled events", updated);
+        } catch (Exception e) {
+            log.error("Ticket pool refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // ========== STARTUP ==========
+
+    /**
+     * Strategy switched away from POOL: fold leftover pools back into their rows.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainLeftoverPools() {
+        if (isActive()) {
+            return;
+        }
+        try {
+            for (Long eventId : poolRepository.findPooledEventIds()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        eventRepository.findByIdLocked(eventId).ifPresent(this::drain));
+            }
+        } catch (Exception e) {
+            log.error("Draining leftover ticket pools failed: {}", e.getMessage());
+        }
+    }
+}
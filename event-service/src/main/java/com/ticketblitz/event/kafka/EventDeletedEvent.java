@@ -0,0 +1,17 @@
+package com.ticketblitz.event.kafka;
+
+import org.springframework.context.ApplicationEvent;
+
+public class EventDeletedEvent extends ApplicationEvent {
+
+    private final Long eventId;
+
+    public EventDeletedEvent(Object source, Long eventId) {
+        super(source);
+        this.eventId = eventId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+}
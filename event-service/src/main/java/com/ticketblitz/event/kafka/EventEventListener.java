@@ -18,4 +18,10 @@ public class EventEventListener {
         log.info("Transaction committed. Publishing event-created to Kafka.");
         eventProducer.publishEventCreated(event.getEvent());
     }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventDeleted(EventDeletedEvent event) {
+        log.info("Transaction committed. Publishing event-deleted to Kafka.");
+        eventProducer.publishEventDeleted(event.getEventId());
+    }
 }
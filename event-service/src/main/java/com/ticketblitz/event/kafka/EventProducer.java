@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 public class EventProducer {
 
     public static final String TOPIC_EVENTS_CREATED = "ticketblitz.events.created";
+    public static final String TOPIC_EVENTS_DELETED = "ticketblitz.events.deleted";
 
     private final KafkaTemplate<String, EventDto> kafkaTemplate;
 
@@ -21,4 +22,10 @@ public class EventProducer {
         kafkaTemplate.send(TOPIC_EVENTS_CREATED, key, event);
         log.info("Published event-created to Kafka. topic={}, key={}", TOPIC_EVENTS_CREATED, key);
     }
+
+    public void publishEventDeleted(Long eventId) {
+        // Key = event id, no value
+        kafkaTemplate.send(TOPIC_EVENTS_DELETED, eventId.toString(), null);
+        log.info("Published event-deleted to Kafka. topic={}, key={}", TOPIC_EVENTS_DELETED, eventId);
+    }
 }
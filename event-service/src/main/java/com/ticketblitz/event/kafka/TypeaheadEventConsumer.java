@@ -0,0 +1,46 @@
+package com.ticketblitz.event.kafka;
+
+import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.service.TypeaheadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps this replica's typeahead index current. Every replica needs every message, so each one joins
+ * its own consumer group and starts at the latest offset (the startup build already read the DB).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TypeaheadEventConsumer {
+
+    private final TypeaheadService typeaheadService;
+
+    @KafkaListener(
+            topics = EventProducer.TOPIC_EVENTS_CREATED,
+            groupId = "event-typeahead-${random.uuid}",
+            autoStartup = "${typeahead.kafka.enabled:true}",
+            properties = {"auto.offset.reset=latest"}
+    )
+    public void onEventCreated(EventDto event) {
+        log.debug("Typeahead: indexing event {}", event != null ? event.id() : null);
+        typeaheadService.add(event);
+    }
+
+    @KafkaListener(
+            topics = EventProducer.TOPIC_EVENTS_DELETED,
+            groupId = "event-typeahead-${random.uuid}",
+            autoStartup = "${typeahead.kafka.enabled:true}",
+            properties = {"auto.offset.reset=latest"}
+    )
+    public void onEventDeleted(ConsumerRecord<String, ?> record) {
+        if (record.key() == null) {
+            return;
+        }
+        log.debug("Typeahead: removing event {}", record.key());
+        typeaheadService.remove(Long.valueOf(record.key()));
+    }
+}
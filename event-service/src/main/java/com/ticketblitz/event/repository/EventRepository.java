@@ -3,41 +3,144 @@ package com.ticketblitz.event.repository;
 import com.ticketblitz.event.entity.Event;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
+    // FULL-TEXT: Number of lexemes in the parsed query (0 = empty or stop words only)
+    @Query(value = "SELECT numnode(websearch_to_tsquery('english', :query))", nativeQuery = true)
+    int countSearchTerms(@Param("query") String query);
+
+    // FULL-TEXT: Ranked ids via the GIN index on search_vector. Keyset on (rank DESC, id ASC).
+    @Query(value = """
+            SELECT ranked.id AS id, ranked.rank AS rank FROM (
+                SELECT e.id, ts_rank(e.search_vector, q.query) AS rank
+                FROM events e
+                JOIN categories c ON c.id = e.category_id
+                CROSS JOIN websearch_to_tsquery('english', :query) AS q(query)
+                WHERE e.search_vector @@ q.query
+                AND e.date > :from
+                AND (CAST(:to AS timestamp) IS NULL OR e.date < CAST(:to AS timestamp))
+                AND (CAST(:category AS varchar) IS NULL OR c.name = CAST(:category AS varchar))
+                AND (CAST(:minPrice AS numeric) IS NULL OR e.price >= CAST(:minPrice AS numeric))
+                AND (CAST(:maxPrice AS numeric) IS NULL OR e.price <= CAST(:maxPrice AS numeric))
+            ) ranked
+            WHERE CAST(:afterRank AS real) IS NULL
+               OR ranked.rank < CAST(:afterRank AS real)
+               OR (ranked.rank = CAST(:afterRank AS real) AND ranked.id > CAST(:afterId AS bigint))
+            ORDER BY ranked.rank DESC, ranked.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<RankedId> searchRanked(@Param("query") String query,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to,
+                                @Param("category") String category,
+                                @Param("minPrice") BigDecimal minPrice,
+                                @Param("maxPrice") BigDecimal maxPrice,
+                                @Param("afterRank") Float afterRank,
+                                @Param("afterId") Long afterId,
+                                @Param("limit") int limit);
+
+    // KEYWORD FALLBACK (empty tsquery): Substring match, keyset on (date ASC, id ASC)
     @Query("""
-            SELECT e FROM Event e
-            WHERE e.date > CURRENT_TIMESTAMP
+            SELECT e.id AS id, e.date AS date FROM Event e
+            WHERE e.date > :from
+            AND (:to IS NULL OR e.date < :to)
             AND (
               :keyword IS NULL OR :keyword = '' OR
               LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
               LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
               LOWER(e.location) LIKE LOWER(CONCAT('%', :keyword, '%'))
             )
-            AND (:category IS NULL OR :category = '' OR e.category.name = :category)
+            AND (:category IS NULL OR e.category.name = :category)
             AND (:minPrice IS NULL OR e.price >= :minPrice)
             AND (:maxPrice IS NULL OR e.price <= :maxPrice)
+            AND (:afterDate IS NULL OR e.date > :afterDate OR (e.date = :afterDate AND e.id > :afterId))
+            ORDER BY e.date ASC, e.id ASC
             """)
-    Page<Event> searchEventsFallback(
-            @Param("keyword") String keyword,
-            @Param("category") String category,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable
-    );
+    List<DatedId> searchByKeyword(@Param("keyword") String keyword,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("category") String category,
+                                  @Param("minPrice") BigDecimal minPrice,
+                                  @Param("maxPrice") BigDecimal maxPrice,
+                                  @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    // FACETS: Counts per category and per price bucket in ONE scan (GROUPING SETS), full-text match (search_vector GIN index).
+    // Each facet skips its own filter (FILTER clauses). byPrice = 1 on price bucket rows. Bucket edges = EventFacets.PRICE_EDGES.
+    @Query(value = """
+            SELECT GROUPING(c.name) AS byPrice,
+                   c.name AS category,
+                   width_bucket(e.price, CAST(ARRAY[50, 100, 200, 500] AS numeric[])) AS priceBucket,
+                   CASE WHEN GROUPING(c.name) = 0
+                        THEN COUNT(*) FILTER (WHERE (CAST(:minPrice AS numeric) IS NULL OR e.price >= CAST(:minPrice AS numeric))
+                                             AND (CAST(:maxPrice AS numeric) IS NULL OR e.price <= CAST(:maxPrice AS numeric)))
+                        ELSE COUNT(*) FILTER (WHERE CAST(:category AS varchar) IS NULL OR c.name = CAST(:category AS varchar))
+                   END AS count
+            FROM events e
+            JOIN categories c ON c.id = e.category_id
+            WHERE e.search_vector @@ websearch_to_tsquery('english', :query)
+            AND e.date > :from
+            AND (CAST(:to AS timestamp) IS NULL OR e.date < CAST(:to AS timestamp))
+            GROUP BY GROUPING SETS ((c.name), (width_bucket(e.price, CAST(ARRAY[50, 100, 200, 500] AS numeric[]))))
+            """, nativeQuery = true)
+    List<FacetRow> countFacets(@Param("query") String query,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to,
+                               @Param("category") String category,
+                               @Param("minPrice") BigDecimal minPrice,
+                               @Param("maxPrice") BigDecimal maxPrice);
+
+    // FACETS, KEYWORD FALLBACK (query without searchable terms): same counts over the substring match
+    @Query(value = """
+            SELECT GROUPING(c.name) AS byPrice,
+                   c.name AS category,
+                   width_bucket(e.price, CAST(ARRAY[50, 100, 200, 500] AS numeric[])) AS priceBucket,
+                   CASE WHEN GROUPING(c.name) = 0
+                        THEN COUNT(*) FILTER (WHERE (CAST(:minPrice AS numeric) IS NULL OR e.price >= CAST(:minPrice AS numeric))
+                                             AND (CAST(:maxPrice AS numeric) IS NULL OR e.price <= CAST(:maxPrice AS numeric)))
+                        ELSE COUNT(*) FILTER (WHERE CAST(:category AS varchar) IS NULL OR c.name = CAST(:category AS varchar))
+                   END AS count
+            FROM events e
+            JOIN categories c ON c.id = e.category_id
+            WHERE e.date > :from
+            AND (CAST(:to AS timestamp) IS NULL OR e.date < CAST(:to AS timestamp))
+            AND (:keyword = ''
+                 OR LOWER(e.title) LIKE LOWER('%' || :keyword || '%')
+                 OR LOWER(e.description) LIKE LOWER('%' || :keyword || '%')
+                 OR LOWER(e.location) LIKE LOWER('%' || :keyword || '%'))
+            GROUP BY GROUPING SETS ((c.name), (width_bucket(e.price, CAST(ARRAY[50, 100, 200, 500] AS numeric[]))))
+            """, nativeQuery = true)
+    List<FacetRow> countFacetsByKeyword(@Param("keyword") String keyword,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("category") String category,
+                                        @Param("minPrice") BigDecimal minPrice,
+                                        @Param("maxPrice") BigDecimal maxPrice);
 
     // STANDARD: For reading without locking (Browsing events)
     Optional<Event> findById(Long id);
 
+    // READ MODEL: One event as a projection (category joined, images inline), one statement
+    @Query("""
+            SELECT new com.ticketblitz.event.repository.EventView(e.id, e.title, e.description, e.date, e.location,
+                   c.name, e.price, e.totalTickets, e.availableTickets, e.imageUrls)
+            FROM Event e JOIN e.category c
+            WHERE e.id = :id
+            """)
+    Optional<EventView> findViewById(@Param("id") Long id);
+
     // CRITICAL: For booking tickets.
     // PESSIMISTIC_WRITE issues a "SELECT ... FOR UPDATE" statement.
     // This physically locks the row in Postgres until the transaction finishes.
@@ -46,10 +149,203 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdLocked(@Param("id")Long id);
 
+    // ACTOR LOAD: never waits for the row lock (empty if missing OR locked; -2 = SKIP LOCKED).
+    // The holder may be waiting on the very mailbox that issues this.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")})
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> findByIdSkipLocked(@Param("id") Long id);
+
+    // ATOMIC: Guarded decrement in ONE statement. The row lock lives only as long as the UPDATE,
+    // and RETURNING hands back the new balance.
+    // Empty = event missing, not enough tickets, OR hot (counter owned by Redis) unless includeHot.
+    @Query(value = """
+            UPDATE events
+            SET available_tickets = available_tickets - :count,
+                version = COALESCE(version, 0) + 1
+            WHERE id = :id AND available_tickets >= :count
+            AND (:includeHot OR hot = FALSE)
+            RETURNING available_tickets
+            """, nativeQuery = true)
+    Optional<Integer> decrementAvailableTickets(@Param("id") Long id,
+                                                @Param("count") int count,
+                                                @Param("includeHot") boolean includeHot);
+
+    @Query(value = """
+            UPDATE events
+            SET available_tickets = available_tickets + :count,
+                version = COALESCE(version, 0) + 1
+            WHERE id = :id
+            AND (:includeHot OR hot = FALSE)
+            RETURNING available_tickets
+            """, nativeQuery = true)
+    Optional<Integer> incrementAvailableTickets(@Param("id") Long id,
+                                                @Param("count") int count,
+                                                @Param("includeHot") boolean includeHot);
+
+    // OPTIMISTIC: Lock-free read of the inventory columns only
+    @Query("""
+            SELECT e.availableTickets AS availableTickets, e.version AS version, e.hot AS hot
+            FROM Event e WHERE e.id = :id
+            """)
+    Optional<InventorySnapshot> findInventorySnapshot(@Param("id") Long id);
+
+    // BATCH: Inventory columns of many events in one query
+    @Query("SELECT e.id AS id, e.availableTickets AS availableTickets FROM Event e WHERE e.id IN :ids")
+    List<AvailabilityRow> findAvailability(@Param("ids") Collection<Long> ids);
+
+    // BATCH: Many events as projections in one statement (category joined, images inline)
     @Query("""
-            SELECT e FROM Event e
+            SELECT new com.ticketblitz.event.repository.EventView(e.id, e.title, e.description, e.date, e.location,
+                   c.name, e.price, e.totalTickets, e.availableTickets, e.imageUrls)
+            FROM Event e JOIN e.category c
+            WHERE e.id IN :ids
+            """)
+    List<EventView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // OPTIMISTIC: Compare-and-set on the @Version column. Returns 0 if someone else won the race.
+    // A NULL version (nullable since V1) counts as 0, as in the ATOMIC decrement; pass 0 for it.
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.availableTickets = :available, e.version = COALESCE(e.version, 0) + 1
+            WHERE e.id = :id AND COALESCE(e.version, 0) = :version
+            """)
+    int compareAndSetAvailableTickets(@Param("id") Long id,
+                                      @Param("available") int available,
+                                      @Param("version") Long version);
+
+    // READ MODEL: Soonest upcoming events as projections, one statement
+    @Query("""
+            SELECT new com.ticketblitz.event.repository.EventView(e.id, e.title, e.description, e.date, e.location,
+                   c.name, e.price, e.totalTickets, e.availableTickets, e.imageUrls)
+            FROM Event e JOIN e.category c
             WHERE e.date > CURRENT_TIMESTAMP
-            ORDER BY e.date ASC
+            ORDER BY e.date ASC, e.id ASC
+            """)
+    List<EventView> findLatestEvents(Pageable pageable);
+
+    // TYPEAHEAD: Just the indexed columns of every upcoming event
+    @Query("""
+            SELECT e.id AS id, e.title AS title, e.location AS location, e.category.name AS category, e.date AS date
+            FROM Event e WHERE e.date > CURRENT_TIMESTAMP
+            """)
+    List<TypeaheadRow> findUpcomingForTypeahead();
+
+    // EXPORT: Every upcoming event, one row each, in (date, id) order. Read through a server-side cursor:
+    // fetch size bounds the rows held at once, and scalar rows never enter the persistence context.
+    // Needs an open (read-only) transaction.
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT e.id AS id, e.title AS title, e.description AS description, e.date AS date, e.location AS location,
+                   c.name AS category, e.price AS price, e.totalTickets AS totalTickets,
+                   e.availableTickets AS availableTickets, e.imageUrls AS imageUrls
+            FROM Event e JOIN e.category c
+            WHERE e.date > :from
+            ORDER BY e.date, e.id
+            """)
+    Stream<ExportRow> streamUpcomingForExport(@Param("from") LocalDateTime from);
+
+    // HOT: Events whose counter is owned by Redis
+    @Query("SELECT e.id FROM Event e WHERE e.hot = true")
+    List<Long> findHotEventIds();
+
+    // WRITE-BEHIND: Lock a batch of rows in ascending id order (deadlock-free)
+    @Query(value = "SELECT id FROM events WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockInventoryRows(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.availableTickets = e.availableTickets + :delta, e.version = e.version + 1
+            WHERE e.id = :id
             """)
-    List<Event> findLatestEvents(Pageable pageable);
+    int applyInventoryDelta(@Param("id") Long id, @Param("delta") int delta);
+
+    // JOURNAL (ACTOR): Fold journaled deltas into the row and remember how far the journal was applied
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.availableTickets = e.availableTickets + :delta, e.version = e.version + 1,
+                e.journalLsn = CASE WHEN e.journalLsn < :lsn THEN :lsn ELSE e.journalLsn END
+            WHERE e.id = :id
+            """)
+    int applyJournalDelta(@Param("id") Long id, @Param("delta") int delta, @Param("lsn") long lsn);
+
+    @Query("SELECT e.id AS id, e.journalLsn AS journalLsn FROM Event e WHERE e.id IN :ids")
+    List<JournalPosition> findJournalPositions(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(e.journalLsn), 0) FROM Event e")
+    long findMaxJournalLsn();
+
+    interface RankedId {
+        Long getId();
+
+        Float getRank();
+    }
+
+    interface ExportRow {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        LocalDateTime getDate();
+
+        String getLocation();
+
+        String getCategory();
+
+        BigDecimal getPrice();
+
+        Integer getTotalTickets();
+
+        Integer getAvailableTickets();
+
+        List<String> getImageUrls();
+    }
+
+    interface FacetRow {
+        Integer getByPrice();
+
+        String getCategory();
+
+        Integer getPriceBucket();
+
+        Long getCount();
+    }
+
+    interface DatedId {
+        Long getId();
+
+        LocalDateTime getDate();
+    }
+
+    interface TypeaheadRow {
+        Long getId();
+
+        String getTitle();
+
+        String getLocation();
+
+        String getCategory();
+
+        LocalDateTime getDate();
+    }
+
+    interface AvailabilityRow {
+        Long getId();
+
+        Integer getAvailableTickets();
+    }
+
+    interface JournalPosition {
+        Long getId();
+
+        Long getJournalLsn();
+    }
 }
@@ -16,7 +16,7 @@ public class EventSpecification {
             return cb.isTrue(
                     cb.function("ts_match_vq", Boolean.class,
                             root.get("searchVector"),
-                            cb.function("web_search_to_tsquery", String.class,
+                            cb.function("websearch_to_tsquery", String.class,
                                     cb.literal("english"),
                                     cb.literal(keyword))
                     )
@@ -0,0 +1,23 @@
+package com.ticketblitz.event.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model of an event: the columns EventDto needs, category name joined in and the inline image URLs,
+ * all in ONE statement. No entity, so no eager category load and no dirty checking.
+ */
+public record EventView(
+        Long id,
+        String title,
+        String description,
+        LocalDateTime date,
+        String location,
+        String category,
+        BigDecimal price,
+        Integer totalTickets,
+        Integer availableTickets,
+        List<String> imageUrls
+) {
+}
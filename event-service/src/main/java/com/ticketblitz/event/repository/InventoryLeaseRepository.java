@@ -0,0 +1,28 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.InventoryLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface InventoryLeaseRepository extends JpaRepository<InventoryLease, String> {
+
+    // Renew our own lease, or take over one that has run out. 0 = someone else holds it.
+    @Modifying
+    @Query("""
+            UPDATE InventoryLease l SET l.owner = :owner, l.expiresAt = :until
+            WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)
+            """)
+    int claim(@Param("name") String name,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+
+    // Graceful shutdown: let the next instance take over without waiting for the expiry
+    @Modifying
+    @Query("UPDATE InventoryLease l SET l.expiresAt = :now WHERE l.name = :name AND l.owner = :owner")
+    int giveUp(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
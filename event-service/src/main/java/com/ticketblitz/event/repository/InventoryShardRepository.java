@@ -0,0 +1,77 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.InventoryShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface InventoryShardRepository extends JpaRepository<InventoryShard, Long> {
+
+    // Guarded decrement of ONE bucket. Only this shard row is locked, siblings stay free.
+    @Query(value = """
+            UPDATE event_inventory_shard
+            SET available_tickets = available_tickets - :count
+            WHERE event_id = :eventId AND shard_no = :shardNo AND available_tickets >= :count
+            RETURNING available_tickets
+            """, nativeQuery = true)
+    Optional<Integer> decrement(@Param("eventId") Long eventId,
+                                @Param("shardNo") int shardNo,
+                                @Param("count") int count);
+
+    @Query(value = """
+            UPDATE event_inventory_shard
+            SET available_tickets = available_tickets + :count
+            WHERE event_id = :eventId AND shard_no = :shardNo
+            RETURNING available_tickets
+            """, nativeQuery = true)
+    Optional<Integer> increment(@Param("eventId") Long eventId,
+                                @Param("shardNo") int shardNo,
+                                @Param("count") int count);
+
+    @Query("SELECT s.shardNo FROM InventoryShard s WHERE s.eventId = :eventId AND s.availableTickets >= :count")
+    List<Integer> findShardsWithStock(@Param("eventId") Long eventId, @Param("count") int count);
+
+    @Query("SELECT s.shardNo FROM InventoryShard s WHERE s.eventId = :eventId")
+    List<Integer> findShardNos(@Param("eventId") Long eventId);
+
+    // Rebalance / merge: lock every bucket in shard_no order (deadlock-free)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InventoryShard s WHERE s.eventId = :eventId ORDER BY s.shardNo")
+    List<InventoryShard> findByEventIdLocked(@Param("eventId") Long eventId);
+
+    @Query("""
+            SELECT s.eventId AS eventId, SUM(s.availableTickets) AS availableTickets
+            FROM InventoryShard s
+            WHERE s.eventId IN :eventIds
+            GROUP BY s.eventId
+            """)
+    List<ShardTotal> sumByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // Events where some buckets ran dry while siblings still hold at least one ticket per bucket
+    @Query("""
+            SELECT s.eventId FROM InventoryShard s
+            GROUP BY s.eventId
+            HAVING MIN(s.availableTickets) = 0 AND SUM(s.availableTickets) >= COUNT(s)
+            """)
+    List<Long> findEventsNeedingRebalance();
+
+    @Query("SELECT DISTINCT s.eventId FROM InventoryShard s")
+    List<Long> findShardedEventIds();
+
+    @Modifying
+    @Query("DELETE FROM InventoryShard s WHERE s.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    interface ShardTotal {
+        Long getEventId();
+
+        Long getAvailableTickets();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ticketblitz.event.repository;
+
+/**
+ * Lightweight projection of an event's inventory columns (no category/image joins).
+ */
+public interface InventorySnapshot {
+    Integer getAvailableTickets();
+
+    Long getVersion();
+
+    Boolean getHot();
+}
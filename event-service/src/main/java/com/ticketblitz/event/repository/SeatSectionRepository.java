@@ -0,0 +1,44 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.SeatSection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SeatSectionRepository extends JpaRepository<SeatSection, Long> {
+
+    List<SeatSection> findByEventIdOrderBySortOrderAscIdAsc(Long eventId);
+
+    // Allocation: one section row lock per reservation, siblings stay free
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
+    @Query("SELECT s FROM SeatSection s WHERE s.id = :id")
+    Optional<SeatSection> findByIdLocked(@Param("id") Long id);
+
+    // Allocation probe: no entity load, so the later locked read is never served a stale managed instance
+    @Query("""
+            SELECT s.id AS id, s.revision AS revision, s.availableSeats AS availableSeats
+            FROM SeatSection s
+            WHERE s.eventId = :eventId
+            ORDER BY s.sortOrder, s.id
+            """)
+    List<SectionState> findStatesByEventId(@Param("eventId") Long eventId);
+
+    @Query("SELECT COALESCE(MAX(s.sortOrder), -1) FROM SeatSection s WHERE s.eventId = :eventId")
+    int findMaxSortOrder(@Param("eventId") Long eventId);
+
+    interface SectionState {
+        Long getId();
+
+        Long getRevision();
+
+        Integer getAvailableSeats();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.HoldStatus;
+import com.ticketblitz.event.entity.TicketHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface TicketHoldRepository extends JpaRepository<TicketHold, UUID> {
+
+    // Guarded transitions: confirm and expiry race on the same row, exactly one of them wins
+    @Modifying
+    @Query("UPDATE TicketHold h SET h.status = :to WHERE h.token = :token AND h.status = :from")
+    int transition(@Param("token") UUID token, @Param("from") HoldStatus from, @Param("to") HoldStatus to);
+
+    @Modifying
+    @Query("DELETE FROM TicketHold h WHERE h.token = :token AND h.status = :status")
+    int deleteByTokenAndStatus(@Param("token") UUID token, @Param("status") HoldStatus status);
+
+    // Retention: confirmed holds outlive their TTL so a redelivered confirm still finds them
+    @Modifying
+    @Query("DELETE FROM TicketHold h WHERE h.status = :status AND h.expiresAt < :cutoff")
+    int deleteByStatusExpiredBefore(@Param("status") HoldStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    boolean existsByTokenAndStatus(UUID token, HoldStatus status);
+
+    @Query("""
+            SELECT COUNT(h) AS holds, COALESCE(SUM(h.ticketCount), 0) AS tickets
+            FROM TicketHold h
+            WHERE h.eventId = :eventId AND h.status = :status
+            """)
+    HoldTotal sumByEventId(@Param("eventId") Long eventId, @Param("status") HoldStatus status);
+
+    // Startup: re-arm the timing wheel
+    @Query("SELECT h.token AS token, h.expiresAt AS expiresAt FROM TicketHold h WHERE h.status = :status")
+    List<HoldDeadline> findAllDeadlines(@Param("status") HoldStatus status);
+
+    // Safety net for holds armed on an instance that died (one indexed range scan, not per-hold polling)
+    @Query("SELECT h.token FROM TicketHold h WHERE h.status = :status AND h.expiresAt < :cutoff")
+    List<UUID> findTokensExpiredBefore(@Param("status") HoldStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    interface HoldTotal {
+        Long getHolds();
+
+        Long getTickets();
+    }
+
+    interface HoldDeadline {
+        UUID getToken();
+
+        LocalDateTime getExpiresAt();
+    }
+}
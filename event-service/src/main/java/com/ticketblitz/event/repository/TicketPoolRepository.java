@@ -0,0 +1,109 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.PoolTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TicketPoolRepository extends JpaRepository<PoolTicket, Long> {
+
+    // Claim N free tickets for claimId (null = untracked). Rows locked by concurrent buyers are skipped, never waited on.
+    @Query(value = """
+            UPDATE ticket_pool
+            SET status = 'RESERVED', reserved_at = NOW(), claim_id = :claimId
+            WHERE id IN (
+                SELECT id FROM ticket_pool
+                WHERE event_id = :eventId AND status = 'AVAILABLE'
+                ORDER BY id
+                LIMIT :count
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> claim(@Param("eventId") Long eventId, @Param("count") int count, @Param("claimId") UUID claimId);
+
+    // Release exactly the tickets of one claim (waits for their row locks, never skips them)
+    @Query(value = """
+            UPDATE ticket_pool
+            SET status = 'AVAILABLE', reserved_at = NULL, claim_id = NULL
+            WHERE claim_id = :claimId AND status = 'RESERVED'
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> unclaim(@Param("claimId") UUID claimId);
+
+    // Untracked release: only untracked reservations are candidates, and in-flight locks are waited on (not skipped)
+    @Query(value = """
+            UPDATE ticket_pool
+            SET status = 'AVAILABLE', reserved_at = NULL
+            WHERE id IN (
+                SELECT id FROM ticket_pool
+                WHERE event_id = :eventId AND status = 'RESERVED' AND claim_id IS NULL
+                ORDER BY id DESC
+                LIMIT :count
+                FOR UPDATE
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> unclaimUntracked(@Param("eventId") Long eventId, @Param("count") int count);
+
+    // Partial claim: hand the rows we already hold back
+    @Modifying
+    @Query(value = "UPDATE ticket_pool SET status = 'AVAILABLE', reserved_at = NULL, claim_id = NULL WHERE id IN (:ids)", nativeQuery = true)
+    int unclaimIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.ticketNo FROM PoolTicket t WHERE t.claimId = :claimId AND t.status = 'RESERVED' ORDER BY t.ticketNo")
+    List<Integer> findTicketNumbers(@Param("claimId") UUID claimId);
+
+    // Numbers continue after the tickets already sold from the row counter
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_pool (event_id, ticket_no, status)
+            SELECT :eventId, n, 'AVAILABLE' FROM generate_series(:firstNo, :lastNo) AS n
+            """, nativeQuery = true)
+    int populate(@Param("eventId") Long eventId, @Param("firstNo") int firstNo, @Param("lastNo") int lastNo);
+
+    // Release of tickets sold before the event was pooled: they have no row yet, re-create the lowest missing numbers
+    @Modifying
+    @Query(value = """
+            INSERT INTO ticket_pool (event_id, ticket_no, status)
+            SELECT e.id, n, 'AVAILABLE'
+            FROM events e CROSS JOIN generate_series(1, e.total_tickets) AS n
+            WHERE e.id = :eventId
+              AND NOT EXISTS (SELECT 1 FROM ticket_pool t WHERE t.event_id = e.id AND t.ticket_no = n)
+            ORDER BY n
+            LIMIT :count
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int restock(@Param("eventId") Long eventId, @Param("count") int count);
+
+    boolean existsByEventId(Long eventId);
+
+    // Remove the pool, counting the free tickets as of the delete (waits for in-flight claims, unlike a plain COUNT)
+    @Query(value = """
+            WITH drained AS (DELETE FROM ticket_pool WHERE event_id = :eventId RETURNING status)
+            SELECT COUNT(*) FROM drained WHERE status = 'AVAILABLE'
+            """, nativeQuery = true)
+    long drain(@Param("eventId") Long eventId);
+
+    @Query("SELECT DISTINCT t.eventId FROM PoolTicket t")
+    List<Long> findPooledEventIds();
+
+    // Derived counter: copy the free-ticket count into events.available_tickets where it drifted
+    @Modifying
+    @Query(value = """
+            UPDATE events e
+            SET available_tickets = p.available
+            FROM (
+                SELECT event_id, COUNT(*) FILTER (WHERE status = 'AVAILABLE') AS available
+                FROM ticket_pool
+                GROUP BY event_id
+            ) p
+            WHERE e.id = p.event_id AND e.available_tickets <> p.available
+            """, nativeQuery = true)
+    int refreshAvailableTickets();
+}
@@ -0,0 +1,289 @@
+package com.ticketblitz.event.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PREFIX INDEX for typeahead over event titles, locations and categories.
+ * Base: every distinct token in one sorted String[]; a prefix is a binary-searched range of it, and
+ * each token points into one int[] of entry positions (CSR layout). Entries are stored date-ascending,
+ * so walking the matches in position order yields the soonest events first and can stop early.
+ *
+ * Title-prefix hits come from a second sorted array (titles), so the posting walk only has to find
+ * the remaining matches and stops as soon as the page is full.
+ *
+ * Immutable. Adds and removes return a new index sharing the base arrays plus a small delta,
+ * folded into a fresh base once it grows past {@link #MAX_DELTA}.
+ *
+ * Ranking: title starts with the query, then soonest date. Every query token must prefix some entry token.
+ */
+public final class TypeaheadIndex {
+
+    static final int MAX_DELTA = 1024;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Comparator<Entry> BY_DATE = Comparator.comparing(Entry::date).thenComparingLong(Entry::id);
+
+    public record Entry(long id, String title, String location, String category, LocalDateTime date) {
+    }
+
+    // Base (shared between versions)
+    private final Entry[] entries;
+    private final String[] tokenText;   // " tok1 tok2 ... " per entry, for the non-anchor tokens
+    private final String[] titleText;   // normalized title per entry, for ranking
+    private final String[] sortedTitles; // titleText sorted, for the title-prefix range
+    private final int[] titleOrder;      // entry position of each sortedTitles slot
+    private final String[] terms;
+    private final int[] postingStart;
+    private final int[] postings;
+
+    // Delta
+    private final Map<Long, Entry> added;
+    private final Set<Long> hidden;      // base ids removed or superseded by the delta
+
+    private TypeaheadIndex(Entry[] entries, String[] tokenText, String[] titleText, String[] sortedTitles,
+                           int[] titleOrder, String[] terms, int[] postingStart, int[] postings,
+                           Map<Long, Entry> added, Set<Long> hidden) {
+        this.entries = entries;
+        this.tokenText = tokenText;
+        this.titleText = titleText;
+        this.sortedTitles = sortedTitles;
+        this.titleOrder = titleOrder;
+        this.terms = terms;
+        this.postingStart = postingStart;
+        this.postings = postings;
+        this.added = added;
+        this.hidden = hidden;
+    }
+
+    public static TypeaheadIndex build(Collection<Entry> source) {
+        Entry[] entries = source.toArray(Entry[]::new);
+        Arrays.sort(entries, BY_DATE);
+        String[] tokenText = new String[entries.length];
+        String[] titleText = new String[entries.length];
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            Set<String> tokens = tokensOf(entries[i]);
+            tokenText[i] = " " + String.join(" ", tokens) + " ";
+            titleText[i] = String.join(" ", tokenize(entries[i].title()));
+            for (String token : tokens) {
+                postingLists.computeIfAbsent(token, t -> new ArrayList<>()).add(i);
+            }
+        }
+
+        String[] terms = postingLists.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        int[] postingStart = new int[terms.length + 1];
+        int total = 0;
+        for (int t = 0; t < terms.length; t++) {
+            postingStart[t] = total;
+            total += postingLists.get(terms[t]).size();
+        }
+        postingStart[terms.length] = total;
+        int[] postings = new int[total];
+        for (int t = 0; t < terms.length; t++) {
+            int p = postingStart[t];
+            for (int position : postingLists.get(terms[t])) {
+                postings[p++] = position;
+            }
+        }
+
+        Integer[] byTitle = new Integer[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            byTitle[i] = i;
+        }
+        Arrays.sort(byTitle, Comparator.comparing((Integer i) -> titleText[i]).thenComparingInt(i -> i));
+        int[] titleOrder = new int[entries.length];
+        String[] sortedTitles = new String[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            titleOrder[i] = byTitle[i];
+            sortedTitles[i] = titleText[byTitle[i]];
+        }
+        return new TypeaheadIndex(entries, tokenText, titleText, sortedTitles, titleOrder, terms, postingStart, postings,
+                Map.of(), Set.of());
+    }
+
+    public TypeaheadIndex withAdded(Entry entry) {
+        Map<Long, Entry> nextAdded = new HashMap<>(added);
+        nextAdded.put(entry.id(), entry);
+        Set<Long> nextHidden = new HashSet<>(hidden);
+        nextHidden.add(entry.id());
+        return compactIfLarge(nextAdded, nextHidden);
+    }
+
+    public TypeaheadIndex withRemoved(long id) {
+        Map<Long, Entry> nextAdded = new HashMap<>(added);
+        nextAdded.remove(id);
+        Set<Long> nextHidden = new HashSet<>(hidden);
+        nextHidden.add(id);
+        return compactIfLarge(nextAdded, nextHidden);
+    }
+
+    private TypeaheadIndex compactIfLarge(Map<Long, Entry> nextAdded, Set<Long> nextHidden) {
+        TypeaheadIndex next = new TypeaheadIndex(entries, tokenText, titleText, sortedTitles, titleOrder, terms,
+                postingStart, postings, Map.copyOf(nextAdded), Set.copyOf(nextHidden));
+        return nextAdded.size() + nextHidden.size() > MAX_DELTA ? build(next.entries()) : next;
+    }
+
+    /**
+     * Live entries (base minus hidden, plus the delta).
+     */
+    public List<Entry> entries() {
+        List<Entry> live = new ArrayList<>(entries.length + added.size());
+        for (Entry entry : entries) {
+            if (!hidden.contains(entry.id())) {
+                live.add(entry);
+            }
+        }
+        live.addAll(added.values());
+        return live;
+    }
+
+    public int size() {
+        return entries.length - (int) Arrays.stream(entries).filter(e -> hidden.contains(e.id())).count() + added.size();
+    }
+
+    // ========== QUERY ==========
+
+    /**
+     * @return up to {@code limit} events after {@code now} matching every token of {@code query} as a prefix
+     */
+    public List<Entry> suggest(String query, LocalDateTime now, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        String phrase = String.join(" ", tokens);
+        String anchor = tokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        int firstUpcoming = firstAfter(now);
+
+        // Title starts with the phrase: every token already matches, keep the soonest `limit` positions
+        int[] best = new int[limit];
+        int found = 0;
+        int titlesTo = lowerBound(sortedTitles, phrase + Character.MAX_VALUE);
+        for (int t = lowerBound(sortedTitles, phrase); t < titlesTo; t++) {
+            int position = titleOrder[t];
+            if (position < firstUpcoming || hidden.contains(entries[position].id())
+                    || (found == limit && position > best[limit - 1])) {
+                continue;
+            }
+            int slot = found < limit ? found++ : limit - 1;
+            while (slot > 0 && best[slot - 1] > position) {
+                best[slot] = best[slot - 1];
+                slot--;
+            }
+            best[slot] = position;
+        }
+        List<Entry> leading = new ArrayList<>();
+        for (int i = 0; i < found; i++) {
+            leading.add(entries[best[i]]);
+        }
+
+        // Everything else: union of the posting lists of every term starting with the anchor, walked in date order
+        List<Entry> others = new ArrayList<>();
+        BitSet matches = new BitSet(entries.length);
+        int termsTo = lowerBound(terms, anchor + Character.MAX_VALUE);
+        for (int t = lowerBound(terms, anchor); t < termsTo; t++) {
+            for (int p = postingStart[t]; p < postingStart[t + 1]; p++) {
+                matches.set(postings[p]);
+            }
+        }
+        for (int i = matches.nextSetBit(firstUpcoming); i >= 0 && leading.size() + others.size() < limit;
+             i = matches.nextSetBit(i + 1)) {
+            if (!titleText[i].startsWith(phrase) && !hidden.contains(entries[i].id()) && containsAll(tokenText[i], tokens)) {
+                others.add(entries[i]);
+            }
+        }
+
+        for (Entry entry : added.values()) {
+            if (entry.date().isAfter(now) && containsAll(" " + String.join(" ", tokensOf(entry)) + " ", tokens)) {
+                (String.join(" ", tokenize(entry.title())).startsWith(phrase) ? leading : others).add(entry);
+            }
+        }
+
+        leading.sort(BY_DATE);
+        others.sort(BY_DATE);
+        List<Entry> result = new ArrayList<>(limit);
+        for (List<Entry> group : List.of(leading, others)) {
+            for (Entry entry : group) {
+                if (result.size() == limit) {
+                    return result;
+                }
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First base position dated after {@code now} (entries are date-ascending).
+     */
+    private int firstAfter(LocalDateTime now) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].date().isAfter(now)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean containsAll(String text, List<String> tokens) {
+        for (String token : tokens) {
+            if (!text.contains(" " + token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokensOf(Entry entry) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(entry.title()));
+        tokens.addAll(tokenize(entry.location()));
+        tokens.addAll(tokenize(entry.category()));
+        return tokens;
+    }
+
+    /**
+     * Lower case, accents stripped, split on anything that is not a letter or digit.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARATORS.split(folded)).filter(token -> !token.isEmpty()).toList();
+    }
+}
@@ -1,29 +1,265 @@
 package com.ticketblitz.event.service;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * AUDIT PIPELINE
+ * The request thread only captures the fields (no formatting, no clock object, no I/O) and offers them to a
+ * lock-free ring ({@link AuditRingBuffer}). One writer thread drains it in batches and appends JSON lines
+ * to {@code audit.file}, flushing once per batch. The file rolls daily to audit.{yyyy-MM-dd}.jsonl,
+ * keeping max-history-days of them.
+ *
+ * OVERFLOW (ring full): DROP (default) never slows a request, BLOCK waits up to block-timeout-ms for the
+ * writer before dropping. Every drop is counted (audit.records{result=dropped}).
+ */
 @Component
+@Slf4j
 public class AuditLogger {
-    private static final Logger AUDIT_LOG = LoggerFactory.getLogger("audit-logger");
+
+    static final int BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public enum Overflow { DROP, BLOCK }
+
+    record AuditRecord(long epochMillis, String traceId, String userId, String action, String details,
+                       long durationNs, boolean success) {
+    }
+
+    private final Counter written;
+    private final Counter dropped;
+    private final JsonFactory jsonFactory = new JsonFactory().setRootValueSeparator(null);
+
+    @Value("${audit.file:logs/audit.jsonl}")
+    private String file = "logs/audit.jsonl";
+
+    @Value("${audit.buffer-size:8192}")
+    private int bufferSize = 8192;
+
+    @Value("${audit.overflow:DROP}")
+    private Overflow overflow = Overflow.DROP;
+
+    @Value("${audit.block-timeout-ms:50}")
+    private long blockTimeoutMs = 50;
+
+    @Value("${audit.max-history-days:30}")
+    private int maxHistoryDays = 30;
+
+    private AuditRingBuffer<AuditRecord> ring;
+    private Thread writer;
+    private volatile boolean running;
+    private volatile boolean writerParked;
+
+    // Writer thread only
+    private Path path;
+    private LocalDate openDay;
+    private JsonGenerator json;
+
+    public AuditLogger(MeterRegistry meterRegistry) {
+        this.written = meterRegistry.counter("audit.records", "result", "written");
+        this.dropped = meterRegistry.counter("audit.records", "result", "dropped");
+    }
+
+    @PostConstruct
+    public void init() {
+        open();
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::writeLoop);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        close();
+    }
 
     public void log(String userId, String action, String details, long durationNs, boolean success) {
-        String traceId = MDC.get("traceId"); // Will be populated by Micrometer/Sleuth later
-        if (traceId == null) traceId = "N/A";
-
-        // Format: [TRACE_ID] [TIME] [USER_ID] Action: {ActionName} | Duration: {ns} | Result: {Success/Fail}
-        String logEntry = String.format("[%s] [%s] [%s] Action: %s | Details: %s | Duration: %d ns | Result: %s",
-                traceId,
-                java.time.Instant.now(),
-                userId,
-                action,
-                details,
-                durationNs,
-                success ? "Success" : "Fail"
-        );
-
-        AUDIT_LOG.info(logEntry);
+        AuditRecord record = new AuditRecord(System.currentTimeMillis(), MDC.get("traceId"), userId, action, details,
+                durationNs, success);
+        if (!ring.offer(record) && !(overflow == Overflow.BLOCK && offerWaiting(record))) {
+            dropped.increment();
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private boolean offerWaiting(AuditRecord record) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        while (System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(50_000);
+            if (ring.offer(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ========== WRITER ==========
+
+    private void writeLoop() {
+        while (running || !ring.isEmpty()) {
+            if (writeBatch() == 0 && running) {
+                writerParked = true;
+                if (ring.isEmpty()) { // Re-check: a producer may have offered before seeing the flag
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+            }
+        }
+    }
+
+    /**
+     * Encodes up to BATCH_SIZE queued records and flushes them in one write.
+     */
+    int writeBatch() {
+        try {
+            int count = ring.drainTo(this::encode, BATCH_SIZE);
+            if (count > 0) {
+                json.flush();
+                written.increment(count);
+            }
+            return count;
+        } catch (IOException e) {
+            log.error("Audit flush failed: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void encode(AuditRecord record) {
+        try {
+            Instant at = Instant.ofEpochMilli(record.epochMillis());
+            LocalDate day = LocalDate.ofInstant(at, ZoneId.systemDefault());
+            if (!day.equals(openDay)) {
+                roll(day);
+            }
+            json.writeStartObject();
+            json.writeStringField("ts", at.toString());
+            json.writeStringField("traceId", record.traceId() != null ? record.traceId() : "N/A");
+            json.writeStringField("userId", record.userId());
+            json.writeStringField("action", record.action());
+            json.writeStringField("details", record.details());
+            json.writeNumberField("durationNs", record.durationNs());
+            json.writeBooleanField("success", record.success());
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            dropped.increment(); // Already taken off the ring: count it rather than stall the batch
+            log.error("Audit write failed: {}", e.getMessage());
+        }
+    }
+
+    // ========== FILE ==========
+
+    void open() {
+        ring = new AuditRingBuffer<>(bufferSize);
+        path = Path.of(file);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            LocalDate today = LocalDate.now();
+            if (Files.exists(path)) {
+                LocalDate lastWritten = LocalDate.ofInstant(Files.getLastModifiedTime(path).toInstant(), ZoneId.systemDefault());
+                if (lastWritten.isBefore(today)) { // Left over from a previous day's run
+                    Files.move(path, rolledPath(lastWritten), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            openGenerator(today);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open audit file " + path, e);
+        }
+    }
+
+    private void roll(LocalDate day) throws IOException {
+        json.close();
+        Files.move(path, rolledPath(openDay), StandardCopyOption.REPLACE_EXISTING);
+        openGenerator(day);
+        deleteExpired(day);
+    }
+
+    private void openGenerator(LocalDate day) throws IOException {
+        json = jsonFactory.createGenerator(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        openDay = day;
+    }
+
+    private void deleteExpired(LocalDate today) throws IOException {
+        String prefix = baseName() + ".";
+        try (Stream<Path> files = Files.list(path.toAbsolutePath().getParent())) {
+            for (Path rolled : files.toList()) {
+                String name = rolled.getFileName().toString();
+                if (!name.startsWith(prefix) || !name.endsWith(extension())) {
+                    continue;
+                }
+                try {
+                    LocalDate day = LocalDate.parse(name.substring(prefix.length(), name.length() - extension().length()));
+                    if (day.isBefore(today.minusDays(maxHistoryDays))) {
+                        Files.deleteIfExists(rolled);
+                    }
+                } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+                    // Not one of ours
+                }
+            }
+        }
+    }
+
+    private void close() {
+        try {
+            if (json != null) {
+                json.close();
+            }
+        } catch (IOException e) {
+            log.warn("Could not close audit file: {}", e.getMessage());
+        }
+    }
+
+    // logs/audit.jsonl -> logs/audit.2026-10-17.jsonl
+    Path rolledPath(LocalDate day) {
+        return path.resolveSibling(baseName() + "." + day + extension());
+    }
+
+    private String baseName() {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private String extension() {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(dot) : "";
     }
 }
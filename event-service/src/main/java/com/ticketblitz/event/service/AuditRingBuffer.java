@@ -0,0 +1,85 @@
+package com.ticketblitz.event.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * BOUNDED LOCK-FREE RING (many producers, ONE consumer).
+ * Each slot carries a sequence number: a producer claims position p with one CAS on the tail once the slot's
+ * sequence says it is free (== p), fills it, then publishes it (sequence p + 1). The consumer takes slots in
+ * order and frees them for the next lap (sequence p + capacity). A full ring fails the offer instead of waiting.
+ */
+final class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // Written by the consumer only
+
+    AuditRingBuffer(int requestedCapacity) {
+        capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1; // Next power of two
+        mask = capacity - 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return false if the ring is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long gap = sequences.get(index) - position;
+            if (gap == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1); // Publish
+                    return true;
+                }
+                position = tail.get();
+            } else if (gap < 0) {
+                return false; // Slot still holds last lap's element: full
+            } else {
+                position = tail.get(); // Another producer took it
+            }
+        }
+    }
+
+    /**
+     * Consumer only. Hands up to {@code max} published elements to {@code sink}, in offer order.
+     */
+    int drainTo(Consumer<E> sink, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break; // Not published yet
+            }
+            E element = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, position + capacity); // Free for the next lap
+            position++;
+            drained++;
+            sink.accept(element);
+        }
+        head = position;
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticketblitz.event.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.inventory.ShardedInventory;
+import com.ticketblitz.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * STREAMING EXPORT of every upcoming event as one JSON array.
+ * Rows come off a server-side DB cursor (EventRepository.streamUpcomingForExport) and are written as they
+ * arrive, CHUNK_SIZE events at a time (one sharded-inventory lookup per chunk), so heap use stays flat
+ * however large the catalog is.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventExportService {
+
+    static final int CHUNK_SIZE = 500; // Matches the fetch size of the export query
+    public static final int TIMEOUT_SECONDS = 120; // Transaction (statement) and async request limit
+
+    private final EventRepository eventRepository;
+    private final ShardedInventory shardedInventory;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Runs on the response thread: the transaction keeps the cursor open until the last row is written,
+     * for at most TIMEOUT_SECONDS (the controller gives the async request the same limit).
+     */
+    @Transactional(readOnly = true, timeout = TIMEOUT_SECONDS)
+    public void exportUpcomingEvents(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        int exported = 0;
+        try (Stream<EventRepository.ExportRow> rows = eventRepository.streamUpcomingForExport(LocalDateTime.now());
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // The container owns the response stream
+            json.writeStartArray();
+
+            List<EventDto> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<EventRepository.ExportRow> it = rows.iterator();
+            while (it.hasNext()) {
+                chunk.add(toDto(it.next()));
+                if (chunk.size() == CHUNK_SIZE) {
+                    exported += writeChunk(json, chunk);
+                }
+            }
+            exported += writeChunk(json, chunk);
+            json.writeEndArray();
+        }
+        log.info("Exported {} upcoming events in {} ms", exported, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private int writeChunk(JsonGenerator json, List<EventDto> chunk) throws IOException {
+        // SHARDED: stock lives in the buckets, so the row alone under-reports availability
+        Map<Long, Integer> buckets = shardedInventory.isActive() && !chunk.isEmpty()
+                ? shardedInventory.totals(chunk.stream().map(EventDto::id).toList())
+                : Map.of();
+        for (EventDto dto : chunk) {
+            Integer bucket = buckets.get(dto.id());
+            json.writeObject(bucket != null ? dto.withAvailableTickets(dto.availableTickets() + bucket) : dto);
+        }
+        json.flush();
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    private static EventDto toDto(EventRepository.ExportRow row) {
+        return new EventDto(row.getId(), row.getTitle(), row.getDescription(), row.getDate(), row.getLocation(),
+                row.getCategory(), row.getPrice(), row.getTotalTickets(), row.getAvailableTickets(),
+                row.getImageUrls() != null ? row.getImageUrls() : List.of());
+    }
+}
@@ -1,29 +1,60 @@
 package com.ticketblitz.event.service;
 
+import com.ticketblitz.event.cache.AvailabilityCache;
+import com.ticketblitz.event.cache.RefreshingCacheLoader;
+import com.ticketblitz.event.cache.SearchResultCache;
+import com.ticketblitz.event.dto.CartLine;
 import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.dto.EventFacets;
 import com.ticketblitz.event.dto.EventSearchCriteria;
+import com.ticketblitz.event.dto.EventSearchPage;
+import com.ticketblitz.event.dto.SearchCursor;
 import com.ticketblitz.event.entity.Category;
 import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.inventory.ActorInventoryEngine;
+import com.ticketblitz.event.inventory.RedisInventoryEngine;
+import com.ticketblitz.event.inventory.ReservationOutcome;
+import com.ticketblitz.event.inventory.ReservationStrategy;
+import com.ticketblitz.event.inventory.ShardedInventory;
+import com.ticketblitz.event.inventory.TicketPoolInventory;
 import com.ticketblitz.event.kafka.EventCreatedEvent;
+import com.ticketblitz.event.kafka.EventDeletedEvent;
 import com.ticketblitz.event.repository.CategoryRepository;
 import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.EventView;
+import com.ticketblitz.event.repository.InventorySnapshot;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -34,24 +65,216 @@ public class EventService {
     private final CategoryRepository categoryRepository;
     private final MinioService minioService;
     private final AuditLogger auditLogger;
+    private final RedisInventoryEngine redisInventory;
+    private final ShardedInventory shardedInventory;
+    private final ActorInventoryEngine actorInventory;
+    private final TicketPoolInventory ticketPool;
+    private final CacheManager cacheManager;
+    private final AvailabilityCache availabilityCache;
+    private final RefreshingCacheLoader cacheLoader;
+    private final SearchResultCache searchResultCache;
+    private final TransactionTemplate transactionTemplate;
 
     // NEW: publish internal Spring event; Kafka send occurs AFTER_COMMIT via @TransactionalEventListener
     private final ApplicationEventPublisher applicationEventPublisher;
 
+    @Value("${inventory.reservation-strategy:PESSIMISTIC}")
+    private ReservationStrategy reservationStrategy = ReservationStrategy.PESSIMISTIC;
+
+    @Value("${inventory.optimistic.max-attempts:5}")
+    private int optimisticMaxAttempts = 5;
+
     /**
      * TRANSACTIONAL BOUNDARY
-     * The lock is acquired when findByIdLocked() is called.
-     * The lock is released ONLY when this method returns (Transaction commit/rollback).
+     * PESSIMISTIC: The lock is acquired when findByIdLocked() is called and released
+     * ONLY when this method returns (Transaction commit/rollback).
+     * ATOMIC / OPTIMISTIC: see ReservationStrategy.
+     * ACTOR: no transaction at all (see inventoryTransaction).
+     * HOT events never touch the row: Redis owns the counter (RedisInventoryEngine).
+     * The cached metadata stays put; only the live availability counter is adjusted (after commit).
      */
-    @Transactional
-    @CacheEvict(value = "events", key = "#eventId") // Invalidate cache on reservation
     public boolean reserveTickets(Long eventId, int count) {
-        log.info("Attempting to reserve {} tickets for Event {}", count, eventId);
+        return reserveTickets(eventId, count, null);
+    }
+
+    /**
+     * @param claimId POOL: tags the claimed tickets, so releaseTickets with the same claim gives back exactly
+     *                these (see claimedTickets). Ignored by the counter strategies. Null = untracked.
+     */
+    public boolean reserveTickets(Long eventId, int count, UUID claimId) {
+        log.info("Attempting to reserve {} tickets for Event {} ({})", count, eventId, reservationStrategy);
+        return inventoryTransaction(() -> {
+            boolean reserved = reserveRouted(eventId, count, claimId);
+            if (reserved) {
+                availabilityCache.adjustAfterCommit(eventId, -count);
+            }
+            return reserved;
+        });
+    }
+
+    /**
+     * ACTOR reservations run no SQL on the caller's side, so they must not pin a pooled connection while
+     * they wait on the mailbox and its fsync (the mailbox may need a connection of its own to load a counter).
+     * Their rare row-lock fallbacks open a transaction just for themselves.
+     */
+    private <T> T inventoryTransaction(Supplier<T> work) {
+        if (reservationStrategy == ReservationStrategy.ACTOR) {
+            return work.get();
+        }
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    /**
+     * GROUP COMMIT (see ReservationBatcher)
+     * Applies many requests for ONE event in ONE transaction / row lock. Requests are granted in FIFO
+     * order, each against the stock left by the ones before it (same outcome as running them serially).
+     * Hot, SHARDED, ACTOR and POOL events already avoid the single row lock, so they are reserved request by request.
+     */
+    public List<Boolean> reserveTicketsBatch(Long eventId, List<Integer> counts) {
+        log.info("Group-commit reservation: {} requests for Event {}", counts.size(), eventId);
+        return inventoryTransaction(() -> reserveBatchRouted(eventId, counts));
+    }
+
+    private List<Boolean> reserveBatchRouted(Long eventId, List<Integer> counts) {
+        List<Boolean> granted = new ArrayList<>(counts.size());
+
+        if (reservationStrategy == ReservationStrategy.SHARDED || reservationStrategy == ReservationStrategy.ACTOR
+                || reservationStrategy == ReservationStrategy.POOL || redisInventory.isManaged(eventId)) {
+            counts.forEach(count -> granted.add(reserveRouted(eventId, count)));
+            availabilityCache.adjustAfterCommit(eventId, -grantedTickets(counts, granted)); // One adjustment per batch
+            return granted;
+        }
+
+        Event event = lockEvent(eventId);
+        if (isHotManaged(event.getHot())) {
+            counts.forEach(count -> granted.add(reserveHotLocked(event, count)));
+            availabilityCache.adjustAfterCommit(eventId, -grantedTickets(counts, granted));
+            return granted;
+        }
+
+        int available = event.getAvailableTickets();
+        for (int count : counts) {
+            boolean ok = available >= count;
+            if (ok) {
+                available -= count;
+            }
+            granted.add(ok);
+        }
+        event.setAvailableTickets(available);
+        eventRepository.save(event);
+        availabilityCache.adjustAfterCommit(eventId, -grantedTickets(counts, granted));
+
+        log.info("Group-commit reservation done. Granted: {}/{}, New availability: {}",
+                granted.stream().filter(Boolean::booleanValue).count(), counts.size(), available);
+        return granted;
+    }
+
+    private static int grantedTickets(List<Integer> counts, List<Boolean> granted) {
+        int total = 0;
+        for (int i = 0; i < counts.size(); i++) {
+            if (granted.get(i)) {
+                total += counts.get(i);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * MULTI-EVENT CART (all-or-nothing)
+     * Lines for the same event are merged, then events are reserved in ascending id order, so two carts
+     * sharing events always lock their rows in the same order and cannot deadlock.
+     * On the first line that cannot be served, the lines already granted are released again: the DB paths
+     * net out inside this transaction, the Redis / in-memory paths need the explicit compensation.
+     *
+     * @return false if any line is sold out (nothing stays reserved)
+     */
+    public boolean reserveCart(List<CartLine> lines) {
+        Map<Long, Integer> byEvent = new TreeMap<>();
+        lines.forEach(line -> byEvent.merge(line.eventId(), line.count(), Integer::sum));
+        log.info("Cart reservation: {} events ({})", byEvent.size(), reservationStrategy);
+        return inventoryTransaction(() -> reserveCartRouted(byEvent));
+    }
+
+    private boolean reserveCartRouted(Map<Long, Integer> byEvent) {
+        Map<Long, Integer> granted = new TreeMap<>();
+        try {
+            for (Map.Entry<Long, Integer> line : byEvent.entrySet()) {
+                if (!reserveRouted(line.getKey(), line.getValue())) {
+                    log.warn("Cart reservation failed: Event {} cannot serve {} tickets. Releasing {} granted lines",
+                            line.getKey(), line.getValue(), granted.size());
+                    granted.forEach(this::releaseRouted);
+                    return false;
+                }
+                granted.put(line.getKey(), line.getValue());
+            }
+        } catch (RuntimeException e) {
+            granted.forEach(this::releaseRouted);
+            throw e;
+        }
+
+        byEvent.forEach((eventId, count) -> availabilityCache.adjustAfterCommit(eventId, -count));
+        return true;
+    }
+
+    /**
+     * Compensating transaction for {@link #reserveCart}: same merge and lock order.
+     */
+    public void releaseCart(List<CartLine> lines) {
+        Map<Long, Integer> byEvent = new TreeMap<>();
+        lines.forEach(line -> byEvent.merge(line.eventId(), line.count(), Integer::sum));
+        log.info("Compensating Transaction: Releasing cart of {} events", byEvent.size());
+
+        inventoryTransaction(() -> {
+            byEvent.forEach(this::releaseRouted);
+            byEvent.forEach(availabilityCache::adjustAfterCommit);
+            return null;
+        });
+    }
+
+    /**
+     * True if reservations hand out individually numbered tickets (POOL): callers should pass a claim id.
+     */
+    public boolean claimsTickets() {
+        return reservationStrategy == ReservationStrategy.POOL;
+    }
+
+    /**
+     * @return the ticket numbers reserved under this claim (empty unless POOL)
+     */
+    public List<Integer> claimedTickets(UUID claimId) {
+        return claimsTickets() ? ticketPool.ticketNumbers(claimId) : List.of();
+    }
+
+    private boolean reserveRouted(Long eventId, int count) {
+        return reserveRouted(eventId, count, null);
+    }
+
+    private boolean reserveRouted(Long eventId, int count, UUID claimId) {
+        // 0. Hot path: no row lock, no SQL
+        ReservationOutcome outcome = redisInventory.reserve(eventId, count);
+        if (outcome != ReservationOutcome.NOT_MANAGED) {
+            return outcome == ReservationOutcome.RESERVED;
+        }
 
+        return switch (reservationStrategy) {
+            case ATOMIC -> reserveAtomic(eventId, count);
+            case OPTIMISTIC -> reserveOptimistic(eventId, count);
+            case SHARDED -> reserveSharded(eventId, count);
+            case ACTOR -> reserveActor(eventId, count);
+            case POOL -> reservePooled(eventId, count, claimId);
+            case PESSIMISTIC -> reservePessimistic(eventId, count);
+        };
+    }
+
+    private boolean reservePessimistic(Long eventId, int count) {
         // 1. Acquire Lock
         Event event = eventRepository.findByIdLocked(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
 
+        if (isHotManaged(event.getHot())) {
+            return reserveHotLocked(event, count);
+        }
+
         // 2. Check Business Rule (In-Memory check on latest DB state)
         if (event.getAvailableTickets() < count) {
             log.warn("Reservation failed: Insufficient inventory. Requested: {}, Available: {}", count, event.getAvailableTickets());
@@ -68,16 +291,166 @@ public class EventService {
         return true;
     }
 
+    private boolean reserveAtomic(Long eventId, int count) {
+        Optional<Integer> remaining = eventRepository.decrementAvailableTickets(eventId, count, !redisInventory.isEnabled());
+        if (remaining.isEmpty()) {
+            // Guard rejected the UPDATE: row missing, stock short, or counter owned by Redis
+            InventorySnapshot snapshot = eventRepository.findInventorySnapshot(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            if (isHotManaged(snapshot.getHot())) {
+                return reserveHotLocked(lockEvent(eventId), count);
+            }
+            log.warn("Reservation failed: Insufficient inventory. Requested: {}", count);
+            return false;
+        }
+        log.info("Reservation success. New availability: {}", remaining.get());
+        return true;
+    }
+
+    private boolean reserveOptimistic(Long eventId, int count) {
+        for (int attempt = 1; attempt <= optimisticMaxAttempts; attempt++) {
+            InventorySnapshot snapshot = eventRepository.findInventorySnapshot(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+
+            if (isHotManaged(snapshot.getHot())) {
+                return reserveHotLocked(lockEvent(eventId), count);
+            }
+
+            if (snapshot.getAvailableTickets() < count) {
+                log.warn("Reservation failed: Insufficient inventory. Requested: {}, Available: {}", count, snapshot.getAvailableTickets());
+                return false;
+            }
+
+            int newAvailable = snapshot.getAvailableTickets() - count;
+            if (eventRepository.compareAndSetAvailableTickets(eventId, newAvailable, versionOf(snapshot)) == 1) {
+                log.info("Reservation success. New availability: {} (attempt {})", newAvailable, attempt);
+                return true;
+            }
+            log.debug("Version conflict on Event {} (attempt {})", eventId, attempt);
+        }
+        throw new RuntimeException("Reservation aborted: too much contention on Event " + eventId);
+    }
+
+    private boolean reserveSharded(Long eventId, int count) {
+        ReservationOutcome outcome = shardedInventory.reserve(eventId, count);
+        if (outcome == ReservationOutcome.NOT_MANAGED) {
+            // Not split yet: split under the row lock (once), then reserve from the buckets
+            Event event = lockEvent(eventId);
+            if (isHotManaged(event.getHot())) {
+                return reserveHotLocked(event, count);
+            }
+            shardedInventory.split(event);
+            outcome = shardedInventory.reserve(eventId, count);
+        }
+        return outcome == ReservationOutcome.RESERVED;
+    }
+
+    private boolean reservePooled(Long eventId, int count, UUID claimId) {
+        ReservationOutcome outcome = ticketPool.reserve(eventId, count, claimId);
+        if (outcome == ReservationOutcome.NOT_MANAGED) {
+            // No pool yet: create it under the row lock (once), then claim from it
+            Event event = lockEvent(eventId);
+            if (isHotManaged(event.getHot())) {
+                return reserveHotLocked(event, count);
+            }
+            ticketPool.populate(event);
+            outcome = ticketPool.reserve(eventId, count, claimId);
+        }
+        return outcome == ReservationOutcome.RESERVED;
+    }
+
+    private boolean reserveActor(Long eventId, int count) {
+        ReservationOutcome outcome = actorInventory.reserve(eventId, count);
+        if (outcome == ReservationOutcome.NOT_MANAGED) {
+            // Hot event whose Redis counter went missing: re-attach under the row lock
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> reserveHotLocked(lockEvent(eventId), count)));
+        }
+        return outcome == ReservationOutcome.RESERVED;
+    }
+
+    // ========== HOT EVENTS (Redis-fronted inventory) ==========
+
     /**
-     * CREATE EVENT with Circuit Breaker on MinIO
+     * ADMIN: Move an event's live counter into Redis (hot) or back into Postgres.
+     * Both directions run under the row lock, so DB-path reservations queued behind it
+     * re-route correctly once it commits.
      */
     @Transactional
-    @CacheEvict(value = "events", allEntries = true) // Clear all cached events
+    public void setHot(Long id, boolean hot) {
+        Event event = lockEvent(id);
+        if (hot == Boolean.TRUE.equals(event.getHot())) {
+            return;
+        }
+
+        event.setHot(hot);
+        if (redisInventory.isEnabled()) {
+            if (hot) {
+                if (actorInventory.isActive()) {
+                    actorInventory.detach(event); // Fold the in-memory counter back before Redis reads the row
+                }
+                shardedInventory.merge(event); // Redis takes the whole stock as ONE counter
+                ticketPool.drain(event);
+                event.setAvailableTickets(event.getAvailableTickets() + redisInventory.attach(id, event.getAvailableTickets()));
+            } else {
+                event.setAvailableTickets(event.getAvailableTickets() + redisInventory.detach(id));
+            }
+        }
+        eventRepository.save(event);
+        availabilityCache.evictAfterCommit(List.of(id)); // attach may have corrected the counter
+        log.info("Event {} hot={} (availability: {})", id, hot, event.getAvailableTickets());
+    }
+
+    private boolean isHotManaged(Boolean hot) {
+        return Boolean.TRUE.equals(hot) && redisInventory.isEnabled();
+    }
+
+    /**
+     * Reached only when Redis reported NOT_MANAGED for a hot event (counter lost, or a request that
+     * raced a promotion). We hold the row lock, so re-attaching from the DB value is safe.
+     */
+    private boolean reserveHotLocked(Event event, int count) {
+        attachLocked(event);
+        return redisInventory.reserve(event.getId(), count) == ReservationOutcome.RESERVED;
+    }
+
+    private void releaseHotLocked(Event event, int count) {
+        attachLocked(event);
+        redisInventory.release(event.getId(), count);
+    }
+
+    private void attachLocked(Event event) {
+        int adjustment = redisInventory.attach(event.getId(), event.getAvailableTickets());
+        if (adjustment != 0) {
+            event.setAvailableTickets(event.getAvailableTickets() + adjustment);
+            eventRepository.save(event);
+        }
+    }
+
+    private Event lockEvent(Long eventId) {
+        return eventRepository.findByIdLocked(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+    }
+
+    /**
+     * CREATE EVENT with Circuit Breaker on MinIO
+     * Images are uploaded BEFORE the transaction opens (in parallel, see MinioService), so no connection
+     * is held while MinIO round trips run. The cache evictions run after the commit.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "events", allEntries = true), // Clear all cached events
+            @CacheEvict(value = "latestEvents", allEntries = true)
+    })
     public EventDto createEvent(String title, String description, LocalDateTime date, String location,
                                 Long categoryId, BigDecimal price, Integer totalTickets, List<MultipartFile> images) {
         // Upload images with circuit breaker protection
         List<String> imageUrls = uploadImagesWithResilience(images);
 
+        return transactionTemplate.execute(status ->
+                saveEvent(title, description, date, location, categoryId, price, totalTickets, imageUrls));
+    }
+
+    private EventDto saveEvent(String title, String description, LocalDateTime date, String location,
+                               Long categoryId, BigDecimal price, Integer totalTickets, List<String> imageUrls) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + categoryId));
 
@@ -94,6 +467,7 @@ public class EventService {
                 .build();
 
         Event saved = eventRepository.save(event);
+        searchResultCache.invalidateAfterCommit();
 
         // NEW: internal event (Kafka publish will happen AFTER_COMMIT in listener)
         EventDto dto = mapToDto(saved);
@@ -104,34 +478,124 @@ public class EventService {
 
     /**
      * GET EVENT BY ID with Caching
+     * Metadata comes from the "events" cache, which sales never evict; availableTickets is overlaid from
+     * the live availability counter (seeded by a column-only read on a miss).
+     * Misses are single-flight and hot entries are refreshed ahead of expiry (RefreshingCacheLoader).
      */
-    @Cacheable(value = "events", key = "#id")
     public EventDto getEvent(Long id) {
-        log.info("Fetching Event {} from database (Cache Miss)", id);
-        Event event = eventRepository.findById(id)
+        Cache cache = cacheManager.getCache("events");
+        EventDto[] loaded = new EventDto[1];
+        Supplier<EventDto> loader = () -> {
+            log.info("Fetching Event {} from database (Cache Miss)", id);
+            EventView view = eventRepository.findViewById(id)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            loaded[0] = mapToDto(view);
+            availabilityCache.put(id, loaded[0].availableTickets());
+            return loaded[0];
+        };
+        EventDto metadata = cache != null ? cacheLoader.get(cache, id, loader) : loader.get();
+        if (metadata == loaded[0]) {
+            return metadata; // Loaded by this call: availability is as fresh as it gets
+        }
+
+        Integer available = availabilityCache.get(id);
+        if (available == null) {
+            available = loadAvailability(id);
+            availabilityCache.put(id, available);
+        }
+        return metadata.withAvailableTickets(available);
+    }
+
+    private int loadAvailability(Long id) {
+        InventorySnapshot snapshot = eventRepository.findInventorySnapshot(id)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
-        return mapToDto(event);
+        Integer buckets = shardedInventory.isActive() ? shardedInventory.totals(List.of(id)).get(id) : null;
+        return snapshot.getAvailableTickets() + (buckets != null ? buckets : 0);
+    }
+
+    /**
+     * GET EVENTS IN BATCH
+     * Same two-part read as getEvent, one round trip per step: multi-get of the metadata, one
+     * IN (...) query (category + images fetched) for the misses, one pipelined write-back, then
+     * one multi-get of the availability counters (misses seeded by one column-only query).
+     *
+     * @return found events in request order; unknown ids are skipped
+     */
+    public List<EventDto> getEvents(List<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        Map<Long, EventDto> loaded = new HashMap<>();
+        Function<List<Long>, Map<Long, EventDto>> loader = misses -> {
+            log.info("Fetching {} events from database (Cache Miss)", misses.size());
+            Map<Long, Integer> available = new HashMap<>();
+            for (EventDto dto : mapToDtos(eventRepository.findViewsByIdIn(misses))) {
+                loaded.put(dto.id(), dto);
+                available.put(dto.id(), dto.availableTickets());
+            }
+            availabilityCache.putAll(available);
+            return new HashMap<>(loaded);
+        };
+        Cache cache = cacheManager.getCache("events");
+        Map<Long, EventDto> metadata = cache != null ? cacheLoader.getAll(cache, distinct, loader) : loader.apply(distinct);
+
+        List<Long> cachedIds = metadata.keySet().stream().filter(id -> !loaded.containsKey(id)).toList();
+        Map<Long, Integer> available = new HashMap<>(availabilityCache.getAll(cachedIds));
+        List<Long> unknown = cachedIds.stream().filter(id -> !available.containsKey(id)).toList();
+        if (!unknown.isEmpty()) {
+            Map<Long, Integer> seeded = loadAvailability(unknown);
+            availabilityCache.putAll(seeded);
+            available.putAll(seeded);
+        }
+
+        return distinct.stream()
+                .filter(id -> loaded.containsKey(id) || available.containsKey(id)) // Deleted since it was cached
+                .map(id -> loaded.containsKey(id) ? loaded.get(id) : metadata.get(id).withAvailableTickets(available.get(id)))
+                .toList();
+    }
+
+    private Map<Long, Integer> loadAvailability(List<Long> ids) {
+        Map<Long, Integer> buckets = shardedInventory.isActive() ? shardedInventory.totals(ids) : Map.of();
+        Map<Long, Integer> available = new HashMap<>();
+        for (EventRepository.AvailabilityRow row : eventRepository.findAvailability(ids)) {
+            available.put(row.getId(), row.getAvailableTickets() + buckets.getOrDefault(row.getId(), 0));
+        }
+        return available;
     }
 
     /**
-     * GET ALL EVENTS
+     * LIST UPCOMING EVENTS, keyset paged on (date, id): one page of ids, then one IN (...) query for the events.
+     * Same path as an unfiltered search (keyword fallback with no keyword). Whole catalog: EventExportService.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first
      */
-    public List<EventDto> getAllEvents() {
-        return eventRepository.findAll().stream().map(this::mapToDto).toList();
+    public EventSearchPage getUpcomingEvents(String cursor, int limit) {
+        return search(new EventSearchCriteria(null, null, null, null), SearchCursor.decode(cursor), limit, null);
     }
 
     /**
      * DELETE EVENT
      */
     @Transactional
-    @CacheEvict(value = "events", key = "#id") // Remove specific event from cache
+    @Caching(evict = {
+            @CacheEvict(value = "events", key = "#id"), // Remove specific event from cache
+            @CacheEvict(value = "latestEvents", allEntries = true)
+    })
     public void deleteEvent(Long id) {
+        availabilityCache.evictAfterCommit(List.of(id));
         log.info("Deleting event ID: {}", id);
         if (!eventRepository.existsById(id)) {
             throw new RuntimeException("Event not found");
         }
+        if (redisInventory.isEnabled()) {
+            redisInventory.detach(id);
+        }
+        if (actorInventory.isActive()) {
+            actorInventory.detach(lockEvent(id));
+        }
         eventRepository.deleteById(id);
+        searchResultCache.invalidateAfterCommit();
+        applicationEventPublisher.publishEvent(new EventDeletedEvent(this, id));
     }
+
     /**
      * Get Latest Events (Tier 3 Fallback Support for Recommendation Service)
      * Returns the N most recently created upcoming events
@@ -140,58 +604,274 @@ public class EventService {
      * @return List of latest event DTOs
      */
     public List<EventDto> getLatestEvents(int limit) {
-        log.info("Fetching {} latest events for fallback recommendation", limit);
+        Supplier<List<EventDto>> loader = () -> {
+            log.info("Fetching {} latest events for fallback recommendation", limit);
 
-        Pageable pageable = PageRequest.of(0, limit);
-        List<Event> events = eventRepository.findLatestEvents(pageable);
+            Pageable pageable = PageRequest.of(0, limit);
+            List<EventView> events = eventRepository.findLatestEvents(pageable);
 
-        log.info("Retrieved {} latest events", events.size());
-        return events.stream()
-                .map(this::mapToDto)
-                .toList();
+            log.info("Retrieved {} latest events", events.size());
+            return mapToDtos(events);
+        };
+        Cache cache = cacheManager.getCache("latestEvents");
+        return cache != null ? cacheLoader.get(cache, limit, loader) : loader.get();
     }
 
     /**
      * COMPENSATING TRANSACTION
      * Called when Payment fails. We must increment the inventory back.
      */
-    @Transactional
-    @CacheEvict(value = "events", key = "#eventId") // Invalidate cache on release
     public void releaseTickets(Long eventId, int count) {
+        releaseTickets(eventId, count, null);
+    }
+
+    /**
+     * @param claimId the claim passed to reserveTickets (null = untracked)
+     */
+    public void releaseTickets(Long eventId, int count, UUID claimId) {
         log.info("Compensating Transaction: Releasing {} tickets for Event {}", count, eventId);
+        inventoryTransaction(() -> {
+            releaseRouted(eventId, count, claimId);
+            availabilityCache.adjustAfterCommit(eventId, count);
+            return null;
+        });
+    }
 
-        Event event = eventRepository.findByIdLocked(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+    private void releaseRouted(Long eventId, int count) {
+        releaseRouted(eventId, count, null);
+    }
+
+    private void releaseRouted(Long eventId, int count, UUID claimId) {
+        if (redisInventory.release(eventId, count)) {
+            return;
+        }
 
-        // Increment inventory back
+        switch (reservationStrategy) {
+            case ATOMIC -> releaseAtomic(eventId, count);
+            case OPTIMISTIC -> releaseOptimistic(eventId, count);
+            case ACTOR -> {
+                if (!actorInventory.release(eventId, count)) {
+                    transactionTemplate.execute(status -> {
+                        releaseHotLocked(lockEvent(eventId), count);
+                        return null;
+                    });
+                }
+            }
+            case POOL -> {
+                if (!ticketPool.release(eventId, count, claimId)) {
+                    // Never pooled: the events row still owns the stock
+                    Event event = lockEvent(eventId);
+                    if (isHotManaged(event.getHot())) {
+                        releaseHotLocked(event, count);
+                        return;
+                    }
+                    event.setAvailableTickets(event.getAvailableTickets() + count);
+                    eventRepository.save(event);
+                }
+            }
+            case SHARDED -> {
+                if (!shardedInventory.release(eventId, count)) {
+                    // Never split: the events row still owns the stock
+                    Event event = lockEvent(eventId);
+                    if (isHotManaged(event.getHot())) {
+                        releaseHotLocked(event, count);
+                        return;
+                    }
+                    event.setAvailableTickets(event.getAvailableTickets() + count);
+                    eventRepository.save(event);
+                }
+            }
+            case PESSIMISTIC -> {
+                Event event = eventRepository.findByIdLocked(eventId)
+                        .orElseThrow(() -> new RuntimeException("Event not found"));
+
+                if (isHotManaged(event.getHot())) {
+                    releaseHotLocked(event, count);
+                    return;
+                }
+
+                // Increment inventory back
+                event.setAvailableTickets(event.getAvailableTickets() + count);
+                eventRepository.save(event);
+
+                log.info("Tickets released. New availability: {}", event.getAvailableTickets());
+            }
+        }
+    }
+
+    private void releaseAtomic(Long eventId, int count) {
+        Optional<Integer> available = eventRepository.incrementAvailableTickets(eventId, count, !redisInventory.isEnabled());
+        if (available.isPresent()) {
+            log.info("Tickets released. New availability: {}", available.get());
+            return;
+        }
+        // Missing row, or counter owned by Redis (or demoted in between: apply to the row)
+        Event event = lockEvent(eventId);
+        if (isHotManaged(event.getHot())) {
+            releaseHotLocked(event, count);
+            return;
+        }
         event.setAvailableTickets(event.getAvailableTickets() + count);
         eventRepository.save(event);
+    }
+
+    private void releaseOptimistic(Long eventId, int count) {
+        for (int attempt = 1; attempt <= optimisticMaxAttempts; attempt++) {
+            InventorySnapshot snapshot = eventRepository.findInventorySnapshot(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+
+            if (isHotManaged(snapshot.getHot())) {
+                releaseHotLocked(lockEvent(eventId), count);
+                return;
+            }
+
+            int newAvailable = snapshot.getAvailableTickets() + count;
+            if (eventRepository.compareAndSetAvailableTickets(eventId, newAvailable, versionOf(snapshot)) == 1) {
+                log.info("Tickets released. New availability: {}", newAvailable);
+                return;
+            }
+        }
+        throw new RuntimeException("Release aborted: too much contention on Event " + eventId);
+    }
 
-        log.info("Tickets released. New availability: {}", event.getAvailableTickets());
+    // Rows written before @Version was populated have NULL: the CAS treats that as 0
+    private static long versionOf(InventorySnapshot snapshot) {
+        return snapshot.getVersion() != null ? snapshot.getVersion() : 0L;
     }
 
     /**
      * ADVANCED SEARCH with Audit Logging
+     * Full-text (search_vector GIN index) ranked by ts_rank; the substring LIKE scan is only the fallback
+     * for a query with no searchable terms (blank or stop words only), ordered by date.
+     * Keyset pagination: one page of ids, then one IN (...) query for the events themselves.
+     * Pages of ids are cached by normalized criteria (SearchResultCache); a hit reads the events through
+     * the "events" cache like getEvents, so availability stays live. The audit line records HIT / MISS.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first
      */
-    public Page<EventDto> searchEvents(EventSearchCriteria criteria, Pageable pageable, String userId) {
+    public EventSearchPage searchEvents(EventSearchCriteria criteria, String cursor, int limit, String userId) {
+        return searchEvents(criteria, cursor, limit, false, userId);
+    }
+
+    /**
+     * @param withFacets also count the matches per category and price range (one grouped query, cached per search)
+     */
+    public EventSearchPage searchEvents(EventSearchCriteria criteria, String cursor, int limit, boolean withFacets,
+                                        String userId) {
         long startTime = System.nanoTime();
         boolean success = false;
+        boolean cacheHit = false;
         try {
-            Page<Event> result = eventRepository.searchEventsFallback(
-                    criteria.query(),
-                    criteria.category(),
-                    criteria.minPrice(),
-                    criteria.maxPrice(),
-                    pageable
-            );
+            SearchCursor after = SearchCursor.decode(cursor);
+            String generation = searchResultCache.generation();
+            String cacheKey = generation != null ? SearchResultCache.pageKey(generation, criteria, cursor, limit) : null;
+            SearchResultCache.Hits cached = cacheKey != null ? searchResultCache.get(cacheKey) : null;
+            EventSearchPage page;
+            if (cached != null) {
+                cacheHit = true;
+                page = new EventSearchPage(cached.ids().isEmpty() ? List.of() : getEvents(cached.ids()), cached.nextCursor());
+            } else {
+                page = search(criteria, after, limit, cacheKey);
+            }
+            if (withFacets) {
+                page = page.withFacets(facets(criteria, generation));
+            }
             success = true;
-            return result.map(this::mapToDto);
+            return page;
         } catch (Exception e) {
             log.error("Search Error: {}", e.getMessage());
             throw e;
         } finally {
-            auditLogger.log(userId, "SEARCH_EVENTS", criteria.toString(), System.nanoTime() - startTime, success);
+            auditLogger.log(userId, "SEARCH_EVENTS", criteria + " | Cache: " + (cacheHit ? "HIT" : "MISS"),
+                    System.nanoTime() - startTime, success);
+        }
+    }
+
+    private EventSearchPage search(EventSearchCriteria criteria, SearchCursor after, int limit, String cacheKey) {
+        String query = criteria.query() != null ? criteria.query().trim() : "";
+        String category = criteria.category() != null && !criteria.category().isBlank() ? criteria.category() : null;
+        LocalDateTime from = searchFrom(criteria);
+
+        List<Long> ids;
+        SearchCursor next;
+        if (!query.isEmpty() && eventRepository.countSearchTerms(query) > 0) {
+            if (after != null && after.rank() == null) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+            List<EventRepository.RankedId> hits = eventRepository.searchRanked(query, from, criteria.to(), category,
+                    criteria.minPrice(), criteria.maxPrice(),
+                    after != null ? after.rank() : null, after != null ? after.id() : null, limit);
+            EventRepository.RankedId last = hits.size() == limit ? hits.get(limit - 1) : null;
+            ids = hits.stream().map(EventRepository.RankedId::getId).toList();
+            next = last != null ? SearchCursor.ranked(last.getRank(), last.getId()) : null;
+        } else {
+            if (after != null && after.date() == null) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+            List<EventRepository.DatedId> hits = eventRepository.searchByKeyword(query, from, criteria.to(), category,
+                    criteria.minPrice(), criteria.maxPrice(),
+                    after != null ? after.date() : null, after != null ? after.id() : null, PageRequest.of(0, limit));
+            EventRepository.DatedId last = hits.size() == limit ? hits.get(limit - 1) : null;
+            ids = hits.stream().map(EventRepository.DatedId::getId).toList();
+            next = last != null ? SearchCursor.dated(last.getDate(), last.getId()) : null;
+        }
+        String nextCursor = next != null ? next.encode() : null;
+        if (cacheKey != null) {
+            searchResultCache.put(cacheKey, new SearchResultCache.Hits(ids, nextCursor));
+        }
+        return searchPage(ids, nextCursor);
+    }
+
+    // FACETS: one GROUPING SETS query over the whole match set, cached next to the pages
+    private EventFacets facets(EventSearchCriteria criteria, String generation) {
+        String cacheKey = generation != null ? SearchResultCache.facetKey(generation, criteria) : null;
+        EventFacets cached = cacheKey != null ? searchResultCache.getFacets(cacheKey) : null;
+        if (cached != null) {
+            return cached;
+        }
+        String query = criteria.query() != null ? criteria.query().trim() : "";
+        String category = criteria.category() != null && !criteria.category().isBlank() ? criteria.category() : null;
+        Map<String, Long> categories = new LinkedHashMap<>();
+        TreeMap<Integer, Long> buckets = new TreeMap<>();
+        // Same split as search(): a CASE between the two match rules would hide the GIN index from the planner
+        List<EventRepository.FacetRow> rows = !query.isEmpty() && eventRepository.countSearchTerms(query) > 0
+                ? eventRepository.countFacets(query, searchFrom(criteria), criteria.to(),
+                        category, criteria.minPrice(), criteria.maxPrice())
+                : eventRepository.countFacetsByKeyword(query, searchFrom(criteria), criteria.to(),
+                        category, criteria.minPrice(), criteria.maxPrice());
+        rows.stream()
+                .filter(row -> row.getCount() > 0)
+                .sorted(Comparator.comparing(EventRepository.FacetRow::getCount).reversed())
+                .forEach(row -> {
+                    if (row.getByPrice() == 0) {
+                        categories.put(row.getCategory(), row.getCount());
+                    } else if (row.getPriceBucket() != null) {
+                        buckets.put(row.getPriceBucket(), row.getCount());
+                    }
+                });
+        Map<String, Long> priceRanges = new LinkedHashMap<>();
+        buckets.forEach((bucket, count) -> priceRanges.put(EventFacets.priceRange(bucket), count));
+
+        EventFacets facets = new EventFacets(categories, priceRanges);
+        if (cacheKey != null) {
+            searchResultCache.putFacets(cacheKey, facets);
+        }
+        return facets;
+    }
+
+    // Only upcoming events: a from in the past is clamped to now
+    private static LocalDateTime searchFrom(EventSearchCriteria criteria) {
+        LocalDateTime now = LocalDateTime.now();
+        return criteria.from() != null && criteria.from().isAfter(now) ? criteria.from() : now;
+    }
+
+    private EventSearchPage searchPage(List<Long> ids, String nextCursor) {
+        Map<Long, EventDto> byId = new HashMap<>();
+        for (EventDto dto : mapToDtos(ids.isEmpty() ? List.of() : eventRepository.findViewsByIdIn(ids))) {
+            byId.put(dto.id(), dto);
         }
+        List<EventDto> events = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new EventSearchPage(events, nextCursor);
     }
 
     // ========== RESILIENCE4J CIRCUIT BREAKER ==========
@@ -218,19 +898,40 @@ public class EventService {
 
     // ========== HELPER METHODS ==========
 
+    // WRITE PATH: the entity just saved
     private EventDto mapToDto(Event e) {
-        List<String> images = e.getImageUrls() != null ? new java.util.ArrayList<>(e.getImageUrls()) : List.of();
-        return new EventDto(
-                e.getId(),
-                e.getTitle(),
-                e.getDescription(),
-                e.getDate(),
-                e.getLocation(),
-                e.getCategory().getName(),
-                e.getPrice(),
-                e.getTotalTickets(),
-                e.getAvailableTickets(),
-                images
-        );
+        List<String> images = e.getImageUrls() != null ? new ArrayList<>(e.getImageUrls()) : List.of();
+        return withShardStock(new EventDto(e.getId(), e.getTitle(), e.getDescription(), e.getDate(), e.getLocation(),
+                e.getCategory().getName(), e.getPrice(), e.getTotalTickets(), e.getAvailableTickets(), images),
+                shardTotals(e.getId() != null ? List.of(e.getId()) : List.of()));
+    }
+
+    // READ PATHS: projections (EventView), never entities
+    private EventDto mapToDto(EventView view) {
+        return mapToDto(view, shardTotals(List.of(view.id())));
+    }
+
+    private List<EventDto> mapToDtos(List<EventView> views) {
+        Map<Long, Integer> shardTotals = shardTotals(views.stream().map(EventView::id).toList());
+        return views.stream().map(v -> mapToDto(v, shardTotals)).toList();
+    }
+
+    // SHARDED: stock lives in the buckets, so the row alone under-reports availability
+    private Map<Long, Integer> shardTotals(List<Long> ids) {
+        if (!shardedInventory.isActive() || ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return shardedInventory.totals(ids);
+    }
+
+    private EventDto mapToDto(EventView v, Map<Long, Integer> shardTotals) {
+        List<String> images = v.imageUrls() != null ? v.imageUrls() : List.of();
+        return withShardStock(new EventDto(v.id(), v.title(), v.description(), v.date(), v.location(), v.category(),
+                v.price(), v.totalTickets(), v.availableTickets(), images), shardTotals);
+    }
+
+    private static EventDto withShardStock(EventDto dto, Map<Long, Integer> shardTotals) {
+        Integer buckets = shardTotals.get(dto.id());
+        return buckets != null ? dto.withAvailableTickets(dto.availableTickets() + buckets) : dto;
     }
 }
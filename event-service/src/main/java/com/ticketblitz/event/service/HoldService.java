@@ -0,0 +1,277 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.HoldSummary;
+import com.ticketblitz.event.entity.HoldStatus;
+import com.ticketblitz.event.entity.TicketHold;
+import com.ticketblitz.event.inventory.HierarchicalTimingWheel;
+import com.ticketblitz.event.repository.TicketHoldRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TIMED TICKET HOLDS
+ * A reservation becomes a hold token with a TTL. The booking saga confirms it on payment success;
+ * otherwise the tickets go back to the pool when the TTL runs out.
+ *
+ * Expiry is driven by an in-memory hierarchical timing wheel (O(1) per hold), re-armed from
+ * ticket_holds on startup. The table is only scanned by a coarse orphan sweep for holds armed on
+ * an instance that died. Confirm / expire / release are guarded row transitions, so exactly one
+ * of them decides the fate of the tickets, whichever instance runs it.
+ *
+ * CONFIRMED rows are kept past their TTL (for confirmed-retention-hours), so a redelivered confirm
+ * still succeeds instead of failing the booking.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldService {
+
+    public static final String HOLD_TOKEN_HEADER = "X-Hold-Token";
+    public static final String HOLD_EXPIRES_HEADER = "X-Hold-Expires-At";
+
+    private final TicketHoldRepository holdRepository;
+    private final EventService eventService;
+    private final ReservationBatcher reservationBatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, HierarchicalTimingWheel.Timeout<UUID>> timeouts = new ConcurrentHashMap<>();
+
+    @Value("${inventory.holds.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.holds.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    @Value("${inventory.holds.tick-ms:100}")
+    private long tickMs = 100;
+
+    @Value("${inventory.holds.wheel-levels:4}")
+    private int wheelLevels = 4;
+
+    @Value("${inventory.holds.orphan-grace-seconds:60}")
+    private long orphanGraceSeconds = 60;
+
+    @Value("${inventory.holds.confirmed-retention-hours:168}")
+    private long confirmedRetentionHours = 168;
+
+    private HierarchicalTimingWheel<UUID> wheel;
+    private Counter expired;
+    private Counter confirmed;
+
+    @PostConstruct
+    void init() {
+        wheel = new HierarchicalTimingWheel<>(tickMs, wheelLevels, System.currentTimeMillis());
+        Gauge.builder("inventory.holds.pending", timeouts, Map::size)
+                .description("Holds armed in this instance's timing wheel")
+                .register(meterRegistry);
+        expired = Counter.builder("inventory.holds.expired")
+                .description("Holds released because their TTL ran out")
+                .register(meterRegistry);
+        confirmed = Counter.builder("inventory.holds.confirmed")
+                .description("Holds confirmed by the booking saga")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reserve and wrap the tickets in a hold.
+     *
+     * @return empty if sold out
+     */
+    public Optional<TicketHold> hold(Long eventId, int count) {
+        UUID token = UUID.randomUUID(); // Also the POOL claim: the hold owns exactly the tickets claimed under it
+        boolean reserved = eventService.claimsTickets()
+                ? eventService.reserveTickets(eventId, count, token)
+                : reservationBatcher.isEnabled()
+                ? reservationBatcher.reserve(eventId, count)
+                : eventService.reserveTickets(eventId, count);
+        if (!reserved) {
+            return Optional.empty();
+        }
+
+        long deadline = System.currentTimeMillis() + ttlSeconds * 1000;
+        TicketHold hold;
+        try {
+            hold = holdRepository.save(TicketHold.builder()
+                    .token(token)
+                    .eventId(eventId)
+                    .ticketCount(count)
+                    .status(HoldStatus.HELD)
+                    .expiresAt(toLocal(deadline))
+                    .build());
+        } catch (RuntimeException e) {
+            log.error("Failed to record hold for Event {}, releasing {} tickets: {}", eventId, count, e.getMessage());
+            eventService.releaseTickets(eventId, count, token);
+            throw e;
+        }
+        arm(hold.getToken(), deadline);
+        log.info("Hold {} issued: {} tickets of Event {} until {}", hold.getToken(), count, eventId, hold.getExpiresAt());
+        return Optional.of(hold);
+    }
+
+    /**
+     * Payment succeeded: the tickets stay sold. Idempotent (saga redelivery).
+     *
+     * @return false if the hold already expired or was released
+     */
+    public boolean confirm(UUID token) {
+        Boolean result = transactionTemplate.execute(status ->
+                holdRepository.transition(token, HoldStatus.HELD, HoldStatus.CONFIRMED) == 1
+                        || holdRepository.existsByTokenAndStatus(token, HoldStatus.CONFIRMED));
+        if (Boolean.TRUE.equals(result)) {
+            confirmed.increment();
+            log.info("Hold {} confirmed", token);
+            return true;
+        }
+        log.warn("Hold {} cannot be confirmed: expired or released", token);
+        return false;
+    }
+
+    /**
+     * Booking cancelled / payment failed: give the tickets back now. Idempotent.
+     * Only an unconfirmed hold can be released; confirmed tickets stay sold.
+     *
+     * @return false if there was nothing left to release
+     */
+    public boolean release(UUID token) {
+        Optional<TicketHold> deleted = deleteHeld(token);
+        disarm(token);
+        deleted.ifPresent(this::giveBack);
+        return deleted.isPresent();
+    }
+
+    public HoldSummary summary(Long eventId) {
+        TicketHoldRepository.HoldTotal total = holdRepository.sumByEventId(eventId, HoldStatus.HELD);
+        return new HoldSummary(eventId, total.getHolds(), total.getTickets());
+    }
+
+    // ========== EXPIRY ==========
+
+    @Scheduled(fixedRateString = "${inventory.holds.tick-ms:100}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        for (UUID token : wheel.advance(System.currentTimeMillis())) {
+            timeouts.remove(token);
+            expire(token);
+        }
+    }
+
+    /**
+     * Unconfirmed: release the tickets. Confirmed: keep the row (purged by the sweep after the retention period).
+     */
+    void expire(UUID token) {
+        try {
+            deleteHeld(token).ifPresent(hold -> {
+                giveBack(hold);
+                expired.increment();
+                log.info("Hold {} expired: {} tickets of Event {} released", token, hold.getTicketCount(), hold.getEventId());
+            });
+        } catch (Exception e) {
+            log.error("Expiring hold {} failed: {}", token, e.getMessage());
+        }
+    }
+
+    /**
+     * The guarded delete commits BEFORE the tickets go back: ACTOR and Redis-hot releases cannot roll
+     * back with a transaction, so releasing inside it could hand the same tickets back twice.
+     *
+     * @return the hold this call removed, empty if it was not HELD (any more)
+     */
+    private Optional<TicketHold> deleteHeld(UUID token) {
+        return Optional.ofNullable(transactionTemplate.execute(status -> holdRepository.findById(token)
+                .filter(hold -> holdRepository.deleteByTokenAndStatus(token, HoldStatus.HELD) == 1)
+                .orElse(null)));
+    }
+
+    private void giveBack(TicketHold hold) {
+        try {
+            eventService.releaseTickets(hold.getEventId(), hold.getTicketCount(), hold.getToken());
+        } catch (RuntimeException e) {
+            // Hold already gone: these tickets stay out of stock until corrected (never sold twice)
+            log.error("CRITICAL: Hold {} removed but its {} tickets of Event {} were not released: {}",
+                    hold.getToken(), hold.getTicketCount(), hold.getEventId(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.holds.orphan-sweep-interval-ms:60000}")
+    public void sweepOrphans() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(orphanGraceSeconds);
+            for (UUID token : holdRepository.findTokensExpiredBefore(HoldStatus.HELD, cutoff)) {
+                expire(token);
+            }
+            LocalDateTime retained = LocalDateTime.now().minusHours(confirmedRetentionHours);
+            Integer purged = transactionTemplate.execute(status ->
+                    holdRepository.deleteByStatusExpiredBefore(HoldStatus.CONFIRMED, retained));
+            if (purged != null && purged > 0) {
+                log.info("Purged {} confirmed holds past retention", purged);
+            }
+        } catch (Exception e) {
+            log.error("Hold orphan sweep failed: {}", e.getMessage());
+        }
+    }
+
+    // ========== STARTUP ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rearm() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<TicketHoldRepository.HoldDeadline> deadlines = holdRepository.findAllDeadlines(HoldStatus.HELD);
+            deadlines.forEach(d -> arm(d.getToken(), toEpochMillis(d.getExpiresAt())));
+            log.info("Re-armed {} ticket holds", deadlines.size());
+        } catch (Exception e) {
+            log.error("Re-arming ticket holds failed: {}", e.getMessage());
+        }
+    }
+
+    private void arm(UUID token, long deadline) {
+        timeouts.put(token, wheel.schedule(token, deadline));
+    }
+
+    private void disarm(UUID token) {
+        HierarchicalTimingWheel.Timeout<UUID> timeout = timeouts.remove(token);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private static LocalDateTime toLocal(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ticketblitz.event.service;
+
+import java.util.Locale;
+
+/**
+ * Sizes an event image is served in. Derived sizes are JPEGs stored next to the original:
+ * renditions/{size}/{original key without extension}.jpg
+ */
+public enum ImageRendition {
+
+    ORIGINAL(0),
+    CARD(640),  // Event cards / detail header
+    THUMB(240); // Lists, search results, typeahead
+
+    private final int width;
+
+    ImageRendition(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public String objectKey(String originalKey) {
+        if (this == ORIGINAL) {
+            return originalKey;
+        }
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > 0 ? originalKey.substring(0, dot) : originalKey;
+        return "renditions/" + name().toLowerCase(Locale.ROOT) + "/" + base + ".jpg";
+    }
+
+    public static ImageRendition parse(String value) {
+        for (ImageRendition rendition : values()) {
+            if (rendition.name().equalsIgnoreCase(value)) {
+                return rendition;
+            }
+        }
+        throw new IllegalArgumentException("Unknown image size: " + value);
+    }
+}
@@ -0,0 +1,202 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.kafka.EventCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * RENDITIONS
+ * After an event is committed, every image gets a CARD and a THUMB JPEG next to the original
+ * (see {@link ImageRendition}), off the request thread. Until they exist the image endpoint serves the original.
+ *
+ * Decoding is CPU and heap heavy, so at most {@code image.renditions.max-concurrency} images are processed
+ * at once, and images over MAX_PIXELS are left alone. Formats ImageIO cannot decode (webp, avif) are skipped.
+ * A rendition that already exists (same content-hash key) is not regenerated.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageRenditionService {
+
+    static final long MAX_PIXELS = 40_000_000L; // ~160 MB decoded (ARGB)
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final MinioService minioService;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${image.renditions.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${image.renditions.max-concurrency:2}")
+    private int maxConcurrency = 2;
+
+    private volatile Semaphore permits;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventCreated(EventCreatedEvent event) {
+        List<String> keys = event.getEvent().imageUrls();
+        if (enabled && keys != null && !keys.isEmpty()) {
+            keys.forEach(key -> workers.submit(() -> generateLimited(key)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void generateLimited(String key) {
+        Semaphore limit = permits();
+        try {
+            limit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            generate(key);
+        } finally {
+            limit.release();
+        }
+    }
+
+    /**
+     * Writes the missing renditions of one original.
+     */
+    void generate(String key) {
+        try {
+            List<ImageRendition> missing = new ArrayList<>();
+            for (ImageRendition rendition : List.of(ImageRendition.CARD, ImageRendition.THUMB)) {
+                if (!minioService.exists(rendition.objectKey(key))) {
+                    missing.add(rendition);
+                }
+            }
+            if (missing.isEmpty()) {
+                count("existing");
+                return;
+            }
+            BufferedImage original;
+            try (InputStream in = minioService.download(key)) {
+                original = in != null ? decode(in) : null;
+            }
+            if (original == null) {
+                log.info("No renditions for image {}: missing or not decodable", key);
+                count("skipped");
+                return;
+            }
+            for (ImageRendition rendition : missing) {
+                minioService.put(rendition.objectKey(key), encodeJpeg(scale(original, rendition.width())), "image/jpeg");
+            }
+            count("created");
+        } catch (Exception e) {
+            log.warn("Rendition of image {} failed: {}", key, e.getMessage());
+            count("failed");
+        }
+    }
+
+    // ========== IMAGE OPERATIONS ==========
+
+    /**
+     * @return null if no ImageIO reader handles the format, or the image is over MAX_PIXELS
+     */
+    static BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream != null ? ImageIO.getImageReaders(stream) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) { // Header only, nothing decoded yet
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Downscale to {@code width} (never up), halving step by step: a single bilinear pass over a large
+     * ratio skips most source pixels and aliases. Transparent areas become white (JPEG has no alpha).
+     */
+    static BufferedImage scale(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * (double) targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, w, h, Color.WHITE, null);
+            g.dispose();
+            current = next;
+        } while (w > targetWidth);
+        return current;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("images.renditions", "result", result).increment();
+    }
+
+    private Semaphore permits() {
+        if (permits == null) {
+            synchronized (this) {
+                if (permits == null) {
+                    permits = new Semaphore(maxConcurrency);
+                }
+            }
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,244 @@
+package com.ticketblitz.event.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * IMAGE CACHE for the image endpoint.
+ * Objects are copied once from MinIO into a bounded local directory and served from there (the controller
+ * hands the file to the container for sendfile). Least recently served files are evicted once the directory
+ * grows past {@code image.cache.max-bytes}. The container opens the file only after get() has returned it, so
+ * an evicted file stays on disk for evict-grace-seconds before it is deleted, and is taken back if it is asked
+ * for again in that time.
+ *
+ * Object keys never change content (content hash or UUID), so a cached file never goes stale and its
+ * ETag is just the hash of its key. A rendition that does not exist yet (still being generated, or a format
+ * ImageIO cannot decode) falls back to the original, remembered for fallback-seconds (only for originals that
+ * exist, and for at most MAX_MISSING keys, so unknown keys cannot grow it).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageService {
+
+    private static final Pattern KEY = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._ -]{0,254}");
+    private static final String PART_SUFFIX = ".part";
+    static final int MAX_MISSING = 10_000;
+
+    private final MinioService minioService;
+
+    @Value("${image.cache.dir:${java.io.tmpdir}/ticketblitz-images}")
+    private String directory = System.getProperty("java.io.tmpdir") + "/ticketblitz-images";
+
+    @Value("${image.cache.max-bytes:536870912}")
+    private long maxBytes = 512L * 1024 * 1024;
+
+    @Value("${image.cache.fallback-seconds:60}")
+    private long fallbackSeconds = 60;
+
+    @Value("${image.cache.evict-grace-seconds:60}")
+    private long evictGraceSeconds = 60;
+
+    private Path root;
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(64, 0.75f, true); // name -> size, LRU order
+    private final LinkedHashMap<String, Evicted> evicted = new LinkedHashMap<>(); // name -> pending delete, oldest first
+    private long totalBytes;
+    private final Map<String, Long> missingUntil = Collections.synchronizedMap( // rendition key -> retry after (ms)
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_MISSING;
+                }
+            });
+
+    private record Evicted(long size, long deleteAfter) {
+    }
+
+    public record CachedImage(Path file, long size, String etag, String contentType, boolean fallback) {
+    }
+
+    /**
+     * Index what a previous run left in the directory (oldest first), so the size bound holds across restarts.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(directory);
+        Files.createDirectories(root);
+        try (Stream<Path> existing = Files.list(root)) {
+            List<Path> cached = existing.filter(Files::isRegularFile).toList();
+            for (Path file : cached.stream().sorted(Comparator.comparing(ImageService::lastModified)).toList()) {
+                if (file.getFileName().toString().endsWith(PART_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else {
+                    record(file.getFileName().toString(), Files.size(file));
+                }
+            }
+        }
+        log.info("Image cache at {}: {} files, {} bytes", root, files.size(), totalBytes);
+    }
+
+    /**
+     * @return the cached file, or empty if MinIO has no such image
+     */
+    public Optional<CachedImage> get(ImageRendition rendition, String key) {
+        if (!KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid image key");
+        }
+        try {
+            String objectKey = rendition.objectKey(key);
+            if (rendition != ImageRendition.ORIGINAL) {
+                Long retryAt = missingUntil.get(objectKey);
+                if (retryAt != null && retryAt > System.currentTimeMillis()) {
+                    return fetch(key, true);
+                }
+                Optional<CachedImage> image = fetch(objectKey, false);
+                if (image.isPresent()) {
+                    missingUntil.remove(objectKey);
+                    return image;
+                }
+                Optional<CachedImage> original = fetch(key, true);
+                if (original.isPresent()) { // Unknown keys are not remembered
+                    missingUntil.put(objectKey, System.currentTimeMillis() + fallbackSeconds * 1000);
+                }
+                return original;
+            }
+            return fetch(objectKey, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new RuntimeException("Image store unavailable", e);
+        }
+    }
+
+    private Optional<CachedImage> fetch(String objectKey, boolean fallback) throws Exception {
+        String name = fileName(objectKey);
+        Path file = root.resolve(name);
+        Long size = touch(name);
+        if (size == null || !Files.exists(file)) {
+            try (InputStream in = minioService.download(objectKey)) {
+                if (in == null) {
+                    return Optional.empty();
+                }
+                Path part = Files.createTempFile(root, name, PART_SUFFIX);
+                try {
+                    size = Files.copy(in, part, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(part, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(part);
+                }
+            }
+            record(name, size);
+        }
+        return Optional.of(new CachedImage(file, size, "\"" + name + "\"", contentType(objectKey), fallback));
+    }
+
+    // ========== LRU BOOKKEEPING ==========
+
+    private synchronized Long touch(String name) {
+        Long size = files.get(name);
+        if (size == null) {
+            Evicted pending = evicted.remove(name);
+            if (pending != null) { // Still on disk: take it back instead of downloading it again
+                files.put(name, pending.size());
+                totalBytes += pending.size();
+                return pending.size();
+            }
+        }
+        return size;
+    }
+
+    private synchronized void record(String name, long size) {
+        Long previous = files.put(name, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        long deleteAfter = System.currentTimeMillis() + evictGraceSeconds * 1000;
+        var eldest = files.entrySet().iterator();
+        while (totalBytes > maxBytes && files.size() > 1) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(name)) {
+                continue; // Never the file about to be served
+            }
+            evicted.put(entry.getKey(), new Evicted(entry.getValue(), deleteAfter));
+            totalBytes -= entry.getValue();
+            eldest.remove();
+        }
+        deleteEvicted();
+    }
+
+    // Evicted files may still be about to be sent (get() returned them), so they go only after the grace period
+    private void deleteEvicted() {
+        long now = System.currentTimeMillis();
+        var oldest = evicted.entrySet().iterator();
+        while (oldest.hasNext()) {
+            Map.Entry<String, Evicted> entry = oldest.next();
+            if (entry.getValue().deleteAfter() > now) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(root.resolve(entry.getKey()));
+            } catch (IOException e) {
+                log.warn("Could not evict cached image {}: {}", entry.getKey(), e.getMessage());
+            }
+            oldest.remove();
+        }
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    // ========== NAMING ==========
+
+    // Hash of the object key: flat, filesystem-safe, and stable, so it doubles as the ETag
+    static String fileName(String objectKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 20);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String contentType(String objectKey) {
+        String lower = objectKey.toLowerCase(Locale.ROOT);
+        String extension = lower.substring(lower.lastIndexOf('.') + 1);
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            case "avif" -> "image/avif";
+            default -> "application/octet-stream";
+        };
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -1,20 +1,46 @@
 package com.ticketblitz.event.service;
 
 import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
+/**
+ * IMAGE STORE
+ * Uploads fan out on virtual threads, at most {@code minio.upload.max-concurrency} in flight per instance.
+ * Files are streamed twice from the multipart store (disk for large parts), never held in heap:
+ * once through SHA-256, once into MinIO.
+ *
+ * DEDUP: the object key is the content hash (plus the original extension), so a poster uploaded again,
+ * or twice in one request, is stored once: an existing key is checked with statObject and not re-sent.
+ */
 @Service
+@Slf4j
 public class MinioService {
 
     private final MinioClient minioClient;
@@ -22,6 +48,11 @@ public class MinioService {
     @Value("${minio.bucket}")
     private String bucketName;
 
+    @Value("${minio.upload.max-concurrency:4}")
+    private int maxConcurrency = 4;
+
+    private Semaphore uploadPermits;
+
     public MinioService(MinioClient minioClient) {
         this.minioClient = minioClient;
     }
@@ -29,6 +60,7 @@ public class MinioService {
     //Auto-create bucket on startup
     @PostConstruct
     public void init() {
+        uploadPermits = new Semaphore(maxConcurrency);
         try {
             boolean found = minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucketName).build());
             if (!found) {
@@ -42,27 +74,117 @@ public class MinioService {
         }
     }
 
+    /**
+     * @return one object key per file, in input order (identical files share a key)
+     */
     public List<String> uploadImages(List<MultipartFile> files) {
-        List<String> urls = new ArrayList<>();
-        // ... (rest of your existing logic) ...
-        // Ensure you use the try-catch block correctly inside the loop
-        for (MultipartFile file : files) {
-            String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-            try (InputStream is = file.getInputStream()) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)
-                                .object(fileName)
-                                .stream(is, file.getSize(), -1)
-                                .contentType(file.getContentType())
-                                .build()
-                );
-                // Assuming public access is configured, or just storing the filename
-                urls.add(fileName);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to upload file: " + file.getOriginalFilename(), e);
+        Semaphore permits = permits();
+        Map<String, Boolean> claimed = new ConcurrentHashMap<>(); // Keys this batch already stores
+        List<Future<String>> uploads = new ArrayList<>(files.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                uploads.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return upload(file, claimed);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // close() waits for every upload
+
+        List<String> keys = new ArrayList<>(files.size());
+        for (int i = 0; i < uploads.size(); i++) {
+            try {
+                keys.add(uploads.get(i).get());
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Failed to upload file: " + files.get(i).getOriginalFilename(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Failed to upload file: " + files.get(i).getOriginalFilename(), e);
+            }
+        }
+        return keys;
+    }
+
+    private String upload(MultipartFile file, Map<String, Boolean> claimed) throws Exception {
+        String key = contentKey(file);
+        if (claimed.putIfAbsent(key, Boolean.TRUE) != null || exists(key)) {
+            log.debug("Image {} already stored as {}", file.getOriginalFilename(), key);
+            return key;
+        }
+        try (InputStream is = file.getInputStream()) {
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(key)
+                            .stream(is, file.getSize(), -1)
+                            .contentType(file.getContentType())
+                            .build()
+            );
+        }
+        return key;
+    }
+
+    // ========== SINGLE OBJECTS (renditions, image serving) ==========
+
+    /**
+     * @return the object's content, or null if there is no such key
+     */
+    public InputStream download(String key) throws Exception {
+        try {
+            return minioClient.getObject(GetObjectArgs.builder().bucket(bucketName).object(key).build());
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return null;
             }
+            throw e;
+        }
+    }
+
+    public void put(String key, byte[] content, String contentType) throws Exception {
+        minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(key)
+                        .stream(new ByteArrayInputStream(content), content.length, -1)
+                        .contentType(contentType)
+                        .build()
+        );
+    }
+
+    public boolean exists(String key) throws Exception {
+        try {
+            minioClient.statObject(StatObjectArgs.builder().bucket(bucketName).object(key).build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * "{sha256}.{ext}": the extension keeps the key readable and lets the content type be guessed from it.
+     */
+    static String contentKey(MultipartFile file) throws Exception {
+        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        try (InputStream is = new DigestInputStream(file.getInputStream(), sha256)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        }
+        String hash = HexFormat.of().formatHex(sha256.digest());
+        String name = file.getOriginalFilename();
+        int dot = name != null ? name.lastIndexOf('.') : -1;
+        String extension = dot >= 0 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("[a-z0-9]{1,10}") ? hash + "." + extension : hash;
+    }
+
+    private Semaphore permits() {
+        if (uploadPermits == null) { // Constructed outside Spring (tests)
+            uploadPermits = new Semaphore(maxConcurrency);
         }
-        return urls;
+        return uploadPermits;
     }
 }
@@ -0,0 +1,184 @@
+package com.ticketblitz.event.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * GROUP-COMMIT RESERVATION BATCHER
+ * Instead of N concurrent transactions fighting for the same events row lock, requests for one event
+ * are queued for a short window (or until max-batch-size) and applied by a single drainer in ONE
+ * locked transaction (EventService.reserveTicketsBatch). Each caller's future completes individually.
+ *
+ * One drainer (virtual thread) per event with queued requests; it exits once its queue is idle and
+ * drops the queue from the map, so only events with traffic in flight hold an entry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationBatcher {
+
+    private final EventService eventService;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+    private final ExecutorService drainers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${inventory.batching.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.batching.window-ms:2}")
+    private long windowMs = 2;
+
+    @Value("${inventory.batching.max-batch-size:64}")
+    private int maxBatchSize = 64;
+
+    private DistributionSummary batchSize;
+    private Timer queueWait;
+
+    @PostConstruct
+    void initMetrics() {
+        batchSize = DistributionSummary.builder("inventory.reservation.batch.size")
+                .description("Reservation requests applied per group-commit transaction")
+                .register(meterRegistry);
+        queueWait = Timer.builder("inventory.reservation.queue.wait")
+                .description("Time a reservation request waits before its batch starts")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    int queuedEvents() {
+        return queues.size();
+    }
+
+    /**
+     * Blocking form used by the REST endpoint. Rethrows the batch failure (e.g. "Event not found").
+     */
+    public boolean reserve(Long eventId, int count) {
+        try {
+            return submit(eventId, count).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Boolean> submit(Long eventId, int count) {
+        EventQueue queue = queues.computeIfAbsent(eventId, EventQueue::new);
+        PendingReservation request = new PendingReservation(count, System.nanoTime(), new CompletableFuture<>());
+
+        queue.pending.add(request);
+        if (queue.size.incrementAndGet() >= maxBatchSize) {
+            Thread drainer = queue.drainer;
+            if (drainer != null) {
+                LockSupport.unpark(drainer); // Batch is full: don't wait for the window
+            }
+        }
+        if (queue.scheduled.compareAndSet(false, true)) {
+            drainers.execute(() -> drain(queue));
+        }
+        return request.result();
+    }
+
+    private void drain(EventQueue queue) {
+        queue.drainer = Thread.currentThread();
+        while (true) {
+            if (queue.size.get() < maxBatchSize) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(windowMs));
+            }
+            List<PendingReservation> batch = queue.take(maxBatchSize);
+            if (!batch.isEmpty()) {
+                apply(queue.eventId, batch);
+            }
+
+            // Go idle. Re-check after clearing the flag so a request that lost the CAS is never stranded.
+            if (queue.pending.isEmpty()) {
+                queue.scheduled.set(false);
+                if (queue.pending.isEmpty()) {
+                    // A submit that still got this queue from the map starts its own drainer on it
+                    queues.remove(queue.eventId, queue);
+                    return;
+                }
+                if (!queue.scheduled.compareAndSet(false, true)) {
+                    return; // Another drainer took over
+                }
+            }
+        }
+    }
+
+    private void apply(Long eventId, List<PendingReservation> batch) {
+        long start = System.nanoTime();
+        List<Integer> counts = new ArrayList<>(batch.size());
+        for (PendingReservation request : batch) {
+            queueWait.record(start - request.enqueuedAt(), TimeUnit.NANOSECONDS);
+            counts.add(request.count());
+        }
+        batchSize.record(batch.size());
+
+        try {
+            List<Boolean> granted = eventService.reserveTicketsBatch(eventId, counts);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(granted.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.error("Group-commit reservation failed for Event {} ({} requests): {}", eventId, batch.size(), e.getMessage());
+            batch.forEach(request -> request.result().completeExceptionally(e));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainers.shutdown();
+    }
+
+    private record PendingReservation(int count, long enqueuedAt, CompletableFuture<Boolean> result) {
+    }
+
+    private static final class EventQueue {
+        private final Long eventId;
+        private final Queue<PendingReservation> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Thread drainer;
+
+        private EventQueue(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        private List<PendingReservation> take(int max) {
+            List<PendingReservation> batch = new ArrayList<>();
+            PendingReservation request;
+            while (batch.size() < max && (request = pending.poll()) != null) {
+                batch.add(request);
+                size.decrementAndGet();
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.SeatAllocation;
+import com.ticketblitz.event.dto.SeatSectionDto;
+import com.ticketblitz.event.entity.SeatSection;
+import com.ticketblitz.event.inventory.SeatBitmap;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.SeatSectionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RESERVED SEATING
+ * Each section's availability is a SeatBitmap, persisted encoded in seat_sections.availability and
+ * kept decoded in memory keyed by (section, revision). Allocation = lock ONE section row, search the
+ * in-memory bitmap for the best block, write the re-encoded bitmap back. The decoded copy is only
+ * replaced after commit, so a rollback never leaks into memory.
+ *
+ * Unlocked probes on the cached bitmaps skip sections that cannot fit the block without taking their lock.
+ *
+ * Seats are a placement on top of the event's capacity, not extra stock: every allocation also takes the
+ * tickets from events.available_tickets through the configured reservation strategy (EventService), and a
+ * release gives them back. Seated and count-based sales therefore draw from ONE counter. Lock order is
+ * section row, then event counter.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatMapService {
+
+    private final SeatSectionRepository sectionRepository;
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+
+    private final Map<Long, CachedBitmap> bitmaps = new ConcurrentHashMap<>();
+
+    @Transactional
+    public SeatSectionDto createSection(Long eventId, String name, int rows, int seatsPerRow) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new RuntimeException("Event not found");
+        }
+        SeatBitmap bitmap = SeatBitmap.allAvailable(rows, seatsPerRow);
+        SeatSection section = sectionRepository.save(SeatSection.builder()
+                .eventId(eventId)
+                .name(name)
+                .sortOrder(sectionRepository.findMaxSortOrder(eventId) + 1)
+                .rowCount(rows)
+                .seatsPerRow(seatsPerRow)
+                .availableSeats(rows * seatsPerRow)
+                .availability(bitmap.encode())
+                .revision(0L)
+                .build());
+        publish(section.getId(), section.getRevision(), bitmap);
+        log.info("Section '{}' added to Event {}: {} rows x {} seats", name, eventId, rows, seatsPerRow);
+        return toDto(section);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SeatSectionDto> getSeatMap(Long eventId) {
+        return sectionRepository.findByEventIdOrderBySortOrderAscIdAsc(eventId).stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    /**
+     * Best {@code count} adjacent seats: sections in sortOrder, then frontmost row, then row centre.
+     *
+     * @param sectionId restrict to one section, or null for any
+     * @return empty if no single row anywhere has {@code count} adjacent free seats
+     */
+    @Transactional
+    public Optional<SeatAllocation> reserveBestAvailable(Long eventId, int count, Long sectionId) {
+        for (SeatSectionRepository.SectionState state : sectionRepository.findStatesByEventId(eventId)) {
+            if ((sectionId != null && !sectionId.equals(state.getId())) || state.getAvailableSeats() < count) {
+                continue;
+            }
+            CachedBitmap cached = bitmaps.get(state.getId());
+            if (cached != null && cached.revision() == state.getRevision() && cached.bitmap().findBestBlock(count) == null) {
+                continue; // Current in-memory copy says no row fits: don't queue for the lock
+            }
+
+            SeatSection section = sectionRepository.findByIdLocked(state.getId())
+                    .orElseThrow(() -> new RuntimeException("Seat section not found"));
+            SeatBitmap bitmap = bitmapFor(section).copy();
+            int[] block = bitmap.findBestBlock(count);
+            if (block == null) {
+                continue;
+            }
+            if (!eventService.reserveTickets(eventId, count)) {
+                log.warn("Seat reservation failed: event capacity exhausted. Event: {}, Requested: {}", eventId, count);
+                return Optional.empty();
+            }
+            try {
+                bitmap.take(block[0], block[1], count);
+                save(section, bitmap, -count);
+            } catch (RuntimeException e) {
+                eventService.releaseTickets(eventId, count); // Redis / in-memory counters don't roll back with us
+                throw e;
+            }
+            log.info("Seats reserved: Event {}, Section '{}', Row {}, Seats {}-{}",
+                    eventId, section.getName(), block[0], block[1], block[1] + count - 1);
+            return Optional.of(new SeatAllocation(section.getId(), section.getName(), block[0], block[1], count));
+        }
+        log.warn("Seat reservation failed: no {} adjacent seats. Event: {}", count, eventId);
+        return Optional.empty();
+    }
+
+    /**
+     * Compensating transaction for {@link #reserveBestAvailable}.
+     */
+    @Transactional
+    public void releaseSeats(Long eventId, Long sectionId, int row, int firstSeat, int count) {
+        SeatSection section = sectionRepository.findByIdLocked(sectionId)
+                .filter(s -> s.getEventId().equals(eventId))
+                .orElseThrow(() -> new RuntimeException("Seat section not found"));
+        SeatBitmap bitmap = bitmapFor(section).copy();
+        bitmap.release(row, firstSeat, count);
+        save(section, bitmap, count);
+        eventService.releaseTickets(eventId, count);
+        log.info("Seats released: Event {}, Section '{}', Row {}, Seats {}-{}",
+                eventId, section.getName(), row, firstSeat, firstSeat + count - 1);
+    }
+
+    private void save(SeatSection section, SeatBitmap bitmap, int delta) {
+        section.setAvailability(bitmap.encode());
+        section.setAvailableSeats(section.getAvailableSeats() + delta);
+        section.setRevision(section.getRevision() + 1);
+        sectionRepository.save(section);
+        publish(section.getId(), section.getRevision(), bitmap);
+    }
+
+    // Decoded copy for this revision (decodes at most once per change made by another instance)
+    private SeatBitmap bitmapFor(SeatSection section) {
+        CachedBitmap cached = bitmaps.get(section.getId());
+        if (cached != null && cached.revision() == section.getRevision()) {
+            return cached.bitmap();
+        }
+        SeatBitmap bitmap = SeatBitmap.decode(section.getAvailability());
+        bitmaps.put(section.getId(), new CachedBitmap(section.getRevision(), bitmap));
+        return bitmap;
+    }
+
+    private void publish(Long sectionId, long revision, SeatBitmap bitmap) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bitmaps.put(sectionId, new CachedBitmap(revision, bitmap));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bitmaps.put(sectionId, new CachedBitmap(revision, bitmap));
+            }
+        });
+    }
+
+    private SeatSectionDto toDto(SeatSection section) {
+        return new SeatSectionDto(
+                section.getId(),
+                section.getName(),
+                section.getSortOrder(),
+                section.getRowCount(),
+                section.getSeatsPerRow(),
+                section.getAvailableSeats(),
+                Base64.getEncoder().encodeToString(section.getAvailability())
+        );
+    }
+
+    private record CachedBitmap(long revision, SeatBitmap bitmap) {
+    }
+}
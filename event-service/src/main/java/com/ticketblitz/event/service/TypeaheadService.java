@@ -0,0 +1,98 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.dto.EventSuggestion;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.search.TypeaheadIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * TYPEAHEAD
+ * Suggestions are served from an in-process {@link TypeaheadIndex} (no Postgres per keystroke).
+ * Built from the upcoming events at startup and every rebuild-interval-ms (which also drops past events
+ * and heals any missed message), kept current in between from the events-created / events-deleted topics.
+ *
+ * Updates that arrive during a rebuild are replayed on the new index, so the swap never loses them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TypeaheadService {
+
+    private final EventRepository eventRepository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile TypeaheadIndex index = TypeaheadIndex.build(List.of());
+    private List<UnaryOperator<TypeaheadIndex>> pendingDuringRebuild; // Guarded by this
+
+    public List<EventSuggestion> suggest(String query, int limit) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<EventSuggestion> suggestions = index.suggest(query, LocalDateTime.now(), limit).stream()
+                .map(e -> new EventSuggestion(e.id(), e.title(), e.location(), e.category(), e.date()))
+                .toList();
+        sample.stop(meterRegistry.timer("typeahead.suggest"));
+        return suggestions;
+    }
+
+    public void add(EventDto event) {
+        if (event == null || event.id() == null || event.date() == null || event.title() == null) {
+            return;
+        }
+        TypeaheadIndex.Entry entry = new TypeaheadIndex.Entry(event.id(), event.title(), event.location(),
+                event.category(), event.date());
+        apply(current -> current.withAdded(entry));
+    }
+
+    public void remove(Long eventId) {
+        apply(current -> current.withRemoved(eventId));
+    }
+
+    private synchronized void apply(UnaryOperator<TypeaheadIndex> update) {
+        index = update.apply(index);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(update);
+        }
+    }
+
+    // ========== REBUILD ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${typeahead.rebuild-interval-ms:600000}",
+            fixedDelayString = "${typeahead.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<TypeaheadIndex.Entry> entries = eventRepository.findUpcomingForTypeahead().stream()
+                    .map(e -> new TypeaheadIndex.Entry(e.getId(), e.getTitle(), e.getLocation(), e.getCategory(), e.getDate()))
+                    .toList();
+            TypeaheadIndex rebuilt = TypeaheadIndex.build(entries);
+            synchronized (this) {
+                for (UnaryOperator<TypeaheadIndex> update : pendingDuringRebuild) {
+                    rebuilt = update.apply(rebuilt);
+                }
+                index = rebuilt;
+            }
+            log.info("Typeahead index rebuilt: {} upcoming events", entries.size());
+        } catch (Exception e) {
+            log.error("Typeahead index rebuild failed, keeping the current one: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Image URLs live on the event row: no join / second query on reads, no delete-and-reinsert of
+-- event_images rows every time Hibernate flushes an Event
+ALTER TABLE events ADD COLUMN IF NOT EXISTS image_urls TEXT[] NOT NULL DEFAULT '{}';
+
+-- Backfill. event_images has no order column, so the order of each event's URLs is unspecified
+-- (as it already was when they were read back as a bag). The table is dropped in V12.
+UPDATE events e
+SET image_urls = i.urls
+FROM (SELECT event_id, array_agg(image_url) AS urls
+      FROM event_images
+      WHERE image_url IS NOT NULL
+      GROUP BY event_id) i
+WHERE e.id = i.event_id;
@@ -0,0 +1,4 @@
+-- POOL strategy: tickets remember which hold / booking claimed them, so a release gives back exactly those
+ALTER TABLE ticket_pool ADD COLUMN claim_id UUID;
+
+CREATE INDEX idx_ticket_pool_claim ON ticket_pool(claim_id) WHERE claim_id IS NOT NULL;
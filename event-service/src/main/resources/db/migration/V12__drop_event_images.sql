@@ -0,0 +1,2 @@
+-- Image URLs were moved onto events.image_urls in V10
+DROP TABLE IF EXISTS event_images;
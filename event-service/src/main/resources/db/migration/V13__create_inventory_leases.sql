@@ -0,0 +1,6 @@
+-- ACTOR strategy: counters live in one JVM, so only the instance holding this lease may serve them
+CREATE TABLE inventory_leases (
+                                  name VARCHAR(50) PRIMARY KEY,
+                                  owner VARCHAR(100) NOT NULL,
+                                  expires_at TIMESTAMP NOT NULL
+);
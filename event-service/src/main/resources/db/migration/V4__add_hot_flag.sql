@@ -0,0 +1,4 @@
+-- Hot events keep their live inventory counter in Redis (write-behind to available_tickets)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS hot BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_event_hot ON events(id) WHERE hot = TRUE;
@@ -0,0 +1,15 @@
+-- SHARDED strategy: an event's stock split over N rows so N buyers can commit in parallel.
+-- Aggregate availability = events.available_tickets + SUM(shards.available_tickets)
+CREATE TABLE event_inventory_shard (
+                                       id BIGSERIAL PRIMARY KEY,
+                                       event_id BIGINT NOT NULL,
+                                       shard_no INTEGER NOT NULL,
+                                       available_tickets INTEGER NOT NULL,
+
+                                       CONSTRAINT uk_shard_event_no UNIQUE (event_id, shard_no),
+                                       CONSTRAINT check_shard_non_negative CHECK (available_tickets >= 0),
+                                       CONSTRAINT fk_shard_event
+                                           FOREIGN KEY (event_id)
+                                               REFERENCES events (id)
+                                               ON DELETE CASCADE
+);
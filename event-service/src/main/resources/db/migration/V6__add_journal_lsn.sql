@@ -0,0 +1,2 @@
+-- ACTOR inventory: highest journal LSN already folded into available_tickets (idempotent replay)
+ALTER TABLE events ADD COLUMN IF NOT EXISTS journal_lsn BIGINT NOT NULL DEFAULT 0;
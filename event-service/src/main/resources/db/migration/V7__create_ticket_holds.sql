@@ -0,0 +1,17 @@
+-- Timed ticket holds: reserved tickets return to the pool at expires_at unless the booking saga confirms them
+CREATE TABLE ticket_holds (
+                              token UUID PRIMARY KEY,
+                              event_id BIGINT NOT NULL,
+                              ticket_count INTEGER NOT NULL,
+                              status VARCHAR(20) NOT NULL,
+                              expires_at TIMESTAMP NOT NULL,
+
+                              CONSTRAINT check_hold_count_positive CHECK (ticket_count > 0),
+                              CONSTRAINT fk_hold_event
+                                  FOREIGN KEY (event_id)
+                                      REFERENCES events (id)
+                                      ON DELETE CASCADE
+);
+
+CREATE INDEX idx_ticket_holds_event_status ON ticket_holds(event_id, status);
+CREATE INDEX idx_ticket_holds_expires ON ticket_holds(expires_at);
@@ -0,0 +1,21 @@
+-- Reserved seating: per-section availability bitmap (1 bit per seat, run-length or packed encoding)
+CREATE TABLE seat_sections (
+                               id BIGSERIAL PRIMARY KEY,
+                               event_id BIGINT NOT NULL,
+                               name VARCHAR(255) NOT NULL,
+                               sort_order INTEGER NOT NULL,
+                               row_count INTEGER NOT NULL,
+                               seats_per_row INTEGER NOT NULL,
+                               available_seats INTEGER NOT NULL,
+                               availability BYTEA NOT NULL,
+                               revision BIGINT NOT NULL DEFAULT 0,
+
+                               CONSTRAINT uk_seat_section_event_name UNIQUE (event_id, name),
+                               CONSTRAINT check_section_available_non_negative CHECK (available_seats >= 0),
+                               CONSTRAINT fk_section_event
+                                   FOREIGN KEY (event_id)
+                                       REFERENCES events (id)
+                                       ON DELETE CASCADE
+);
+
+CREATE INDEX idx_seat_sections_event ON seat_sections(event_id, sort_order);
@@ -0,0 +1,18 @@
+-- POOL strategy: one row per numbered ticket, claimed with FOR UPDATE SKIP LOCKED (events row never locked)
+CREATE TABLE ticket_pool (
+                             id BIGSERIAL PRIMARY KEY,
+                             event_id BIGINT NOT NULL,
+                             ticket_no INTEGER NOT NULL,
+                             status VARCHAR(16) NOT NULL,
+                             reserved_at TIMESTAMP,
+
+                             CONSTRAINT uk_ticket_pool_event_no UNIQUE (event_id, ticket_no),
+                             CONSTRAINT fk_ticket_pool_event
+                                 FOREIGN KEY (event_id)
+                                     REFERENCES events (id)
+                                     ON DELETE CASCADE
+);
+
+-- Claims scan only free tickets of one event
+CREATE INDEX idx_ticket_pool_available ON ticket_pool(event_id, id) WHERE status = 'AVAILABLE';
+CREATE INDEX idx_ticket_pool_reserved ON ticket_pool(event_id, id) WHERE status = 'RESERVED';
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.mockStatic;
 		"spring.flyway.enabled=false",
 		"spring.kafka.bootstrap-servers=localhost:9092",
 		"spring.kafka.producer.bootstrap-servers=localhost:9092",
+		"typeahead.kafka.enabled=false",
 		"minio.url=http://localhost:9000",
 		"minio.access-key=minioadmin",
 		"minio.secret-key=minioadmin",
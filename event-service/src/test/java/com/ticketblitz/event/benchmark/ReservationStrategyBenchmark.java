@@ -0,0 +1,152 @@
+package com.ticketblitz.event.benchmark;
+
+import com.ticketblitz.event.entity.Category;
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.inventory.ReservationStrategy;
+import com.ticketblitz.event.repository.CategoryRepository;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.service.EventService;
+import com.ticketblitz.event.service.MinioService;
+import io.minio.MinioClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark for the three reservation strategies against a REAL Postgres
+ * (H2 has no FOR UPDATE / RETURNING semantics worth measuring).
+ *
+ * Skipped by default. Run with:
+ *   mvn test -Dtest=ReservationStrategyBenchmark -Dbenchmark.db.url=jdbc:postgresql://localhost:5433/ticketblitz_event
+ *            [-Dbenchmark.db.username=postgres -Dbenchmark.db.password=... -Dbenchmark.threads=64 -Dbenchmark.stock=5000]
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+class ReservationStrategyBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int STOCK = Integer.getInteger("benchmark.stock", 2000);
+    private static final int MAX_ATTEMPTS = Integer.getInteger("benchmark.max-attempts", 100); // Per ticket, in a row
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("benchmark.db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("benchmark.db.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("benchmark.db.password", "abhinav195"));
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+        registry.add("spring.cache.type", () -> "none"); // Measure the DB path only
+    }
+
+    @MockitoBean
+    private MinioClient minioClient;
+
+    @MockitoBean
+    private MinioService minioService;
+
+    @MockitoBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @ParameterizedTest
+    @EnumSource(ReservationStrategy.class)
+    @DisplayName("Sell out one hot event with N concurrent buyers")
+    void sellOut(ReservationStrategy strategy) throws Exception {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(eventService), "reservationStrategy", strategy);
+        Long eventId = seedEvent(strategy);
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicInteger aborted = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                workers.add(pool.submit(() -> {
+                    int attempts = 0;
+                    while (true) {
+                        try {
+                            if (!eventService.reserveTickets(eventId, 1)) {
+                                return; // Sold out
+                            }
+                            sold.incrementAndGet();
+                            attempts = 0;
+                        } catch (RuntimeException e) {
+                            if (!isContention(e) || ++attempts >= MAX_ATTEMPTS) {
+                                throw e; // A real failure (or a livelock) fails the run instead of spinning
+                            }
+                            aborted.incrementAndGet(); // Lock timeout / CAS exhaustion: buyer retries
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("[BENCH] %-11s threads=%d stock=%d sold=%d aborted=%d time=%d ms throughput=%.0f res/s%n",
+                strategy, THREADS, STOCK, sold.get(), aborted.get(), elapsedMs, sold.get() * 1000.0 / Math.max(elapsedMs, 1));
+
+        // No oversell, no leak
+        assertThat(sold.get()).isEqualTo(STOCK);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getAvailableTickets()).isZero();
+
+        eventRepository.deleteById(eventId);
+    }
+
+    // Lock / statement timeouts, CAS exhaustion ("too much contention"), inventory actor timeout
+    private static boolean isContention(RuntimeException e) {
+        if (e instanceof ConcurrencyFailureException || e instanceof QueryTimeoutException) {
+            return true;
+        }
+        String message = e.getMessage();
+        return message != null && (message.contains("too much contention") || message.contains("did not answer"));
+    }
+
+    private Long seedEvent(ReservationStrategy strategy) {
+        Category category = categoryRepository.findByName("Music")
+                .orElseGet(() -> categoryRepository.save(Category.builder().name("Music").build()));
+        Event event = Event.builder()
+                .title("Benchmark " + strategy)
+                .description("Reservation strategy benchmark")
+                .date(LocalDateTime.now().plusYears(1))
+                .location("Bench")
+                .category(category)
+                .price(new BigDecimal("10.00"))
+                .totalTickets(STOCK)
+                .availableTickets(STOCK)
+                .build();
+        return eventRepository.save(event).getId();
+    }
+}
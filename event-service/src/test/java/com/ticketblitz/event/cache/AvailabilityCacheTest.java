@@ -0,0 +1,84 @@
+package com.ticketblitz.event.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private AvailabilityCache availabilityCache;
+
+    @Test
+    @DisplayName("get/put: Should store the counter with a TTL")
+    void getAndPut() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("availability:1")).thenReturn("42");
+
+        availabilityCache.put(1L, 42);
+
+        assertThat(availabilityCache.get(1L)).isEqualTo(42);
+        verify(valueOperations).set("availability:1", "42", Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("get: Should degrade to a miss when Redis is down")
+    void getRedisDown() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(availabilityCache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("adjustAfterCommit: Should increment in place, never evict")
+    void adjustInPlace() {
+        availabilityCache.adjustAfterCommit(1L, -3);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("availability:1")), eq("-3"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("adjustAfterCommit: Should drop the counter when the adjustment fails")
+    void adjustFailureEvicts() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenThrow(new RedisConnectionFailureException("timeout"));
+
+        availabilityCache.adjustAfterCommit(1L, 2);
+
+        verify(redisTemplate).delete("availability:1");
+    }
+
+    @Test
+    @DisplayName("disabled: Should not touch Redis")
+    void disabled() {
+        ReflectionTestUtils.setField(availabilityCache, "enabled", false);
+
+        assertThat(availabilityCache.get(1L)).isNull();
+        availabilityCache.put(1L, 5);
+        availabilityCache.adjustAfterCommit(1L, -1);
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ticketblitz.event.cache;
+
+import com.ticketblitz.event.dto.EventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCacheSerializerTest {
+
+    private final EventCacheSerializer serializer = new EventCacheSerializer(getClass().getClassLoader());
+    private final RedisSerializer<Object> jdk = new JdkSerializationRedisSerializer(getClass().getClassLoader());
+
+    private static EventDto event(long id) {
+        return new EventDto(id, "Eras Tour", "Taylor Swift live, three-hour set", LocalDateTime.of(2027, 6, 14, 19, 30, 0, 500),
+                "Madison Square Garden, NYC", "Music", new BigDecimal("149.99"), 20_000, 12_345,
+                List.of("events/" + id + "/poster.jpg", "events/" + id + "/stage.jpg"));
+    }
+
+    @Test
+    @DisplayName("serialize: Cached event should round-trip through the binary layout")
+    void eventRoundTrip() {
+        CachedValue<EventDto> value = new CachedValue<>(event(42), 1_760_000_000_000L, 7);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).isEqualTo(EventCacheSerializer.MAGIC);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("serialize: Event list and null fields should round-trip")
+    void listAndNullsRoundTrip() {
+        EventDto sparse = new EventDto(null, "Draft", null, null, null, null, new BigDecimal("-0.5"), null, -3, null);
+        CachedValue<List<EventDto>> value = new CachedValue<>(List.of(event(1), sparse), 5L, 0L);
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        CachedValue<List<EventDto>> empty = new CachedValue<>(List.of(), 5L, 0L);
+        assertThat(serializer.deserialize(serializer.serialize(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("deserialize: Entries written with Java serialization should stay readable")
+    void readsJdkEntries() {
+        CachedValue<EventDto> legacyEnvelope = new CachedValue<>(event(1), 5L, 1L);
+
+        assertThat(serializer.deserialize(jdk.serialize(event(1)))).isEqualTo(event(1));
+        assertThat(serializer.deserialize(jdk.serialize(legacyEnvelope))).isEqualTo(legacyEnvelope);
+        assertThat(serializer.deserialize(serializer.serialize(Map.of("k", "v")))).isEqualTo(Map.of("k", "v"));
+    }
+
+    @Test
+    @DisplayName("deserialize: Unknown fields from a newer writer should be skipped")
+    void skipsUnknownFields() {
+        byte[] bytes = {
+                EventCacheSerializer.MAGIC, EventCacheSerializer.VERSION, 1, 0, 0,
+                9,                        // message length
+                8, 10,                    // field 1 (id), varint 5
+                122, 2, 'x', 'y',         // field 15, 2 bytes
+                (byte) 0x80, 0x01, 2      // field 16, varint 1
+        };
+
+        CachedValue<?> value = (CachedValue<?>) serializer.deserialize(bytes);
+
+        assertThat(((EventDto) value.value()).id()).isEqualTo(5L);
+        assertThat(((EventDto) value.value()).title()).isNull();
+    }
+
+    @Test
+    @DisplayName("deserialize: Unknown envelope version should read as a miss")
+    void unknownVersionIsMiss() {
+        byte[] bytes = serializer.serialize(new CachedValue<>(event(1), 5L, 1L));
+        bytes[1] = 99;
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    @DisplayName("serialize: Binary entry should be a fraction of the Java serialization size")
+    void smallerThanJdk() {
+        CachedValue<EventDto> value = new CachedValue<>(event(42), 1_760_000_000_000L, 7);
+
+        assertThat(serializer.serialize(value).length * 3).isLessThan(jdk.serialize(value).length);
+    }
+
+    /**
+     * mvn test -Dtest=EventCacheSerializerTest -Dcache.codec.benchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "cache.codec.benchmark", matches = "true")
+    @DisplayName("Benchmark: bytes per entry and encode/decode ns/op vs Java serialization")
+    void benchmark() {
+        CachedValue<EventDto> event = new CachedValue<>(event(42), 1_760_000_000_000L, 7);
+        CachedValue<List<EventDto>> latest = new CachedValue<>(
+                List.of(event(1), event(2), event(3), event(4), event(5), event(6), event(7), event(8), event(9), event(10)),
+                1_760_000_000_000L, 12);
+
+        for (Map.Entry<String, CachedValue<?>> entry : Map.of("event", event, "latest(10)", latest).entrySet()) {
+            for (Map.Entry<String, RedisSerializer<Object>> codec : Map.of("jdk", jdk, "binary", serializer).entrySet()) {
+                RedisSerializer<Object> s = codec.getValue();
+                byte[] bytes = s.serialize(entry.getValue());
+                double encodeNs = nsPerOp(() -> s.serialize(entry.getValue()));
+                double decodeNs = nsPerOp(() -> s.deserialize(bytes));
+                System.out.printf("📊 %-10s %-6s %6d bytes  encode %8.0f ns/op  decode %8.0f ns/op%n",
+                        entry.getKey(), codec.getKey(), bytes.length, encodeNs, decodeNs);
+            }
+        }
+    }
+
+    private static double nsPerOp(Runnable op) {
+        int warmup = 20_000;
+        int iterations = 100_000;
+        for (int i = 0; i < warmup; i++) {
+            op.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            op.run();
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ticketblitz.event.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearCacheTest {
+
+    @Test
+    @DisplayName("get: Should expire entries after the TTL")
+    void expiresAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        NearCache cache = new NearCache(64, 1000, now::get);
+        cache.put("1", "Eras Tour");
+
+        now.addAndGet(999_000_000L);
+        assertThat(cache.get("1")).isEqualTo("Eras Tour");
+        now.addAndGet(2_000_000L);
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put: Should stay within max-entries, evicting least recently used")
+    void boundedLru() {
+        NearCache cache = new NearCache(160, 60_000); // 10 per segment
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(Integer.toString(i), i);
+            cache.get("hot"); // Keeps touching one key
+            if (i == 0) {
+                cache.put("hot", "kept");
+            }
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(160);
+        assertThat(cache.get("hot")).isEqualTo("kept");
+        assertThat(cache.get("0")).isNull();
+    }
+
+    @Test
+    @DisplayName("invalidate/clear: Should drop entries")
+    void invalidateAndClear() {
+        NearCache cache = new NearCache(64, 60_000);
+        cache.put("1", "a");
+        cache.put("2", "b");
+
+        cache.invalidate("1");
+        assertThat(cache.get("1")).isNull();
+        assertThat(cache.get("2")).isEqualTo("b");
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("constructor: Should reject a bound smaller than the segment count")
+    void rejectsTinyBound() {
+        assertThatThrownBy(() -> new NearCache(4, 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
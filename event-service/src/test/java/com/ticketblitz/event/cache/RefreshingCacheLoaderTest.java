@@ -0,0 +1,160 @@
+package com.ticketblitz.event.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshingCacheLoaderTest {
+
+    private static final long TTL_MILLIS = 300_000; // Defaults: ttl-seconds 300, stale-seconds 60
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshingCacheLoader loader = new RefreshingCacheLoader(meterRegistry);
+    private final Cache cache = new ConcurrentMapCache("events");
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("get: Concurrent misses on one key should run a single load")
+    void concurrentMissesCoalesce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> loader.get(cache, 1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "Eras Tour";
+                })));
+            }
+            waitFor(() -> count("cache.loads", "result", "coalesced") == callers - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Eras Tour");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(count("cache.loads", "result", "loaded")).isEqualTo(1);
+        assertThat(cache.get(1L).get()).isInstanceOf(CachedValue.class);
+    }
+
+    @Test
+    @DisplayName("get: Stale entry should be served while one background load replaces it")
+    void staleWhileRevalidate() {
+        long loadedAt = System.currentTimeMillis() - TTL_MILLIS - 10_000;
+        cache.put(1L, new CachedValue<>("old", loadedAt, 5));
+
+        assertThat(loader.get(cache, 1L, () -> "new")).isEqualTo("old");
+
+        waitFor(() -> "new".equals(((CachedValue<?>) cache.get(1L).get()).value()));
+        assertThat(count("cache.refreshes", "trigger", "stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get: Entry past the stale window should be reloaded in the caller")
+    void expiredEntryLoadsSynchronously() {
+        long loadedAt = System.currentTimeMillis() - TTL_MILLIS - 120_000;
+        cache.put(1L, new CachedValue<>("old", loadedAt, 5));
+
+        assertThat(loader.get(cache, 1L, () -> "new")).isEqualTo("new");
+        assertThat(count("cache.loads", "result", "loaded")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get: Fresh cheap entry should be served without any load")
+    void freshEntryServed() {
+        cache.put(1L, new CachedValue<>("cached", System.currentTimeMillis(), 0));
+
+        assertThat(loader.get(cache, 1L, () -> "new")).isEqualTo("cached");
+        assertThat(meterRegistry.find("cache.loads").counters()).isEmpty();
+        assertThat(meterRegistry.find("cache.refreshes").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("get: Legacy entry without an envelope should count as a miss")
+    void legacyEntryIsMiss() {
+        cache.put(1L, "legacy");
+
+        assertThat(loader.get(cache, 1L, () -> "new")).isEqualTo("new");
+        assertThat(((CachedValue<?>) cache.get(1L).get()).value()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("get: Failed load should propagate and leave nothing in flight")
+    void failedLoadPropagates() {
+        assertThatThrownBy(() -> loader.get(cache, 1L, () -> {
+            throw new RuntimeException("Event not found");
+        })).hasMessage("Event not found");
+
+        assertThat(loader.get(cache, 1L, () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("getAll: Only misses and expired entries should go to the loader, in one call")
+    void getAllLoadsMissesOnce() {
+        long now = System.currentTimeMillis();
+        cache.put(1L, new CachedValue<>("fresh", now, 0));
+        cache.put(2L, new CachedValue<>("expired", now - TTL_MILLIS - 1, 0));
+        List<List<Long>> calls = new ArrayList<>();
+
+        Map<Long, String> result = loader.getAll(cache, List.of(3L, 2L, 1L, 4L), misses -> {
+            calls.add(misses);
+            return Map.of(2L, "reloaded", 3L, "loaded");
+        });
+
+        assertThat(calls).containsExactly(List.of(3L, 2L, 4L));
+        assertThat(result).containsExactly(Map.entry(3L, "loaded"), Map.entry(2L, "reloaded"), Map.entry(1L, "fresh"));
+        assertThat(((CachedValue<?>) cache.get(3L).get()).value()).isEqualTo("loaded");
+        assertThat(cache.get(4L)).isNull();
+        assertThat(count("cache.loads", "result", "loaded")).isEqualTo(3);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.find(name).tag(tag, value).counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within 5s");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
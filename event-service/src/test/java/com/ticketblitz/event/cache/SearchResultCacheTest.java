@@ -0,0 +1,126 @@
+package com.ticketblitz.event.cache;
+
+import com.ticketblitz.event.dto.EventFacets;
+import com.ticketblitz.event.dto.EventSearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchResultCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private SearchResultCache searchResultCache;
+
+    @Test
+    @DisplayName("normalize: Spellings of the same search should share one key")
+    void normalizeEquivalentSearches() {
+        String a = SearchResultCache.pageKey("1",
+                new EventSearchCriteria("  Taylor   SWIFT ", "Music", new BigDecimal("50.00"), null), null, 20);
+        String b = SearchResultCache.pageKey("1",
+                new EventSearchCriteria("taylor swift", "Music", new BigDecimal("50"), null), null, 20);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(SearchResultCache.normalize(new EventSearchCriteria("taylor swift", "music", null, null)))
+                .isNotEqualTo(SearchResultCache.normalize(new EventSearchCriteria("taylor swift", "Music", null, null)));
+        assertThat(SearchResultCache.normalize(new EventSearchCriteria("", " ", null, null)))
+                .isEqualTo(SearchResultCache.normalize(new EventSearchCriteria(null, null, null, null)));
+        assertThat(SearchResultCache.pageKey("1", new EventSearchCriteria("rock", null, null, null), "abc", 20))
+                .isNotEqualTo(SearchResultCache.pageKey("1", new EventSearchCriteria("rock", null, null, null), null, 20));
+    }
+
+    @Test
+    @DisplayName("generation: Keys should carry the current generation (0 before the first write)")
+    void keyCarriesGeneration() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("search:generation")).thenReturn(null, "7");
+
+        assertThat(searchResultCache.generation()).isEqualTo("0");
+        String generation = searchResultCache.generation();
+        EventSearchCriteria criteria = new EventSearchCriteria("rock", null, null, null);
+        assertThat(SearchResultCache.pageKey(generation, criteria, null, 20)).startsWith("search:7:");
+        assertThat(SearchResultCache.facetKey(generation, criteria)).startsWith("search:7:facets:");
+    }
+
+    @Test
+    @DisplayName("putFacets/getFacets: Facet counts should round-trip in order")
+    void facetsRoundTrip() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        Map<String, Long> categories = new LinkedHashMap<>();
+        categories.put("Music", 12L);
+        categories.put("Rock: Live", 3L);
+        EventFacets facets = new EventFacets(categories, Map.of("500+", 2L));
+        ArgumentCaptor<String> written = ArgumentCaptor.forClass(String.class);
+
+        searchResultCache.putFacets("search:1:facets:k", facets);
+
+        verify(valueOperations).set(eq("search:1:facets:k"), written.capture(), eq(Duration.ofSeconds(60)));
+        when(valueOperations.get("search:1:facets:k")).thenReturn(written.getValue());
+        EventFacets read = searchResultCache.getFacets("search:1:facets:k");
+        assertThat(read).isEqualTo(facets);
+        assertThat(read.categories().keySet()).containsExactly("Music", "Rock: Live");
+    }
+
+    @Test
+    @DisplayName("put/get: Page should round-trip; empty pages get the negative TTL")
+    void putAndGet() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        searchResultCache.put("search:1:k", new SearchResultCache.Hits(List.of(7L, 3L), "abc"));
+        searchResultCache.put("search:1:empty", new SearchResultCache.Hits(List.of(), null));
+
+        verify(valueOperations).set("search:1:k", "abc|7,3", Duration.ofSeconds(60));
+        verify(valueOperations).set("search:1:empty", "|", Duration.ofSeconds(5));
+
+        when(valueOperations.get("search:1:k")).thenReturn("abc|7,3");
+        when(valueOperations.get("search:1:empty")).thenReturn("|");
+        assertThat(searchResultCache.get("search:1:k")).isEqualTo(new SearchResultCache.Hits(List.of(7L, 3L), "abc"));
+        assertThat(searchResultCache.get("search:1:empty")).isEqualTo(new SearchResultCache.Hits(List.of(), null));
+    }
+
+    @Test
+    @DisplayName("invalidateAfterCommit: Should bump the generation")
+    void invalidateBumpsGeneration() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        searchResultCache.invalidateAfterCommit();
+
+        verify(valueOperations).increment("search:generation");
+    }
+
+    @Test
+    @DisplayName("generation: Should bypass the cache when Redis is down or the cache is off")
+    void bypass() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(searchResultCache.generation()).isNull();
+
+        ReflectionTestUtils.setField(searchResultCache, "enabled", false);
+        assertThat(searchResultCache.generation()).isNull();
+        searchResultCache.invalidateAfterCommit();
+        verify(redisTemplate, times(1)).opsForValue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ticketblitz.event.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CacheInvalidationBus bus;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCache.getName()).thenReturn("events");
+        bus = new CacheInvalidationBus(redisTemplate, "cache:invalidate");
+        cache = new TwoTierCache(redisCache, new NearCache(64, 60_000), bus, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("get: L2 hit should fill L1, so the next read never reaches Redis")
+    void l2HitFillsL1() {
+        when(redisCache.get(1L)).thenReturn(new SimpleValueWrapper("Eras Tour"));
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("Eras Tour");
+        assertThat(cache.get(1L, String.class)).isEqualTo("Eras Tour");
+
+        verify(redisCache, times(1)).get(1L);
+        assertThat(count("l1", "hit")).isEqualTo(1);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get: Miss in both tiers should be counted per tier")
+    void missInBothTiers() {
+        assertThat(cache.get(1L)).isNull();
+
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict: Should evict both tiers and broadcast to peers")
+    void evictBroadcasts() {
+        when(redisCache.get(1L)).thenReturn(new SimpleValueWrapper("Eras Tour"));
+        cache.get(1L);
+
+        cache.evict(1L);
+        cache.get(1L);
+
+        verify(redisCache).evict(1L);
+        verify(redisTemplate).convertAndSend(eq("cache:invalidate"), endsWith("|events|1"));
+        verify(redisCache, times(2)).get(1L); // L1 no longer had it
+    }
+
+    @Test
+    @DisplayName("put: A read-through fill should reach L2 and L1 without a broadcast")
+    void putDoesNotBroadcast() {
+        cache.put(1L, "Eras Tour");
+        cache.putAll(Map.of(2L, "Renaissance", 3L, "Eras Tour"));
+
+        assertThat(cache.get(1L, String.class)).isEqualTo("Eras Tour");
+        verify(redisCache).put(1L, "Eras Tour");
+        verify(redisCache, never()).get(any());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("onMessage: A peer's invalidation should drop the local L1 entry; our own echo is ignored")
+    void peerInvalidation() {
+        when(redisCache.get(1L)).thenReturn(new SimpleValueWrapper("old"));
+        cache.get(1L);
+
+        bus.onMessage(message(origin() + "|events|1"), null);
+        cache.get(1L);
+        verify(redisCache, times(1)).get(1L); // Own echo: L1 kept
+
+        bus.onMessage(message("other-replica|events|1"), null);
+        cache.get(1L);
+        verify(redisCache, times(2)).get(1L);
+    }
+
+    @Test
+    @DisplayName("getAll: L1 hits should skip Redis; one multi-get should fetch the rest and fill L1")
+    void getAllUsesOneMultiGet() {
+        RedisBulkOps bulk = mock(RedisBulkOps.class);
+        TwoTierCache bulkCache = new TwoTierCache(redisCache, new NearCache(64, 60_000), bus, bulk, meterRegistry);
+        bulkCache.putAll(Map.of(1L, "cached"));
+        when(bulk.multiGet("events", List.of(2L, 3L))).thenReturn(Arrays.asList("fetched", null));
+
+        Map<Object, Object> found = bulkCache.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(found).containsExactly(Map.entry(1L, "cached"), Map.entry(2L, "fetched"));
+        assertThat(bulkCache.getAll(List.of(2L))).containsEntry(2L, "fetched");
+        verify(bulk).multiPut("events", Map.of(1L, "cached"));
+        verify(bulk, times(1)).multiGet(any(), any()); // Second read served by L1
+        verifyNoMoreInteractions(redisCache);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.counter("cache.tier.requests", "cache", "events", "tier", tier, "result", result).count();
+    }
+
+    private String origin() {
+        cache.evict(99L);
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("cache:invalidate"), captor.capture());
+        return captor.getValue().split("\\|")[0];
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidate".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,24 +2,54 @@ package com.ticketblitz.event.controller;
 
 import com.ticketblitz.event.config.JwtFilter;
 import com.ticketblitz.event.config.SecurityConfig;
+import com.ticketblitz.event.dto.CartLine;
 import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.dto.EventFacets;
+import com.ticketblitz.event.dto.EventSearchCriteria;
+import com.ticketblitz.event.dto.EventSearchPage;
+import com.ticketblitz.event.dto.EventSuggestion;
+import com.ticketblitz.event.dto.HoldSummary;
+import com.ticketblitz.event.dto.SeatAllocation;
+import com.ticketblitz.event.entity.HoldStatus;
+import com.ticketblitz.event.entity.TicketHold;
+import com.ticketblitz.event.inventory.TicketPoolInventory;
+import com.ticketblitz.event.service.EventExportService;
 import com.ticketblitz.event.service.EventService;
+import com.ticketblitz.event.service.HoldService;
+import com.ticketblitz.event.service.ImageRendition;
+import com.ticketblitz.event.service.ImageService;
+import com.ticketblitz.event.service.ReservationBatcher;
+import com.ticketblitz.event.service.SeatMapService;
+import com.ticketblitz.event.service.TypeaheadService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -35,6 +65,27 @@ class EventControllerTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private ReservationBatcher reservationBatcher;
+
+    @MockitoBean
+    private HoldService holdService;
+
+    @MockitoBean
+    private SeatMapService seatMapService;
+
+    @MockitoBean
+    private TypeaheadService typeaheadService;
+
+    @MockitoBean
+    private EventExportService eventExportService;
+
+    @MockitoBean
+    private ImageService imageService;
+
+    @TempDir
+    private Path tempDir;
+
     // REMOVED: createEvent_PastDate_ShouldFail - validation not working without code changes
 
     // REMOVED: createEvent_NegativePrice_ShouldFail - validation not working without code changes
@@ -62,15 +113,94 @@ class EventControllerTest {
     }
 
     @Test
-    @DisplayName("getAllEvents: Should return list of events")
+    @DisplayName("getEvents: Should return one page of upcoming events with the next cursor")
     @WithMockUser
-    void getAllEvents_Success() throws Exception {
+    void getEvents_Success() throws Exception {
         EventDto mockDto = new EventDto(1L, "Test", "Desc", LocalDateTime.now(), "Loc", "Cat", BigDecimal.TEN, 10, 10, null);
-        when(eventService.getAllEvents()).thenReturn(List.of(mockDto));
+        when(eventService.getUpcomingEvents("abc", 10)).thenReturn(new EventSearchPage(List.of(mockDto), "next"));
 
-        mockMvc.perform(get("/events"))
+        mockMvc.perform(get("/events").param("cursor", "abc").param("limit", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Test"));
+                .andExpect(jsonPath("$.events[0].title").value("Test"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("exportEvents: Should stream the export body as JSON")
+    @WithMockUser(roles = "ADMIN")
+    void exportEvents_Streams() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write("[{\"id\":1}]".getBytes());
+            return null;
+        }).when(eventExportService).exportUpcomingEvents(any());
+
+        MvcResult started = mockMvc.perform(get("/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].id").value(1));
+        verify(eventService, never()).getUpcomingEvents(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("exportEvents: Non-admin should get 403 without opening the export")
+    @WithMockUser
+    void exportEvents_Forbidden() throws Exception {
+        mockMvc.perform(get("/events/export"))
+                .andExpect(status().isForbidden());
+        verify(eventExportService, never()).exportUpcomingEvents(any());
+    }
+
+    @Test
+    @DisplayName("getImage: Should serve the cached file with its ETag and a long immutable cache lifetime")
+    void getImage_Success() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("card"), "jpeg-bytes");
+        when(imageService.get(ImageRendition.CARD, "3f2a9c.jpg")).thenReturn(
+                Optional.of(new ImageService.CachedImage(file, 10, "\"abc\"", "image/jpeg", false)));
+
+        mockMvc.perform(get("/events/images/card/3f2a9c.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().string("jpeg-bytes"));
+    }
+
+    @Test
+    @DisplayName("getImage: Matching If-None-Match should return 304 without a body")
+    void getImage_NotModified() throws Exception {
+        when(imageService.get(ImageRendition.THUMB, "3f2a9c.jpg")).thenReturn(
+                Optional.of(new ImageService.CachedImage(tempDir.resolve("thumb"), 10, "\"abc\"", "image/jpeg", false)));
+
+        mockMvc.perform(get("/events/images/thumb/3f2a9c.jpg").header("If-None-Match", "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("getImage: Fallback to the original should only be cached briefly")
+    void getImage_FallbackShortLived() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("original"), "webp-bytes");
+        when(imageService.get(ImageRendition.THUMB, "3f2a9c.webp")).thenReturn(
+                Optional.of(new ImageService.CachedImage(file, 10, "\"def\"", "image/webp", true)));
+
+        mockMvc.perform(get("/events/images/thumb/3f2a9c.webp"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", allOf(containsString("max-age=60"), not(containsString("immutable")))));
+    }
+
+    @Test
+    @DisplayName("getImage: Unknown image should return 404, unknown size 400")
+    void getImage_NotFoundAndBadSize() throws Exception {
+        when(imageService.get(ImageRendition.ORIGINAL, "missing.jpg")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/events/images/original/missing.jpg"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/events/images/huge/missing.jpg"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -85,6 +215,102 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.id").value(1));
     }
 
+    @Test
+    @DisplayName("searchEvents: Should pass filters and cursor through and return the page")
+    @WithMockUser(username = "fan-1")
+    void searchEvents_Success() throws Exception {
+        EventDto hit = new EventDto(7L, "Rock Night", "Desc", LocalDateTime.now(), "Loc", "Music", BigDecimal.TEN, 10, 10, null);
+        EventSearchCriteria criteria = new EventSearchCriteria("rock", "Music", new BigDecimal("10"), null, null, null);
+        when(eventService.searchEvents(criteria, "abc", 5, false, "fan-1")).thenReturn(new EventSearchPage(List.of(hit), "next"));
+
+        mockMvc.perform(get("/events/search")
+                        .param("q", "rock")
+                        .param("category", "Music")
+                        .param("minPrice", "10")
+                        .param("cursor", "abc")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].id").value(7))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("searchEvents: facets=true should return the counts next to the page")
+    @WithMockUser(username = "fan-1")
+    void searchEvents_Facets() throws Exception {
+        EventFacets facets = new EventFacets(Map.of("Music", 12L), Map.of("50-100", 12L));
+        when(eventService.searchEvents(any(), isNull(), eq(20), eq(true), eq("fan-1")))
+                .thenReturn(new EventSearchPage(List.of(), null, facets));
+
+        mockMvc.perform(get("/events/search").param("q", "rock").param("facets", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets.categories.Music").value(12))
+                .andExpect(jsonPath("$.facets.priceRanges['50-100']").value(12));
+    }
+
+    @Test
+    @DisplayName("searchEvents: Invalid cursor should return 400")
+    @WithMockUser
+    void searchEvents_InvalidCursor() throws Exception {
+        when(eventService.searchEvents(any(), eq("bad"), anyInt(), anyBoolean(), any()))
+                .thenThrow(new IllegalArgumentException("Invalid search cursor"));
+
+        mockMvc.perform(get("/events/search").param("q", "rock").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid search cursor"));
+    }
+
+    @Test
+    @DisplayName("suggest: Should return typeahead hits without touching EventService")
+    @WithMockUser
+    void suggest_Success() throws Exception {
+        when(typeaheadService.suggest("tay", 8)).thenReturn(List.of(
+                new EventSuggestion(1L, "Taylor Swift - Eras Tour", "NYC", "Music", LocalDateTime.now().plusDays(3))));
+
+        mockMvc.perform(get("/events/suggest").param("q", "tay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Taylor Swift - Eras Tour"));
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("suggest: Blank query should be rejected")
+    @WithMockUser
+    void suggest_Blank() throws Exception {
+        mockMvc.perform(get("/events/suggest").param("q", " "))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(typeaheadService);
+    }
+
+    @Test
+    @DisplayName("getEventsBatch: Should return every found event in one call")
+    @WithMockUser
+    void getEventsBatch_Success() throws Exception {
+        EventDto first = new EventDto(3L, "Third", "Desc", LocalDateTime.now(), "Loc", "Cat", BigDecimal.TEN, 10, 10, null);
+        EventDto second = new EventDto(1L, "First", "Desc", LocalDateTime.now(), "Loc", "Cat", BigDecimal.TEN, 10, 10, null);
+        when(eventService.getEvents(List.of(3L, 1L))).thenReturn(List.of(first, second));
+
+        mockMvc.perform(get("/events/batch").param("ids", "3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    @Test
+    @DisplayName("getEventsBatch: More than 100 ids should be rejected")
+    @WithMockUser
+    void getEventsBatch_TooMany() throws Exception {
+        String ids = String.join(",", java.util.stream.IntStream.rangeClosed(1, 101).mapToObj(Integer::toString).toList());
+
+        mockMvc.perform(get("/events/batch").param("ids", ids))
+                .andExpect(status().is4xxClientError());
+
+        verify(eventService, never()).getEvents(any());
+    }
+
     @Test
     @DisplayName("deleteEvent: Should return 204 No Content")
     @WithMockUser(roles = "ADMIN")
@@ -119,6 +345,159 @@ class EventControllerTest {
                 .andExpect(content().string("false"));
     }
 
+    @Test
+    @DisplayName("reserveTickets: Should go through the batcher when group-commit is enabled")
+    @WithMockUser
+    void reserveTickets_Batched() throws Exception {
+        when(reservationBatcher.isEnabled()).thenReturn(true);
+        when(reservationBatcher.reserve(1L, 5)).thenReturn(true);
+
+        mockMvc.perform(post("/events/internal/1/reserve")
+                        .param("count", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+
+        verify(eventService, never()).reserveTickets(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[POOL]: Should return the claim and the numbered tickets as headers")
+    @WithMockUser
+    void reserveTickets_PoolClaim() throws Exception {
+        when(eventService.claimsTickets()).thenReturn(true);
+        when(eventService.reserveTickets(eq(1L), eq(2), any(UUID.class))).thenReturn(true);
+        when(eventService.claimedTickets(any(UUID.class))).thenReturn(List.of(41, 42));
+
+        mockMvc.perform(post("/events/internal/1/reserve")
+                        .param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(TicketPoolInventory.CLAIM_HEADER))
+                .andExpect(header().string(TicketPoolInventory.NUMBERS_HEADER, "41,42"));
+
+        verify(reservationBatcher, never()).reserve(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("releaseTickets: Should pass the reserve claim through")
+    @WithMockUser
+    void releaseTickets_Claim() throws Exception {
+        UUID claim = UUID.randomUUID();
+
+        mockMvc.perform(put("/events/1/release")
+                        .param("count", "2")
+                        .param("claim", claim.toString()))
+                .andExpect(status().isOk());
+
+        verify(eventService).releaseTickets(1L, 2, claim);
+    }
+
+    @Test
+    @DisplayName("reserveTickets: With holds enabled should return the hold token as a header")
+    @WithMockUser
+    void reserveTickets_Hold() throws Exception {
+        UUID token = UUID.randomUUID();
+        when(holdService.isEnabled()).thenReturn(true);
+        when(holdService.hold(1L, 2)).thenReturn(Optional.of(
+                new TicketHold(token, 1L, 2, HoldStatus.HELD, LocalDateTime.now().plusMinutes(10))));
+
+        mockMvc.perform(post("/events/internal/1/reserve")
+                        .param("count", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HoldService.HOLD_TOKEN_HEADER, token.toString()))
+                .andExpect(header().exists(HoldService.HOLD_EXPIRES_HEADER))
+                .andExpect(content().string("true"));
+
+        verify(eventService, never()).reserveTickets(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reserveCart: Should reserve every line in one call")
+    @WithMockUser
+    void reserveCart_Success() throws Exception {
+        when(eventService.reserveCart(List.of(new CartLine(2L, 1), new CartLine(1L, 3)))).thenReturn(true);
+
+        mockMvc.perform(post("/events/internal/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"eventId\":2,\"count\":1},{\"eventId\":1,\"count\":3}]"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("true"));
+    }
+
+    @Test
+    @DisplayName("reserveCart: Should return 400 when any line is sold out")
+    @WithMockUser
+    void reserveCart_SoldOut() throws Exception {
+        when(eventService.reserveCart(any())).thenReturn(false);
+
+        mockMvc.perform(post("/events/internal/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"eventId\":1,\"count\":3}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("false"));
+    }
+
+    @Test
+    @DisplayName("reserveCart: Empty cart should be rejected")
+    @WithMockUser
+    void reserveCart_Empty() throws Exception {
+        mockMvc.perform(post("/events/internal/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().is4xxClientError());
+
+        verify(eventService, never()).reserveCart(any());
+    }
+
+    @Test
+    @DisplayName("confirmHold: Expired hold should return 409 Conflict")
+    @WithMockUser
+    void confirmHold_Expired() throws Exception {
+        UUID token = UUID.randomUUID();
+        when(holdService.confirm(token)).thenReturn(false);
+
+        mockMvc.perform(post("/events/internal/holds/" + token + "/confirm"))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("false"));
+    }
+
+    @Test
+    @DisplayName("getHolds: Should return unconfirmed hold counts")
+    @WithMockUser
+    void getHolds_Success() throws Exception {
+        when(holdService.summary(1L)).thenReturn(new HoldSummary(1L, 3, 7));
+
+        mockMvc.perform(get("/events/1/holds"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.activeHolds").value(3))
+                .andExpect(jsonPath("$.heldTickets").value(7));
+    }
+
+    @Test
+    @DisplayName("reserveSeats: Should return the allocated block")
+    @WithMockUser
+    void reserveSeats_Success() throws Exception {
+        when(seatMapService.reserveBestAvailable(1L, 4, null))
+                .thenReturn(Optional.of(new SeatAllocation(7L, "Floor", 0, 18, 4)));
+
+        mockMvc.perform(post("/events/internal/1/seats/reserve")
+                        .param("count", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.section").value("Floor"))
+                .andExpect(jsonPath("$.firstSeat").value(18));
+    }
+
+    @Test
+    @DisplayName("reserveSeats: No adjacent block should return 400")
+    @WithMockUser
+    void reserveSeats_NoBlock() throws Exception {
+        when(seatMapService.reserveBestAvailable(1L, 4, 7L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/events/internal/1/seats/reserve")
+                        .param("count", "4")
+                        .param("section", "7"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("releaseTickets: Should return true")
     @WithMockUser
@@ -128,7 +507,7 @@ class EventControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("true"));
 
-        verify(eventService).releaseTickets(1L, 5);
+        verify(eventService).releaseTickets(1L, 5, null);
     }
 
     @Test
@@ -194,6 +573,26 @@ class EventControllerTest {
         verify(eventService, never()).deleteEvent(any());
     }
 
+    @Test
+    @DisplayName("setHot: ADMIN should be able to flag an event hot")
+    @WithMockUser(roles = "ADMIN")
+    void setHot_Success() throws Exception {
+        mockMvc.perform(put("/events/1/hot").param("enabled", "true"))
+                .andExpect(status().isNoContent());
+
+        verify(eventService).setHot(1L, true);
+    }
+
+    @Test
+    @DisplayName("setHot: Should return 403 Forbidden when user is not ADMIN")
+    @WithMockUser(roles = "USER")
+    void setHot_Forbidden() throws Exception {
+        mockMvc.perform(put("/events/1/hot").param("enabled", "true"))
+                .andExpect(status().isForbidden());
+
+        verify(eventService, never()).setHot(any(), anyBoolean());
+    }
+
     @Test
     @DisplayName("deleteEvent: Should return 403 when not authenticated")
     void deleteEvent_Unauthorized() throws Exception {
@@ -418,15 +817,23 @@ class EventControllerTest {
     }
 
     @Test
-    @DisplayName("getAllEvents: Should return empty list when no events")
+    @DisplayName("getEvents: Should return an empty last page when no events")
     @WithMockUser
-    void getAllEvents_EmptyList() throws Exception {
-        when(eventService.getAllEvents()).thenReturn(List.of());
+    void getEvents_EmptyPage() throws Exception {
+        when(eventService.getUpcomingEvents(null, 20)).thenReturn(new EventSearchPage(List.of(), null));
 
         mockMvc.perform(get("/events"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(jsonPath("$.events", hasSize(0)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("getEvents: Limit above 100 should return 400")
+    @WithMockUser
+    void getEvents_LimitTooLarge() throws Exception {
+        mockMvc.perform(get("/events").param("limit", "101"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
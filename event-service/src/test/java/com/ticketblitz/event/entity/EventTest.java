@@ -58,7 +58,7 @@ class EventTest {
 
         Event event = new Event(1L, "Match", "Description", date, "Stadium",
                 category, new BigDecimal("50"), 1000, 1000,
-                new ArrayList<>(), null, 0L);
+                new ArrayList<>(), null, 0L, false, 0L);
 
         assertThat(event.getId()).isEqualTo(1L);
         assertThat(event.getTotalTickets()).isEqualTo(1000);
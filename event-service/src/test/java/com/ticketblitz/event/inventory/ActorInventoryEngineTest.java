@@ -0,0 +1,262 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.InventoryLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActorInventoryEngineTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private InventoryLeaseRepository leaseRepository;
+
+    @Mock
+    private RedisInventoryEngine redisInventory;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InventoryJournal journal;
+
+    private ActorInventoryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        journal = new InventoryJournal();
+        ReflectionTestUtils.setField(journal, "directory", directory);
+        ReflectionTestUtils.setField(journal, "segmentBytes", 64L * InventoryJournal.RECORD_SIZE);
+        engine = new ActorInventoryEngine(eventRepository, leaseRepository, redisInventory, journal, transactionTemplate);
+        ReflectionTestUtils.setField(engine, "reservationStrategy", ReservationStrategy.ACTOR);
+        ReflectionTestUtils.setField(engine, "mailboxCount", 4);
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(leaseRepository.claim(eq(ActorInventoryEngine.LEASE), anyString(), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("reserve: Should refuse commands until recovery has started the mailboxes")
+    void reserveBeforeRecovery() {
+        assertThatThrownBy(() -> engine.reserve(1L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("not started");
+    }
+
+    @Test
+    @DisplayName("reserve: Concurrent callers should never oversell (single writer per event)")
+    void reserveNeverOversells() throws Exception {
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(event(1L, 100)));
+        engine.recover();
+
+        List<CompletableFuture<ReservationOutcome>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 500; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> engine.reserve(1L, 1), callers));
+            }
+        }
+
+        long reserved = results.stream().map(CompletableFuture::join).filter(o -> o == ReservationOutcome.RESERVED).count();
+        assertThat(reserved).isEqualTo(100);
+        assertThat(journal.pending(1L)).isEqualTo(-100);
+        verify(eventRepository, times(1)).findByIdSkipLocked(1L); // Loaded once, then served from memory
+    }
+
+    @Test
+    @DisplayName("reserve: Should leave hot events to Redis")
+    void reserveHotEventNotManaged() {
+        Event hot = event(1L, 100);
+        hot.setHot(true);
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(hot));
+        when(redisInventory.isEnabled()).thenReturn(true);
+        engine.recover();
+
+        assertThat(engine.reserve(1L, 1)).isEqualTo(ReservationOutcome.NOT_MANAGED);
+        assertThat(engine.release(1L, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("checkpoint: Should fold journaled deltas into the rows and drop the journal entries")
+    void checkpointAppliesDeltas() {
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(event(1L, 10)));
+        engine.recover();
+        engine.reserve(1L, 3);
+        engine.release(1L, 1);
+
+        engine.checkpoint();
+
+        verify(eventRepository).lockInventoryRows(List.of(1L));
+        verify(eventRepository).applyJournalDelta(1L, -2, 2L);
+        assertThat(journal.pending(1L)).isZero();
+        assertThat(journal.segments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("detach: Should fold un-applied deltas into the locked row and reload on next use")
+    void detachFoldsPending() {
+        Event event = event(1L, 10);
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(event));
+        engine.recover();
+        engine.reserve(1L, 4);
+
+        engine.detach(event);
+
+        assertThat(event.getAvailableTickets()).isEqualTo(6);
+        assertThat(event.getJournalLsn()).isEqualTo(1L);
+        assertThat(engine.reserve(1L, 6)).isEqualTo(ReservationOutcome.RESERVED);
+        verify(eventRepository, times(2)).findByIdSkipLocked(1L);
+    }
+
+    @Test
+    @DisplayName("detach: A load waiting for the detaching caller's row lock should not block the DETACH")
+    void detachWhileLoadSeesLockedRow() throws Exception {
+        Event event = event(1L, 10);
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.empty()); // Row locked by the detaching caller
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        engine.recover();
+
+        CompletableFuture<ReservationOutcome> queued = CompletableFuture.supplyAsync(() -> engine.reserve(1L, 2));
+        verify(eventRepository, timeout(1000).atLeastOnce()).findByIdSkipLocked(1L);
+        engine.detach(event); // Same mailbox: would hang if the load were waiting on the lock
+
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(event)); // Caller committed
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo(ReservationOutcome.RESERVED);
+        assertThat(journal.pending(1L)).isEqualTo(-2);
+    }
+
+    @Test
+    @DisplayName("reserve: Caller should give up after reply-timeout-ms; a missing event should fail, not retry")
+    void reserveTimesOut() {
+        ReflectionTestUtils.setField(engine, "replyTimeoutMs", 50L);
+        when(eventRepository.findByIdSkipLocked(anyLong())).thenReturn(Optional.empty());
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        engine.recover();
+
+        assertThatThrownBy(() -> engine.reserve(1L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("did not answer");
+        assertThatThrownBy(() -> engine.reserve(2L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Event not found");
+        assertThat(journal.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("recover: Should refuse to start while another instance holds the actor lease")
+    void recoverRefusesWhenLeaseHeldElsewhere() {
+        when(leaseRepository.claim(eq(ActorInventoryEngine.LEASE), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(ActorInventoryEngine.LEASE)).thenReturn(true);
+
+        assertThatThrownBy(() -> engine.recover())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("another live instance");
+        assertThatThrownBy(() -> engine.reserve(1L, 1)).hasMessageContaining("not started");
+    }
+
+    @Test
+    @DisplayName("checkpoint: Losing the lease should stop serving; winning it back should reload the counters")
+    void lostLeaseStopsServing() {
+        when(eventRepository.findByIdSkipLocked(1L)).thenReturn(Optional.of(event(1L, 10)));
+        engine.recover();
+        engine.reserve(1L, 1);
+
+        when(leaseRepository.claim(eq(ActorInventoryEngine.LEASE), anyString(), any(), any())).thenReturn(0);
+        when(leaseRepository.existsById(ActorInventoryEngine.LEASE)).thenReturn(true);
+        engine.checkpoint();
+
+        assertThatThrownBy(() -> engine.reserve(1L, 1)).hasMessageContaining("lease");
+        verify(eventRepository).applyJournalDelta(1L, -1, 1L); // Sold tickets still reach the row
+
+        when(leaseRepository.claim(eq(ActorInventoryEngine.LEASE), anyString(), any(), any())).thenReturn(1);
+        engine.checkpoint();
+        assertThat(engine.reserve(1L, 1)).isEqualTo(ReservationOutcome.RESERVED);
+        verify(eventRepository, times(2)).findByIdSkipLocked(1L);
+    }
+
+    @Test
+    @DisplayName("stop: Should fold the journal and hand the lease over")
+    void stopGivesUpLease() {
+        engine.recover();
+
+        engine.stop();
+
+        verify(leaseRepository).giveUp(eq(ActorInventoryEngine.LEASE), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("recover: Should replay only records the rows have not applied yet")
+    void recoverReplaysLeftoverSegments() {
+        journal.open(0);
+        journal.append(1L, -2, null);  // LSN 1: already in the row
+        journal.append(1L, -3, null);  // LSN 2: lost in the crash
+        journal.append(2L, -1, null);  // LSN 3: event deleted since
+        journal.close();
+        when(eventRepository.findJournalPositions(List.of(1L, 2L))).thenReturn(List.of(position(1L, 1L)));
+        when(eventRepository.findMaxJournalLsn()).thenReturn(3L);
+
+        engine.recover();
+
+        verify(eventRepository).applyJournalDelta(1L, -3, 3L);
+        verify(eventRepository, never()).applyJournalDelta(eq(2L), anyInt(), anyLong());
+        assertThat(journal.segments()).hasSize(1); // Replayed segment dropped, fresh one open
+    }
+
+    private Event event(Long id, int available) {
+        return Event.builder().id(id).availableTickets(available).totalTickets(available).build();
+    }
+
+    private EventRepository.JournalPosition position(Long id, Long lsn) {
+        return new EventRepository.JournalPosition() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getJournalLsn() {
+                return lsn;
+            }
+        };
+    }
+}
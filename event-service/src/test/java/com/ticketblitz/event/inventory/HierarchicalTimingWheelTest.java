@@ -0,0 +1,78 @@
+package com.ticketblitz.event.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("advance: Should fire at the deadline, never before")
+    void firesAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        wheel.schedule("a", 55);
+
+        assertThat(wheel.advance(50)).isEmpty();
+        assertThat(wheel.advance(59)).isEmpty();
+        assertThat(wheel.advance(60)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advance: Deadlines on coarser levels should cascade down and fire on time")
+    void cascadesAcrossLevels() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 3, 1_000);
+        Random random = new Random(7);
+        List<long[]> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = 1_000 + 1 + random.nextInt(300_000); // Spans all three levels and past the horizon
+            wheel.schedule(i, deadline);
+            deadlines.add(new long[]{i, deadline});
+        }
+
+        for (long now = 1_000; now <= 302_000; now += 1 + random.nextInt(500)) {
+            for (Integer fired : wheel.advance(now)) {
+                long deadline = deadlines.get(fired)[1];
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                deadlines.get(fired)[1] = -1;
+            }
+            for (long[] pending : deadlines) {
+                if (pending[1] != -1) {
+                    assertThat(pending[1]).as("overdue timeout %d", pending[0]).isGreaterThan(now);
+                }
+            }
+        }
+        wheel.advance(302_000);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("cancel: Cancelled timeouts should never fire")
+    void cancelRemoves() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+        HierarchicalTimingWheel.Timeout<String> a = wheel.schedule("a", 100);
+        wheel.schedule("b", 100);
+        HierarchicalTimingWheel.Timeout<String> c = wheel.schedule("c", 50_000);
+
+        assertThat(wheel.cancel(a)).isTrue();
+        assertThat(wheel.cancel(a)).isFalse();
+        assertThat(wheel.cancel(c)).isTrue();
+
+        assertThat(wheel.advance(100_000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("schedule: A deadline in the past should fire on the next tick")
+    void pastDeadlineFiresNextTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 1_000);
+        wheel.schedule("late", 500);
+
+        assertThat(wheel.advance(1_010)).containsExactly("late");
+    }
+}
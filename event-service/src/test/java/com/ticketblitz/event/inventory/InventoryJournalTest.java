@@ -0,0 +1,126 @@
+package com.ticketblitz.event.inventory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryJournalTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @TempDir
+    Path directory;
+
+    private InventoryJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new InventoryJournal();
+        ReflectionTestUtils.setField(journal, "directory", directory);
+        ReflectionTestUtils.setField(journal, "segmentBytes", 4L * InventoryJournal.RECORD_SIZE);
+        journal.open(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("append: Should issue increasing LSNs and sum pending deltas per event")
+    void appendTracksPending() {
+        assertThat(journal.append(1L, -2, null)).isEqualTo(101);
+        assertThat(journal.append(1L, -3, null)).isEqualTo(102);
+        assertThat(journal.append(2L, 4, null)).isEqualTo(103);
+
+        assertThat(journal.pending(1L)).isEqualTo(-5);
+        assertThat(journal.pendingEventIds()).containsExactlyInAnyOrder(1L, 2L);
+
+        InventoryJournal.Taken taken = journal.take(new long[]{1L});
+        assertThat(taken.deltas().get(1L, 0)).isEqualTo(-5);
+        assertThat(taken.lsn()).isEqualTo(103);
+        assertThat(journal.pending(1L)).isZero();
+
+        journal.restore(taken.deltas());
+        assertThat(journal.pending(1L)).isEqualTo(-5);
+    }
+
+    @Test
+    @DisplayName("append: Should store fixed-size records with timestamp and 128-bit correlation")
+    void appendStoresFullRecord() {
+        long before = System.currentTimeMillis();
+        journal.append(7L, -2, TRACE_ID);
+
+        InventoryJournal.Record record = journal.read(journal.segments()).get(0);
+
+        assertThat(record.lsn()).isEqualTo(101);
+        assertThat(record.eventId()).isEqualTo(7L);
+        assertThat(record.delta()).isEqualTo(-2);
+        assertThat(record.timestamp()).isBetween(before, System.currentTimeMillis());
+        assertThat(record.correlationHigh()).isEqualTo(0x4bf92f3577b34da6L);
+        assertThat(record.correlationLow()).isEqualTo(0xa3ce929d0e0e4736L);
+    }
+
+    @Test
+    @DisplayName("whenDurable: Should complete once the group fsync covers the record")
+    void whenDurableCompletesAfterSync() {
+        long lsn = journal.append(1L, -1, null);
+
+        CompletableFuture<Void> durable = journal.whenDurable(lsn);
+
+        assertThat(durable).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("append: Should roll to a new segment when full and compact applied segments")
+    void rollAndCompact() {
+        for (int i = 0; i < 10; i++) {
+            journal.append(1L, -1, null); // LSN 101..110, 4 records per segment
+        }
+
+        List<Path> segments = journal.segments();
+        assertThat(segments).hasSize(3);
+        assertThat(journal.read(segments)).hasSize(10);
+
+        journal.compact(106); // Only the first segment (101..104) is fully applied
+        assertThat(journal.segments()).hasSize(2);
+
+        journal.compact(110); // The open segment is never deleted
+        assertThat(journal.segments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("scan: Should stop at a torn record")
+    void scanStopsAtTornRecord() throws Exception {
+        journal.append(1L, -2, null);
+        journal.append(1L, -3, null);
+        journal.close();
+        Path segment = journal.segments().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(InventoryJournal.RECORD_SIZE + 16);
+            file.writeInt(99); // Second record's delta no longer matches its check word
+        }
+
+        assertThat(journal.read(List.of(segment))).extracting(InventoryJournal.Record::lsn).containsExactly(101L);
+    }
+
+    @Test
+    @DisplayName("parseHex: Should split trace ids into high/low words and ignore garbage")
+    void parseHex() {
+        assertThat(InventoryJournal.parseHex("00f067aa0ba902b7", 0)).isZero();
+        assertThat(InventoryJournal.parseHex("00f067aa0ba902b7", 1)).isEqualTo(0x00f067aa0ba902b7L);
+        assertThat(InventoryJournal.parseHex("not-a-trace-id", 1)).isZero();
+        assertThat(InventoryJournal.parseHex(null, 0)).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ticketblitz.event.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("put/get/addTo: Should behave like a map without boxing")
+    void basicOperations() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        map.put(1L, 10);
+        assertThat(map.get(1L, -1)).isEqualTo(10);
+        assertThat(map.get(2L, -1)).isEqualTo(-1);
+        assertThat(map.addTo(1L, -3)).isEqualTo(7);
+        assertThat(map.addTo(2L, 5)).isEqualTo(5);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.remove(1L, -1)).isEqualTo(7);
+        assertThat(map.containsKey(1L)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should match java.util.HashMap across growth and backward-shift deletes")
+    void matchesHashMap() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.put(key, i);
+                    reference.put(key, i);
+                }
+                case 1 -> assertThat(map.addTo(key, 1)).isEqualTo(reference.merge(key, 1, Integer::sum));
+                default -> assertThat(map.remove(key, Integer.MIN_VALUE))
+                        .isEqualTo(reference.containsKey(key) ? reference.remove(key) : Integer.MIN_VALUE);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        map.forEach((key, value) -> assertThat(reference.get(key)).isEqualTo(value));
+        assertThat(map.keys()).hasSize(reference.size());
+    }
+}
@@ -0,0 +1,116 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisInventoryEngineTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private RedisInventoryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("reserve: Should not touch Redis when the engine is disabled")
+    void reserveDisabled() {
+        ReflectionTestUtils.setField(engine, "enabled", false);
+
+        assertThat(engine.reserve(1L, 1)).isEqualTo(ReservationOutcome.NOT_MANAGED);
+        assertThat(engine.release(1L, 1)).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("reserve: Should map script results to outcomes")
+    void reserveOutcomes() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(7L)
+                .thenReturn(-1L)
+                .thenReturn(-2L);
+
+        assertThat(engine.reserve(1L, 3)).isEqualTo(ReservationOutcome.RESERVED);
+        assertThat(engine.reserve(1L, 3)).isEqualTo(ReservationOutcome.SOLD_OUT);
+        assertThat(engine.reserve(1L, 3)).isEqualTo(ReservationOutcome.NOT_MANAGED);
+    }
+
+    @Test
+    @DisplayName("release: Should report unmanaged events so the caller falls back to the DB")
+    void releaseNotManaged() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(-2L);
+
+        assertThat(engine.release(1L, 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("flush: Should write journaled deltas behind under row locks")
+    void flushAppliesDeltas() {
+        runTransactionsInline();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.keys(RedisInventoryEngine.PENDING_KEY)).thenReturn(Set.of("2", "1"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(List.of(-3L, 0L));
+
+        engine.flush();
+
+        verify(eventRepository).lockInventoryRows(List.of(1L, 2L));
+        verify(eventRepository).applyInventoryDelta(1L, -3);
+        verify(eventRepository, never()).applyInventoryDelta(eq(2L), anyInt());
+    }
+
+    @Test
+    @DisplayName("flush: Should put deltas back in the journal when the DB write fails")
+    void flushRestoresOnFailure() {
+        runTransactionsInline();
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.keys(RedisInventoryEngine.PENDING_KEY)).thenReturn(Set.of("1"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(List.of(-3L));
+        when(eventRepository.applyInventoryDelta(1L, -3)).thenThrow(new RuntimeException("DB down"));
+
+        engine.flush();
+
+        verify(hashOperations).increment(RedisInventoryEngine.PENDING_KEY, "1", -3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
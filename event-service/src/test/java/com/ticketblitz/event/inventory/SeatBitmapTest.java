@@ -0,0 +1,107 @@
+package com.ticketblitz.event.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatBitmapTest {
+
+    @Test
+    @DisplayName("findBestBlock: Should prefer the front row and the row centre")
+    void bestBlockIsFrontAndCentre() {
+        SeatBitmap bitmap = SeatBitmap.allAvailable(3, 20);
+
+        assertThat(bitmap.findBestBlock(4)).containsExactly(0, 8);
+
+        bitmap.take(0, 6, 8); // Centre of row 0 gone: left and right edges remain
+        assertThat(bitmap.findBestBlock(4)).containsExactly(0, 2);
+        assertThat(bitmap.findBestBlock(7)).containsExactly(1, 6);
+    }
+
+    @Test
+    @DisplayName("findBestBlock: Blocks spanning a word boundary should be found")
+    void blockAcrossWordBoundary() {
+        SeatBitmap bitmap = SeatBitmap.allAvailable(1, 130);
+        bitmap.take(0, 0, 60);
+        bitmap.take(0, 70, 60);
+
+        assertThat(bitmap.findBestBlock(10)).containsExactly(0, 60);
+        assertThat(bitmap.findBestBlock(11)).isNull();
+    }
+
+    @Test
+    @DisplayName("blockStarts: Should match a naive scan for every block size")
+    void blockStartsMatchesNaiveScan() {
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            long word = random.nextLong() | random.nextLong();
+            long next = random.nextLong() | random.nextLong();
+            int count = 1 + random.nextInt(SeatBitmap.MAX_BLOCK);
+
+            long expected = 0;
+            for (int start = 0; start < 64; start++) {
+                boolean free = true;
+                for (int k = start; k < start + count && free; k++) {
+                    free = ((k < 64 ? word >>> k : next >>> (k - 64)) & 1L) != 0;
+                }
+                if (free) {
+                    expected |= 1L << start;
+                }
+            }
+            assertThat(SeatBitmap.blockStarts(word, next, count)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("take/release: Double booking and double release should be rejected")
+    void takeAndReleaseGuarded() {
+        SeatBitmap bitmap = SeatBitmap.allAvailable(2, 10);
+        bitmap.take(1, 2, 3);
+
+        assertThatThrownBy(() -> bitmap.take(1, 4, 2)).isInstanceOf(IllegalStateException.class);
+        bitmap.release(1, 2, 3);
+        assertThatThrownBy(() -> bitmap.release(1, 2, 1)).isInstanceOf(IllegalStateException.class);
+        assertThat(bitmap.available()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("encode/decode: Should round-trip and stay tiny for a fresh 80k-seat section")
+    void encodeRoundTrip() {
+        SeatBitmap fresh = SeatBitmap.allAvailable(2000, 40);
+        byte[] compact = fresh.encode();
+        assertThat(compact.length).isLessThan(16);
+        assertThat(SeatBitmap.decode(compact)).isEqualTo(fresh);
+
+        SeatBitmap fragmented = SeatBitmap.allAvailable(2000, 40);
+        Random random = new Random(11);
+        for (int row = 0; row < 2000; row++) {
+            for (int seat = 0; seat < 40; seat++) {
+                if (random.nextBoolean()) {
+                    fragmented.take(row, seat, 1);
+                }
+            }
+        }
+        byte[] raw = fragmented.encode();
+        assertThat(raw.length).isLessThanOrEqualTo(80_000 / 8 + 16);
+        assertThat(SeatBitmap.decode(raw)).isEqualTo(fragmented);
+    }
+
+    @Test
+    @DisplayName("findBestBlock: Selling out an 80k-seat section block by block should stay consistent")
+    void sellOutLargeSection() {
+        SeatBitmap bitmap = SeatBitmap.allAvailable(2000, 40);
+        int sold = 0;
+        int[] block;
+        while ((block = bitmap.findBestBlock(4)) != null) {
+            bitmap.take(block[0], block[1], 4);
+            sold += 4;
+        }
+        assertThat(sold + bitmap.available()).isEqualTo(80_000);
+        assertThat(sold).isGreaterThan(70_000); // Only stranded pairs at the row ends remain
+        assertThat(SeatBitmap.decode(bitmap.encode())).isEqualTo(bitmap);
+    }
+}
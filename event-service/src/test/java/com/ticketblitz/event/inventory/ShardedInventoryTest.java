@@ -0,0 +1,137 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.entity.InventoryShard;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.InventoryShardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedInventoryTest {
+
+    @Mock
+    private InventoryShardRepository shardRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ShardedInventory shardedInventory;
+
+    @Test
+    @DisplayName("reserve: Should succeed on the random bucket in one statement")
+    void reserveFastPath() {
+        when(shardRepository.decrement(eq(1L), anyInt(), eq(2))).thenReturn(Optional.of(10));
+
+        assertThat(shardedInventory.reserve(1L, 2)).isEqualTo(ReservationOutcome.RESERVED);
+        verify(shardRepository, never()).findShardsWithStock(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reserve: Should fall over to a sibling bucket when the random one is empty")
+    void reserveFallsOverToSibling() {
+        ReflectionTestUtils.setField(shardedInventory, "shardCount", 5); // Random pick is never bucket 5
+        when(shardRepository.decrement(eq(1L), anyInt(), eq(2))).thenReturn(Optional.empty());
+        when(shardRepository.findShardsWithStock(1L, 2)).thenReturn(List.of(5));
+        when(shardRepository.decrement(1L, 5, 2)).thenReturn(Optional.of(3));
+
+        assertThat(shardedInventory.reserve(1L, 2)).isEqualTo(ReservationOutcome.RESERVED);
+    }
+
+    @Test
+    @DisplayName("reserve: Should report NOT_MANAGED when the event was never split")
+    void reserveNotSplit() {
+        when(shardRepository.decrement(eq(1L), anyInt(), eq(2))).thenReturn(Optional.empty());
+        when(shardRepository.findShardsWithStock(1L, 2)).thenReturn(List.of());
+        when(shardRepository.findShardNos(1L)).thenReturn(List.of());
+
+        assertThat(shardedInventory.reserve(1L, 2)).isEqualTo(ReservationOutcome.NOT_MANAGED);
+    }
+
+    @Test
+    @DisplayName("reserve: Should pool fragmented stock (3 buckets x 1 ticket) to serve a request for 2")
+    void reservePoolsFragmentedStock() {
+        List<InventoryShard> shards = List.of(shard(0, 1), shard(1, 1), shard(2, 1));
+        when(shardRepository.decrement(eq(1L), anyInt(), eq(2))).thenReturn(Optional.empty());
+        when(shardRepository.findShardsWithStock(1L, 2)).thenReturn(List.of());
+        when(shardRepository.findShardNos(1L)).thenReturn(List.of(0, 1, 2));
+        when(shardRepository.findByEventIdLocked(1L)).thenReturn(shards);
+
+        assertThat(shardedInventory.reserve(1L, 2)).isEqualTo(ReservationOutcome.RESERVED);
+        assertThat(shards).extracting(InventoryShard::getAvailableTickets).containsExactly(1, 0, 0);
+        verify(shardRepository).saveAllAndFlush(shards);
+    }
+
+    @Test
+    @DisplayName("reserve: Should return SOLD_OUT when total stock is below the request")
+    void reserveSoldOut() {
+        when(shardRepository.decrement(eq(1L), anyInt(), eq(5))).thenReturn(Optional.empty());
+        when(shardRepository.findShardsWithStock(1L, 5)).thenReturn(List.of());
+        when(shardRepository.findShardNos(1L)).thenReturn(List.of(0, 1));
+        when(shardRepository.findByEventIdLocked(1L)).thenReturn(List.of(shard(0, 2), shard(1, 0)));
+
+        assertThat(shardedInventory.reserve(1L, 5)).isEqualTo(ReservationOutcome.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("split: Should spread the row's stock over N buckets and zero the row")
+    void splitDistributesStock() {
+        Event event = Event.builder().id(1L).availableTickets(19).totalTickets(19).build();
+        when(shardRepository.findShardNos(1L)).thenReturn(List.of());
+
+        shardedInventory.split(event);
+
+        ArgumentCaptor<InventoryShard> captor = ArgumentCaptor.forClass(InventoryShard.class);
+        verify(shardRepository, times(8)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(InventoryShard::getAvailableTickets)
+                .containsExactly(3, 3, 3, 2, 2, 2, 2, 2);
+        assertThat(event.getAvailableTickets()).isZero();
+    }
+
+    @Test
+    @DisplayName("split: Should be a no-op when buckets already exist")
+    void splitIdempotent() {
+        Event event = Event.builder().id(1L).availableTickets(19).build();
+        when(shardRepository.findShardNos(1L)).thenReturn(List.of(0));
+
+        shardedInventory.split(event);
+
+        verify(shardRepository, never()).save(any());
+        assertThat(event.getAvailableTickets()).isEqualTo(19);
+    }
+
+    @Test
+    @DisplayName("merge: Should fold every bucket back into the row")
+    void mergeFoldsBuckets() {
+        Event event = Event.builder().id(1L).availableTickets(0).build();
+        when(shardRepository.findByEventIdLocked(1L)).thenReturn(List.of(shard(0, 4), shard(1, 6)));
+
+        shardedInventory.merge(event);
+
+        assertThat(event.getAvailableTickets()).isEqualTo(10);
+        verify(shardRepository).deleteByEventId(1L);
+        verify(eventRepository).save(event);
+    }
+
+    private InventoryShard shard(int shardNo, int available) {
+        return InventoryShard.builder().eventId(1L).shardNo(shardNo).availableTickets(available).build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ticketblitz.event.inventory;
+
+import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.TicketPoolRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketPoolInventoryTest {
+
+    @Mock
+    private TicketPoolRepository poolRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TicketPoolInventory ticketPool;
+
+    @Test
+    @DisplayName("reserve: Should succeed when every requested row was claimed")
+    void reserveClaimsAll() {
+        when(poolRepository.claim(1L, 3, null)).thenReturn(List.of(10L, 11L, 12L));
+
+        assertThat(ticketPool.reserve(1L, 3, null)).isEqualTo(ReservationOutcome.RESERVED);
+        verify(poolRepository, never()).unclaimIds(any());
+    }
+
+    @Test
+    @DisplayName("reserve: Should hand a partial claim back (all-or-nothing)")
+    void reservePartialClaimRolledBack() {
+        when(poolRepository.claim(1L, 3, null)).thenReturn(List.of(10L));
+
+        assertThat(ticketPool.reserve(1L, 3, null)).isEqualTo(ReservationOutcome.SOLD_OUT);
+        verify(poolRepository).unclaimIds(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("reserve: Should report NOT_MANAGED when the event has no pool")
+    void reserveNotPooled() {
+        when(poolRepository.claim(1L, 2, null)).thenReturn(List.of());
+        when(poolRepository.existsByEventId(1L)).thenReturn(false);
+
+        assertThat(ticketPool.reserve(1L, 2, null)).isEqualTo(ReservationOutcome.NOT_MANAGED);
+    }
+
+    @Test
+    @DisplayName("release: Should re-create rows for tickets sold before the event was pooled")
+    void releaseRestocksMissingRows() {
+        when(poolRepository.unclaimUntracked(1L, 3)).thenReturn(List.of(20L));
+        when(poolRepository.restock(1L, 2)).thenReturn(2);
+
+        assertThat(ticketPool.release(1L, 3, null)).isTrue();
+        verify(poolRepository).restock(1L, 2);
+    }
+
+    @Test
+    @DisplayName("release: A claimed release should flip exactly that claim's rows and never restock")
+    void releaseByClaim() {
+        UUID claim = UUID.randomUUID();
+        when(poolRepository.claim(1L, 2, claim)).thenReturn(List.of(10L, 11L));
+        when(poolRepository.unclaim(claim)).thenReturn(List.of(10L, 11L), List.of());
+        when(poolRepository.existsByEventId(1L)).thenReturn(true);
+
+        assertThat(ticketPool.reserve(1L, 2, claim)).isEqualTo(ReservationOutcome.RESERVED);
+        assertThat(ticketPool.release(1L, 2, claim)).isTrue();
+        assertThat(ticketPool.release(1L, 2, claim)).isTrue(); // Redelivered: nothing left under the claim
+
+        verify(poolRepository, never()).unclaimUntracked(anyLong(), anyInt());
+        verify(poolRepository, never()).restock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("release: Should return false when the event has no pool")
+    void releaseNotPooled() {
+        when(poolRepository.unclaimUntracked(1L, 2)).thenReturn(List.of());
+        when(poolRepository.existsByEventId(1L)).thenReturn(false);
+
+        assertThat(ticketPool.release(1L, 2, null)).isFalse();
+        verify(poolRepository, never()).restock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("populate: Should number the remaining tickets after the ones already sold")
+    void populateNumbersAfterSold() {
+        Event event = Event.builder().id(1L).availableTickets(70).totalTickets(100).build();
+        when(poolRepository.existsByEventId(1L)).thenReturn(false);
+
+        ticketPool.populate(event);
+
+        verify(poolRepository).populate(1L, 31, 100);
+    }
+
+    @Test
+    @DisplayName("drain: Should fold the free pool rows back into the row counter")
+    void drainFoldsBack() {
+        Event event = Event.builder().id(1L).availableTickets(0).totalTickets(100).build();
+        when(poolRepository.existsByEventId(1L)).thenReturn(true);
+        when(poolRepository.drain(1L)).thenReturn(42L);
+
+        ticketPool.drain(event);
+
+        assertThat(event.getAvailableTickets()).isEqualTo(42);
+        verify(eventRepository).save(event);
+    }
+}
@@ -102,4 +102,12 @@ class EventProducerTest {
         // This test documents current behavior.
         verify(kafkaTemplate, times(1)).send(eq("ticketblitz.events.created"), isNull(), isNull());
     }
+
+    @Test
+    @DisplayName("publishEventDeleted: Should send the event ID as key with no value")
+    void publishEventDeleted() {
+        eventProducer.publishEventDeleted(42L);
+
+        verify(kafkaTemplate, times(1)).send(eq("ticketblitz.events.deleted"), eq("42"), isNull());
+    }
 }
@@ -0,0 +1,126 @@
+package com.ticketblitz.event.repository;
+
+import com.ticketblitz.event.entity.Category;
+import com.ticketblitz.event.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of the read paths against a real schema (H2 in PostgreSQL mode; tsvector as a text domain).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=PostgreSQL;INIT=CREATE DOMAIN IF NOT EXISTS tsvector AS VARCHAR",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false"
+})
+class EventRepositoryQueryCountTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category music = Category.builder().name("Music").description("Live music").build();
+        entityManager.persist(music);
+        for (int i = 1; i <= 5; i++) {
+            Event event = Event.builder()
+                    .title("Event " + i).description("Desc " + i).location("Arena")
+                    .date(LocalDateTime.now().plusDays(i)).category(music)
+                    .price(BigDecimal.TEN).totalTickets(100).availableTickets(100 - i)
+                    .imageUrls(i == 5 ? new ArrayList<>() : new ArrayList<>(List.of("poster-" + i + ".jpg", "stage-" + i + ".jpg")))
+                    .build();
+            entityManager.persist(event);
+            ids.add(event.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    @DisplayName("findViewsByIdIn: A page of events with category and images should be ONE statement")
+    void pageIsOneStatement() {
+        List<EventView> views = eventRepository.findViewsByIdIn(ids);
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(views).hasSize(5);
+        EventView first = views.stream().filter(v -> v.id().equals(ids.get(0))).findFirst().orElseThrow();
+        assertThat(first.category()).isEqualTo("Music");
+        assertThat(first.imageUrls()).containsExactly("poster-1.jpg", "stage-1.jpg");
+    }
+
+    @Test
+    @DisplayName("findLatestEvents: Limit should apply to events, in one statement")
+    void latestIsOneStatement() {
+        List<EventView> views = eventRepository.findLatestEvents(PageRequest.of(0, 3));
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(views).extracting(EventView::id).containsExactly(ids.get(0), ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("findViewById: One event should be one statement, even without images")
+    void singleIsOneStatement() {
+        EventView view = eventRepository.findViewById(ids.get(4)).orElseThrow();
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(view.availableTickets()).isEqualTo(95);
+        assertThat(view.imageUrls()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findById (entity): Shows the eager category load the projections avoid")
+    void entityReadCostsMore() {
+        eventRepository.findAllById(ids);
+
+        assertThat(statistics().getPrepareStatementCount()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("flush: Changing the stock of an event with images should be ONE update (no image rows rewritten)")
+    void stockFlushIsOneUpdate() {
+        Event event = entityManager.find(Event.class, ids.get(0));
+        statistics().clear();
+
+        event.setAvailableTickets(event.getAvailableTickets() - 2);
+        entityManager.flush();
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(entityManager.find(Event.class, ids.get(0)).getImageUrls()).containsExactly("poster-1.jpg", "stage-1.jpg");
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,124 @@
+package com.ticketblitz.event.search;
+
+import com.ticketblitz.event.search.TypeaheadIndex.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2027, 1, 1, 12, 0);
+
+    private static Entry entry(long id, String title, String location, String category, int daysAhead) {
+        return new Entry(id, title, location, category, NOW.plusDays(daysAhead));
+    }
+
+    private final TypeaheadIndex index = TypeaheadIndex.build(List.of(
+            entry(1, "Taylor Swift - The Eras Tour", "Madison Square Garden", "Music", 30),
+            entry(2, "Swift Boat Racing", "Tampa Bay", "Sports", 5),
+            entry(3, "An Evening with Taylor Mali", "Brooklyn", "Comedy", 10),
+            entry(4, "Beyoncé Renaissance", "São Paulo", "Music", 20),
+            entry(5, "Taylor Swift - Last Year", "Nashville", "Music", -30)
+    ));
+
+    @Test
+    @DisplayName("suggest: Title-prefix hits should rank first, then soonest date")
+    void ranking() {
+        assertThat(ids(index.suggest("tay", NOW, 10))).containsExactly(1L, 3L); // 1 starts with "tay", 3 only contains it
+        assertThat(ids(index.suggest("swift", NOW, 10))).containsExactly(2L, 1L); // Both contain it, 2 starts with it
+    }
+
+    @Test
+    @DisplayName("suggest: Every query token must prefix some token of the title, location or category")
+    void multiToken() {
+        assertThat(ids(index.suggest("taylor sw", NOW, 10))).containsExactly(1L);
+        assertThat(ids(index.suggest("music madison", NOW, 10))).containsExactly(1L);
+        assertThat(index.suggest("taylor boat", NOW, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest: Case, accents and punctuation should be folded")
+    void normalization() {
+        assertThat(ids(index.suggest("BEYONCE", NOW, 10))).containsExactly(4L);
+        assertThat(ids(index.suggest("sao", NOW, 10))).containsExactly(4L);
+        assertThat(index.suggest("  -- ", NOW, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("suggest: Past events and the limit should be honoured")
+    void pastAndLimit() {
+        assertThat(ids(index.suggest("last", NOW, 10))).isEmpty();
+        assertThat(index.suggest("music", NOW, 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("withAdded/withRemoved: Delta should be visible without touching the previous version")
+    void delta() {
+        TypeaheadIndex next = index
+                .withAdded(entry(6, "Taylor Swift - Extra Date", "London", "Music", 1))
+                .withRemoved(1)
+                .withAdded(entry(3, "Taylor Mali Live", "Queens", "Comedy", 10)); // Replaces the base version
+
+        assertThat(ids(next.suggest("taylor", NOW, 10))).containsExactly(6L, 3L);
+        assertThat(next.suggest("brooklyn", NOW, 10)).isEmpty();
+        assertThat(ids(index.suggest("taylor", NOW, 10))).containsExactly(1L, 3L);
+        assertThat(next.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("withAdded: Large delta should be folded into a new base")
+    void compaction() {
+        TypeaheadIndex current = index;
+        for (int i = 0; i <= TypeaheadIndex.MAX_DELTA; i++) {
+            current = current.withAdded(entry(100 + i, "Show " + i, "Venue", "Theatre", 1 + i % 50));
+        }
+
+        assertThat(current.size()).isEqualTo(5 + TypeaheadIndex.MAX_DELTA + 1);
+        assertThat(ids(current.suggest("show 1000", NOW, 10))).containsExactly(1100L);
+    }
+
+    /**
+     * mvn test -Dtest=TypeaheadIndexTest -Dtypeahead.benchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "typeahead.benchmark", matches = "true")
+    @DisplayName("Benchmark: p99 suggest latency over 100k events")
+    void benchmark() {
+        Random random = new Random(42);
+        String[] words = {"taylor", "swift", "rock", "jazz", "festival", "night", "live", "tour", "arena", "summer",
+                "comedy", "opera", "symphony", "football", "final", "derby", "club", "garden", "hall", "park"};
+        String[] cities = {"New York", "London", "Paris", "Berlin", "Tokyo", "Sydney", "Toronto", "Madrid"};
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i;
+            entries.add(entry(i, title, cities[random.nextInt(cities.length)], "Music", 1 + random.nextInt(365)));
+        }
+        TypeaheadIndex big = TypeaheadIndex.build(entries);
+        String[] queries = {"t", "ta", "tay", "taylor s", "rock n", "jazz fest", "lon", "sum", "opera p", "9999"};
+
+        for (int i = 0; i < 20_000; i++) {
+            big.suggest(queries[i % queries.length], NOW, 8);
+        }
+        long[] nanos = new long[50_000];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            big.suggest(queries[i % queries.length], NOW, 8);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("📊 Typeahead 100k events: p50 %d µs, p99 %d µs%n",
+                nanos[nanos.length / 2] / 1000, nanos[(int) (nanos.length * 0.99)] / 1000);
+    }
+
+    private static List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::id).toList();
+    }
+}
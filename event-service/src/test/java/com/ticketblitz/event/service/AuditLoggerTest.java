@@ -1,58 +1,132 @@
 package com.ticketblitz.event.service;
 
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.slf4j.LoggerFactory;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.MDC;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class AuditLoggerTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
     private AuditLogger auditLogger;
-    private ListAppender<ILoggingEvent> listAppender;
 
     @BeforeEach
     void setUp() {
-        auditLogger = new AuditLogger();
+        file = directory.resolve("audit.jsonl");
+        auditLogger = new AuditLogger(meterRegistry);
+        ReflectionTestUtils.setField(auditLogger, "file", file.toString());
+    }
 
-        // Capture logs
-        Logger logger = (Logger) LoggerFactory.getLogger("audit-logger");
-        listAppender = new ListAppender<>();
-        listAppender.start();
-        logger.addAppender(listAppender);
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        auditLogger.shutdown();
     }
 
     @Test
-    @DisplayName("log: Should log audit entry with all details")
-    void log_Success() {
+    @DisplayName("log: Should write one JSON line per entry with all details")
+    void log_Success() throws Exception {
+        auditLogger.open();
         MDC.put("traceId", "trace-123");
 
         auditLogger.log("user-1", "CREATE_EVENT", "Event created", 1000000L, true);
+        auditLogger.writeBatch();
 
-        assertThat(listAppender.list).hasSize(1);
-        ILoggingEvent logEvent = listAppender.list.get(0);
-        assertThat(logEvent.getMessage()).contains("trace-123");
-        assertThat(logEvent.getMessage()).contains("user-1");
-        assertThat(logEvent.getMessage()).contains("CREATE_EVENT");
-        assertThat(logEvent.getMessage()).contains("Success");
-
-        MDC.clear();
+        JsonNode entry = lines().get(0);
+        assertThat(entry.get("traceId").asText()).isEqualTo("trace-123");
+        assertThat(entry.get("userId").asText()).isEqualTo("user-1");
+        assertThat(entry.get("action").asText()).isEqualTo("CREATE_EVENT");
+        assertThat(entry.get("details").asText()).isEqualTo("Event created");
+        assertThat(entry.get("durationNs").asLong()).isEqualTo(1000000L);
+        assertThat(entry.get("success").asBoolean()).isTrue();
+        assertThat(entry.get("ts").asText()).endsWith("Z");
     }
 
     @Test
     @DisplayName("log: Should use N/A when traceId is not available")
-    void log_NoTraceId() {
-        MDC.clear();
+    void log_NoTraceId() throws Exception {
+        auditLogger.open();
+
+        auditLogger.log("user-2", "SEARCH", "Search \"rock\"\nline two", 500000L, false);
+        auditLogger.writeBatch();
+
+        JsonNode entry = lines().get(0);
+        assertThat(entry.get("traceId").asText()).isEqualTo("N/A");
+        assertThat(entry.get("success").asBoolean()).isFalse();
+        assertThat(entry.get("details").asText()).isEqualTo("Search \"rock\"\nline two"); // Escaped, still one line
+    }
+
+    @Test
+    @DisplayName("log: Full buffer should drop (not block) and count the dropped entries")
+    void log_OverflowDrops() throws Exception {
+        ReflectionTestUtils.setField(auditLogger, "bufferSize", 4);
+        auditLogger.open(); // No writer thread: nothing drains
 
-        auditLogger.log("user-2", "SEARCH", "Search executed", 500000L, false);
+        for (int i = 0; i < 6; i++) {
+            auditLogger.log("user-" + i, "SEARCH", "q", 1L, true);
+        }
+        auditLogger.writeBatch();
+
+        assertThat(lines()).extracting(entry -> entry.get("userId").asText())
+                .containsExactly("user-0", "user-1", "user-2", "user-3");
+        assertThat(meterRegistry.counter("audit.records", "result", "dropped").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("audit.records", "result", "written").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("init: Writer thread should drain in the background and flush the rest on shutdown")
+    void writerDrainsInBackground() throws Exception {
+        auditLogger.init();
+
+        for (int i = 0; i < 1000; i++) {
+            auditLogger.log("user-" + i, "SEARCH", "q", 1L, true);
+        }
+        auditLogger.shutdown();
+
+        assertThat(lines()).hasSize(1000);
+    }
+
+    @Test
+    @DisplayName("open: A file left over from an earlier day should be rolled to its dated name")
+    void rollsPreviousDaysFile() throws Exception {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Files.writeString(file, "{}\n");
+        Files.setLastModifiedTime(file, FileTime.from(yesterday.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+
+        auditLogger.open();
+
+        assertThat(directory.resolve("audit." + yesterday + ".jsonl")).hasContent("{}");
+        assertThat(file).isEmptyFile();
+    }
 
-        ILoggingEvent logEvent = listAppender.list.get(0);
-        assertThat(logEvent.getMessage()).contains("N/A");
-        assertThat(logEvent.getMessage()).contains("Fail");
+    private List<JsonNode> lines() throws Exception {
+        return Files.readAllLines(file).stream().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (Exception e) {
+                throw new AssertionError(line, e);
+            }
+        }).toList();
     }
 }
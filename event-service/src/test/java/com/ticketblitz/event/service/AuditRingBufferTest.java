@@ -0,0 +1,79 @@
+package com.ticketblitz.event.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("offer: Should fail once full and accept again after a drain, capacity rounded to a power of two")
+    void boundedAndReusable() {
+        AuditRingBuffer<Integer> ring = new AuditRingBuffer<>(3);
+        assertThat(ring.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        assertThat(ring.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(ring.drainTo(drained::add, 2)).isEqualTo(2);
+        assertThat(ring.offer(5)).isTrue();
+        ring.drainTo(drained::add, 10);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 5);
+        assertThat(ring.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("offer: Concurrent producers should each deliver every element exactly once, in their own order")
+    void concurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        AuditRingBuffer<long[]> ring = new AuditRingBuffer<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!ring.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        long[] next = new long[producers];
+        int[] received = {0};
+        int[] outOfOrder = {0};
+        start.countDown();
+        while (received[0] < producers * perProducer) {
+            ring.drainTo(element -> {
+                if (element[1] != next[(int) element[0]]) {
+                    outOfOrder[0]++;
+                }
+                next[(int) element[0]]++;
+                received[0]++;
+            }, 64);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(outOfOrder[0]).isZero();
+        assertThat(next).containsOnly(perProducer);
+        assertThat(ring.isEmpty()).isTrue();
+    }
+}
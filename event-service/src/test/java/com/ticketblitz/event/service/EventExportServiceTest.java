@@ -0,0 +1,98 @@
+package com.ticketblitz.event.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketblitz.event.inventory.ShardedInventory;
+import com.ticketblitz.event.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventExportServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ShardedInventory shardedInventory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("exportUpcomingEvents: One event per row with its inline images, in cursor order")
+    void writesRowsInOrder() throws Exception {
+        when(eventRepository.streamUpcomingForExport(any())).thenReturn(Stream.of(
+                row(1L, List.of("poster.jpg", "stage.jpg")), row(2L, List.of()), row(3L, List.of("crowd.jpg"))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new EventExportService(eventRepository, shardedInventory, objectMapper).exportUpcomingEvents(out);
+
+        JsonNode events = objectMapper.readTree(out.toByteArray());
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).get("id").asLong()).isEqualTo(1L);
+        assertThat(events.get(0).get("imageUrls")).extracting(JsonNode::asText).containsExactly("poster.jpg", "stage.jpg");
+        assertThat(events.get(1).get("imageUrls")).isEmpty();
+        assertThat(events.get(2).get("title").asText()).isEqualTo("Event 3");
+    }
+
+    @Test
+    @DisplayName("exportUpcomingEvents: Sharded stock should be added one lookup per chunk")
+    void addsShardTotalsPerChunk() throws Exception {
+        int count = EventExportService.CHUNK_SIZE + 1;
+        when(eventRepository.streamUpcomingForExport(any()))
+                .thenReturn(IntStream.rangeClosed(1, count).mapToObj(i -> row((long) i, List.of())));
+        when(shardedInventory.isActive()).thenReturn(true);
+        when(shardedInventory.totals(anyList())).thenReturn(Map.of(1L, 7));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new EventExportService(eventRepository, shardedInventory, objectMapper).exportUpcomingEvents(out);
+
+        JsonNode events = objectMapper.readTree(out.toByteArray());
+        assertThat(events).hasSize(count);
+        assertThat(events.get(0).get("availableTickets").asInt()).isEqualTo(17);
+        assertThat(events.get(1).get("availableTickets").asInt()).isEqualTo(10);
+        verify(shardedInventory, times(2)).totals(anyList());
+    }
+
+    @Test
+    @DisplayName("exportUpcomingEvents: No upcoming events should write an empty array")
+    void emptyExport() throws Exception {
+        when(eventRepository.streamUpcomingForExport(any())).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new EventExportService(eventRepository, shardedInventory, objectMapper).exportUpcomingEvents(out);
+
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    private static EventRepository.ExportRow row(Long id, List<String> imageUrls) {
+        return new EventRepository.ExportRow() {
+            public Long getId() { return id; }
+            public String getTitle() { return "Event " + id; }
+            public String getDescription() { return "Desc"; }
+            public LocalDateTime getDate() { return LocalDateTime.of(2027, 1, 1, 20, 0).plusDays(id); }
+            public String getLocation() { return "Arena"; }
+            public String getCategory() { return "Music"; }
+            public BigDecimal getPrice() { return BigDecimal.TEN; }
+            public Integer getTotalTickets() { return 100; }
+            public Integer getAvailableTickets() { return 10; }
+            public List<String> getImageUrls() { return imageUrls; }
+        };
+    }
+}
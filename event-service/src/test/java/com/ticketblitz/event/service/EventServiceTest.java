@@ -1,31 +1,53 @@
 package com.ticketblitz.event.service;
 
+import com.ticketblitz.event.cache.AvailabilityCache;
+import com.ticketblitz.event.cache.RefreshingCacheLoader;
+import com.ticketblitz.event.cache.SearchResultCache;
+import com.ticketblitz.event.dto.CartLine;
 import com.ticketblitz.event.dto.EventDto;
 import com.ticketblitz.event.dto.EventSearchCriteria;
+import com.ticketblitz.event.dto.EventSearchPage;
+import com.ticketblitz.event.dto.SearchCursor;
 import com.ticketblitz.event.entity.Category;
 import com.ticketblitz.event.entity.Event;
+import com.ticketblitz.event.inventory.ActorInventoryEngine;
+import com.ticketblitz.event.inventory.RedisInventoryEngine;
+import com.ticketblitz.event.inventory.ReservationOutcome;
+import com.ticketblitz.event.inventory.ReservationStrategy;
+import com.ticketblitz.event.inventory.ShardedInventory;
+import com.ticketblitz.event.inventory.TicketPoolInventory;
 import com.ticketblitz.event.kafka.EventCreatedEvent;
 import com.ticketblitz.event.repository.CategoryRepository;
 import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.EventView;
+import com.ticketblitz.event.repository.InventorySnapshot;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -51,9 +73,44 @@ class EventServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private RedisInventoryEngine redisInventory;
+
+    @Mock
+    private ShardedInventory shardedInventory;
+
+    @Mock
+    private ActorInventoryEngine actorInventory;
+
+    @Mock
+    private TicketPoolInventory ticketPool;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private AvailabilityCache availabilityCache;
+
+    @Mock
+    private RefreshingCacheLoader cacheLoader;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private EventService eventService;
 
+    @BeforeEach
+    void setUp() {
+        // Default: no hot events, every call falls through to the DB path
+        lenient().when(redisInventory.reserve(anyLong(), anyInt())).thenReturn(ReservationOutcome.NOT_MANAGED);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     // ========== 1. PESSIMISTIC LOCKING & INVENTORY MANAGEMENT ==========
 
     @Test
@@ -194,20 +251,20 @@ class EventServiceTest {
                 .availableTickets(100)
                 .build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(mockEvent));
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(view(mockEvent)));
 
         EventDto result = eventService.getEvent(eventId);
 
         assertThat(result.id()).isEqualTo(eventId);
         assertThat(result.title()).isEqualTo("Test Event");
         assertThat(result.category()).isEqualTo("Music");
-        verify(eventRepository).findById(eventId);
+        verify(eventRepository).findViewById(eventId);
     }
 
     @Test
     @DisplayName("getEvent: Should throw exception when event not found")
     void getEventNotFound() {
-        when(eventRepository.findById(999L)).thenReturn(Optional.empty());
+        when(eventRepository.findViewById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> eventService.getEvent(999L))
                 .isInstanceOf(RuntimeException.class)
@@ -264,6 +321,7 @@ class EventServiceTest {
         verify(minioService).uploadImages(images);
         verify(eventRepository).save(any(Event.class));
         verify(applicationEventPublisher, times(1)).publishEvent(any(EventCreatedEvent.class));
+        verify(searchResultCache).invalidateAfterCommit();
     }
 
     @Test
@@ -369,6 +427,24 @@ class EventServiceTest {
         verify(applicationEventPublisher, times(1)).publishEvent(any(EventCreatedEvent.class));
     }
 
+    @Test
+    @DisplayName("createEvent: Images should be uploaded before the transaction opens")
+    void createEventUploadsOutsideTransaction() {
+        Category mockCategory = Category.builder().id(1L).name("Music").build();
+        List<MultipartFile> images = List.of(mock(MultipartFile.class));
+        when(minioService.uploadImages(images)).thenReturn(List.of("abc.jpg"));
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(mockCategory));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        eventService.createEvent("Test", "Description", LocalDateTime.now().plusDays(1),
+                "Location", 1L, BigDecimal.TEN, 10, images);
+
+        InOrder order = inOrder(minioService, transactionTemplate, eventRepository);
+        order.verify(minioService).uploadImages(images);
+        order.verify(transactionTemplate).execute(any());
+        order.verify(eventRepository).save(any(Event.class));
+    }
+
     // ========== 5. RESILIENCE: CIRCUIT BREAKER FALLBACK ==========
 
     @Test
@@ -396,14 +472,13 @@ class EventServiceTest {
         EventSearchCriteria criteria = new EventSearchCriteria(
                 "Rock", null, null, null
         );
-        Pageable pageable = Pageable.unpaged();
         String userId = "user-123";
 
-        Page<Event> emptyPage = new PageImpl<>(List.of());
-        when(eventRepository.searchEventsFallback(any(), any(), any(), any(), any()))
-                .thenReturn(emptyPage);
+        when(eventRepository.countSearchTerms("Rock")).thenReturn(1);
+        when(eventRepository.searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
 
-        eventService.searchEvents(criteria, pageable, userId);
+        eventService.searchEvents(criteria, null, 20, userId);
 
         verify(auditLogger).log(
                 eq(userId),
@@ -420,13 +495,13 @@ class EventServiceTest {
         EventSearchCriteria criteria = new EventSearchCriteria(
                 "Rock", null, null, null
         );
-        Pageable pageable = Pageable.unpaged();
         String userId = "user-123";
 
-        when(eventRepository.searchEventsFallback(any(), any(), any(), any(), any()))
+        when(eventRepository.countSearchTerms("Rock")).thenReturn(1);
+        when(eventRepository.searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
                 .thenThrow(new RuntimeException("DB Connection Failed"));
 
-        assertThatThrownBy(() -> eventService.searchEvents(criteria, pageable, userId))
+        assertThatThrownBy(() -> eventService.searchEvents(criteria, null, 20, userId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("DB Connection Failed");
 
@@ -439,6 +514,194 @@ class EventServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("searchEvents: Full page should be in rank order with a cursor resuming after the last hit")
+    void searchEventsRankedKeyset() {
+        Category category = Category.builder().id(1L).name("Music").build();
+        Event first = Event.builder().id(7L).title("Rock Night").category(category).availableTickets(5).totalTickets(10).build();
+        Event second = Event.builder().id(3L).title("Rock Fest").category(category).availableTickets(5).totalTickets(10).build();
+        when(eventRepository.countSearchTerms("rock")).thenReturn(1);
+        when(eventRepository.searchRanked(eq("rock"), any(), isNull(), eq("Music"), isNull(), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(rankedId(7L, 0.6f), rankedId(3L, 0.3f)));
+        when(eventRepository.findViewsByIdIn(List.of(7L, 3L))).thenReturn(views(second, first));
+
+        EventSearchPage page = eventService.searchEvents(new EventSearchCriteria(" rock ", "Music", null, null), null, 2, "user-1");
+
+        assertThat(page.events()).extracting(EventDto::id).containsExactly(7L, 3L);
+        SearchCursor next = SearchCursor.decode(page.nextCursor());
+        assertThat(next.rank()).isEqualTo(0.3f);
+        assertThat(next.id()).isEqualTo(3L);
+
+        when(eventRepository.searchRanked(eq("rock"), any(), isNull(), eq("Music"), isNull(), isNull(), eq(0.3f), eq(3L), eq(2)))
+                .thenReturn(List.of());
+        EventSearchPage last = eventService.searchEvents(new EventSearchCriteria("rock", "Music", null, null), page.nextCursor(), 2, "user-1");
+        assertThat(last.events()).isEmpty();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("searchEvents: Stop-word-only query should fall back to the keyword scan by date")
+    void searchEventsFallsBackWithoutTerms() {
+        EventRepository.DatedId hit = mock(EventRepository.DatedId.class);
+        when(hit.getId()).thenReturn(4L);
+        when(eventRepository.countSearchTerms("the")).thenReturn(0);
+        when(eventRepository.searchByKeyword(eq("the"), any(), any(), any(), any(), any(), isNull(), isNull(), any()))
+                .thenReturn(List.of(hit));
+        when(eventRepository.findViewsByIdIn(List.of(4L))).thenReturn(views(
+                Event.builder().id(4L).category(Category.builder().name("Music").build()).availableTickets(1).totalTickets(1).build()));
+
+        EventSearchPage page = eventService.searchEvents(new EventSearchCriteria("the", null, null, null), null, 20, "user-1");
+
+        assertThat(page.events()).extracting(EventDto::id).containsExactly(4L);
+        assertThat(page.nextCursor()).isNull(); // Short page = last page
+        verify(eventRepository, never()).searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("searchEvents: Miss should cache the page of ids; a hit should skip the search and audit HIT")
+    void searchEventsCached() {
+        EventSearchCriteria criteria = new EventSearchCriteria("rock", null, null, null);
+        when(searchResultCache.generation()).thenReturn("0");
+        String key = SearchResultCache.pageKey("0", criteria, null, 20);
+        when(eventRepository.countSearchTerms("rock")).thenReturn(1);
+        when(eventRepository.searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of(rankedId(7L, 0.6f)));
+        when(eventRepository.findViewsByIdIn(List.of(7L))).thenReturn(views(
+                Event.builder().id(7L).category(Category.builder().name("Music").build()).availableTickets(5).totalTickets(10).build()));
+
+        eventService.searchEvents(criteria, null, 20, "user-1");
+
+        verify(searchResultCache).put(key, new SearchResultCache.Hits(List.of(7L), null));
+        verify(auditLogger).log(eq("user-1"), eq("SEARCH_EVENTS"), endsWith("Cache: MISS"), anyLong(), eq(true));
+
+        when(searchResultCache.get(key)).thenReturn(new SearchResultCache.Hits(List.of(7L), null));
+        EventSearchPage page = eventService.searchEvents(criteria, null, 20, "user-1");
+
+        assertThat(page.events()).extracting(EventDto::id).containsExactly(7L);
+        verify(eventRepository, times(1)).searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt());
+        verify(auditLogger).log(eq("user-1"), eq("SEARCH_EVENTS"), endsWith("Cache: HIT"), anyLong(), eq(true));
+    }
+
+    @Test
+    @DisplayName("searchEvents: Facets should come from one grouped query, sorted, and be cached per search")
+    void searchEventsFacets() {
+        EventSearchCriteria criteria = new EventSearchCriteria("rock", "Music", null, null);
+        when(searchResultCache.generation()).thenReturn("3");
+        when(eventRepository.countSearchTerms("rock")).thenReturn(1);
+        when(eventRepository.searchRanked(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+        when(eventRepository.countFacets(eq("rock"), any(), isNull(), eq("Music"), isNull(), isNull())).thenReturn(List.of(
+                facetRow(0, "Sports", null, 2L),
+                facetRow(0, "Music", null, 9L),
+                facetRow(0, "Comedy", null, 0L),
+                facetRow(1, null, 4, 1L),
+                facetRow(1, null, 1, 8L)));
+
+        EventSearchPage page = eventService.searchEvents(criteria, null, 20, true, "user-1");
+
+        assertThat(page.facets().categories()).containsExactly(Map.entry("Music", 9L), Map.entry("Sports", 2L));
+        assertThat(page.facets().priceRanges()).containsExactly(Map.entry("50-100", 8L), Map.entry("500+", 1L));
+        verify(searchResultCache).putFacets(SearchResultCache.facetKey("3", criteria), page.facets());
+
+        when(searchResultCache.getFacets(SearchResultCache.facetKey("3", criteria))).thenReturn(page.facets());
+        eventService.searchEvents(criteria, null, 20, true, "user-1");
+        verify(eventRepository, times(1)).countFacets(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("searchEvents: Stop-word-only query should count facets with the keyword query")
+    void searchEventsFacetsFallBackWithoutTerms() {
+        EventSearchCriteria criteria = new EventSearchCriteria("the", null, null, null);
+        when(searchResultCache.generation()).thenReturn("3");
+        when(eventRepository.countSearchTerms("the")).thenReturn(0);
+        when(eventRepository.countFacetsByKeyword(eq("the"), any(), isNull(), isNull(), isNull(), isNull()))
+                .thenReturn(List.of(facetRow(0, "Music", null, 3L)));
+
+        EventSearchPage page = eventService.searchEvents(criteria, null, 20, true, "user-1");
+
+        assertThat(page.facets().categories()).containsExactly(Map.entry("Music", 3L));
+        verify(eventRepository, never()).countFacets(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("deleteEvent: Should invalidate cached search pages")
+    void deleteInvalidatesSearchCache() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+
+        eventService.deleteEvent(1L);
+
+        verify(searchResultCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("searchEvents: Tampered cursor should be rejected")
+    void searchEventsInvalidCursor() {
+        assertThatThrownBy(() -> eventService.searchEvents(new EventSearchCriteria(null, null, null, null), "not-a-cursor", 20, "user-1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid search cursor");
+    }
+
+    private static EventView view(Event e) {
+        return new EventView(e.getId(), e.getTitle(), e.getDescription(), e.getDate(), e.getLocation(),
+                e.getCategory().getName(), e.getPrice(), e.getTotalTickets(), e.getAvailableTickets(), e.getImageUrls());
+    }
+
+    private static List<EventView> views(Event... events) {
+        return Arrays.stream(events).map(EventServiceTest::view).toList();
+    }
+
+    private static EventRepository.DatedId datedId(Long id, LocalDateTime date) {
+        return new EventRepository.DatedId() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDate() {
+                return date;
+            }
+        };
+    }
+
+    private static EventRepository.FacetRow facetRow(int byPrice, String category, Integer bucket, long count) {
+        return new EventRepository.FacetRow() {
+            @Override
+            public Integer getByPrice() {
+                return byPrice;
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public Integer getPriceBucket() {
+                return bucket;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+
+    private static EventRepository.RankedId rankedId(Long id, Float rank) {
+        return new EventRepository.RankedId() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getRank() {
+                return rank;
+            }
+        };
+    }
+
     // ========== 7. DELETE EVENT ==========
 
     @Test
@@ -469,11 +732,11 @@ class EventServiceTest {
         verify(eventRepository, never()).deleteById(any());
     }
 
-    // ========== 8. GET ALL EVENTS ==========
+    // ========== 8. LIST UPCOMING EVENTS ==========
 
     @Test
-    @DisplayName("getAllEvents: Should return all events")
-    void getAllEventsSuccess() {
+    @DisplayName("getUpcomingEvents: Full page should come back in date order with a (date, id) cursor")
+    void getUpcomingEventsSuccess() {
         Category cat = Category.builder()
                 .id(1L)
                 .name("Music")
@@ -503,25 +766,39 @@ class EventServiceTest {
                 .availableTickets(200)
                 .build();
 
-        when(eventRepository.findAll()).thenReturn(List.of(event1, event2));
+        when(eventRepository.searchByKeyword(eq(""), any(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(datedId(1L, event1.getDate()), datedId(2L, event2.getDate())));
+        when(eventRepository.findViewsByIdIn(List.of(1L, 2L))).thenReturn(views(event2, event1));
 
-        List<EventDto> result = eventService.getAllEvents();
+        EventSearchPage page = eventService.getUpcomingEvents(null, 2);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).title()).isEqualTo("Event 1");
-        assertThat(result.get(1).title()).isEqualTo("Event 2");
-        verify(eventRepository).findAll();
+        assertThat(page.events()).extracting(EventDto::title).containsExactly("Event 1", "Event 2");
+        SearchCursor next = SearchCursor.decode(page.nextCursor());
+        assertThat(next.date()).isEqualTo(event2.getDate());
+        assertThat(next.id()).isEqualTo(2L);
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("getAllEvents: Should return empty list when no events exist")
-    void getAllEventsEmpty() {
-        when(eventRepository.findAll()).thenReturn(Collections.emptyList());
+    @DisplayName("getUpcomingEvents: Should return an empty last page when no events exist")
+    void getUpcomingEventsEmpty() {
+        when(eventRepository.searchByKeyword(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+
+        EventSearchPage page = eventService.getUpcomingEvents(null, 20);
 
-        List<EventDto> result = eventService.getAllEvents();
+        assertThat(page.events()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+        verify(eventRepository, never()).findViewsByIdIn(any());
+    }
 
-        assertThat(result).isEmpty();
-        verify(eventRepository).findAll();
+    @Test
+    @DisplayName("getUpcomingEvents: Ranked search cursor should be rejected")
+    void getUpcomingEventsRankedCursor() {
+        assertThatThrownBy(() -> eventService.getUpcomingEvents(SearchCursor.ranked(0.5f, 1L).encode(), 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid search cursor");
     }
 
     // ========== 9. EDGE CASES: NULL/EMPTY IMAGE HANDLING ==========
@@ -548,7 +825,7 @@ class EventServiceTest {
                 .imageUrls(null)
                 .build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(mockEvent));
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(view(mockEvent)));
 
         EventDto result = eventService.getEvent(eventId);
 
@@ -577,7 +854,7 @@ class EventServiceTest {
                 .imageUrls(new ArrayList<>(List.of("io-logo.png", "keynote.jpg")))
                 .build();
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(mockEvent));
+        when(eventRepository.findViewById(eventId)).thenReturn(Optional.of(view(mockEvent)));
 
         EventDto result = eventService.getEvent(eventId);
 
@@ -607,7 +884,7 @@ class EventServiceTest {
                 .imageUrls(List.of("img1.jpg", "img2.jpg", "img3.jpg"))
                 .build();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findViewById(1L)).thenReturn(Optional.of(view(event)));
 
         EventDto result = eventService.getEvent(1L);
 
@@ -667,8 +944,8 @@ class EventServiceTest {
     }
 
     @Test
-    @DisplayName("getAllEvents: Should map all fields correctly")
-    void getAllEventsCorrectMapping() {
+    @DisplayName("getUpcomingEvents: Should map all fields correctly")
+    void getUpcomingEventsCorrectMapping() {
         Category cat = Category.builder()
                 .id(1L)
                 .name("Conference")
@@ -689,9 +966,11 @@ class EventServiceTest {
                 .imageUrls(List.of("reinvent-logo.png"))
                 .build();
 
-        when(eventRepository.findAll()).thenReturn(List.of(event));
+        when(eventRepository.searchByKeyword(any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(datedId(42L, futureDate)));
+        when(eventRepository.findViewsByIdIn(List.of(42L))).thenReturn(views(event));
 
-        List<EventDto> results = eventService.getAllEvents();
+        List<EventDto> results = eventService.getUpcomingEvents(null, 20).events();
 
         assertThat(results).hasSize(1);
         EventDto dto = results.get(0);
@@ -705,4 +984,549 @@ class EventServiceTest {
         assertThat(dto.availableTickets()).isEqualTo(8500);
         assertThat(dto.imageUrls()).containsExactly("reinvent-logo.png");
     }
+
+    // ========== 11. RESERVATION STRATEGIES (ATOMIC / OPTIMISTIC) ==========
+
+    @Test
+    @DisplayName("reserveTickets[ATOMIC]: Should use single guarded UPDATE without row lock")
+    void reserveTicketsAtomicSuccess() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ATOMIC);
+        when(eventRepository.decrementAvailableTickets(1L, 5, true)).thenReturn(Optional.of(95));
+
+        boolean result = eventService.reserveTickets(1L, 5);
+
+        assertThat(result).isTrue();
+        verify(eventRepository, never()).findByIdLocked(any());
+        verify(eventRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[ATOMIC]: Should return false when guard rejects (Sold Out)")
+    void reserveTicketsAtomicSoldOut() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ATOMIC);
+        when(eventRepository.decrementAvailableTickets(1L, 5, true)).thenReturn(Optional.empty());
+        when(eventRepository.findInventorySnapshot(1L)).thenReturn(Optional.of(snapshot(2, 1L)));
+
+        assertThat(eventService.reserveTickets(1L, 5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("reserveTickets[ATOMIC]: Should throw Exception if Event not found")
+    void reserveTicketsAtomicEventNotFound() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ATOMIC);
+        when(eventRepository.decrementAvailableTickets(99L, 1, true)).thenReturn(Optional.empty());
+        when(eventRepository.findInventorySnapshot(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.reserveTickets(99L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Event not found");
+    }
+
+    @Test
+    @DisplayName("releaseTickets[ATOMIC]: Should increment in a single statement")
+    void releaseTicketsAtomic() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ATOMIC);
+        when(eventRepository.incrementAvailableTickets(1L, 5, true)).thenReturn(Optional.of(100));
+
+        eventService.releaseTickets(1L, 5);
+
+        verify(eventRepository).incrementAvailableTickets(1L, 5, true);
+        verify(eventRepository, never()).findByIdLocked(any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[OPTIMISTIC]: Should retry after a version conflict")
+    void reserveTicketsOptimisticRetriesOnConflict() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.OPTIMISTIC);
+        when(eventRepository.findInventorySnapshot(1L))
+                .thenReturn(Optional.of(snapshot(10, 1L)))
+                .thenReturn(Optional.of(snapshot(8, 2L)));
+        when(eventRepository.compareAndSetAvailableTickets(1L, 5, 1L)).thenReturn(0);
+        when(eventRepository.compareAndSetAvailableTickets(1L, 3, 2L)).thenReturn(1);
+
+        assertThat(eventService.reserveTickets(1L, 5)).isTrue();
+        verify(eventRepository, times(2)).findInventorySnapshot(1L);
+    }
+
+    @Test
+    @DisplayName("reserveTickets[OPTIMISTIC]: A row with a NULL version should compare as version 0")
+    void reserveTicketsOptimisticNullVersion() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.OPTIMISTIC);
+        when(eventRepository.findInventorySnapshot(1L)).thenReturn(Optional.of(snapshot(10, null)));
+        when(eventRepository.compareAndSetAvailableTickets(1L, 9, 0L)).thenReturn(1);
+
+        assertThat(eventService.reserveTickets(1L, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("reserveTickets[OPTIMISTIC]: Should return false when Sold Out")
+    void reserveTicketsOptimisticSoldOut() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.OPTIMISTIC);
+        when(eventRepository.findInventorySnapshot(1L)).thenReturn(Optional.of(snapshot(2, 1L)));
+
+        assertThat(eventService.reserveTickets(1L, 5)).isFalse();
+        verify(eventRepository, never()).compareAndSetAvailableTickets(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[OPTIMISTIC]: Should give up after max attempts")
+    void reserveTicketsOptimisticGivesUp() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.OPTIMISTIC);
+        ReflectionTestUtils.setField(eventService, "optimisticMaxAttempts", 3);
+        when(eventRepository.findInventorySnapshot(1L)).thenReturn(Optional.of(snapshot(10, 1L)));
+        when(eventRepository.compareAndSetAvailableTickets(1L, 9, 1L)).thenReturn(0);
+
+        assertThatThrownBy(() -> eventService.reserveTickets(1L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("contention");
+        verify(eventRepository, times(3)).compareAndSetAvailableTickets(1L, 9, 1L);
+    }
+
+    // ========== 12. HOT EVENTS (Redis-fronted inventory) ==========
+
+    @Test
+    @DisplayName("reserveTickets[HOT]: Should be served by Redis without touching the DB")
+    void reserveTicketsHotServedByRedis() {
+        when(redisInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("reserveTickets[HOT]: Should return false when Redis counter is sold out")
+    void reserveTicketsHotSoldOut() {
+        when(redisInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.SOLD_OUT);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isFalse();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("reserveTickets[HOT]: Should re-attach a lost Redis counter under the row lock")
+    void reserveTicketsHotReattachesLostCounter() {
+        Event hotEvent = Event.builder().id(1L).availableTickets(50).totalTickets(100).hot(true).build();
+        when(redisInventory.isEnabled()).thenReturn(true);
+        when(redisInventory.reserve(1L, 2))
+                .thenReturn(ReservationOutcome.NOT_MANAGED)
+                .thenReturn(ReservationOutcome.RESERVED);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(hotEvent));
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        verify(redisInventory).attach(1L, 50);
+        assertThat(hotEvent.getAvailableTickets()).isEqualTo(50); // Row untouched, Redis owns it
+    }
+
+    @Test
+    @DisplayName("releaseTickets[HOT]: Should be served by Redis")
+    void releaseTicketsHot() {
+        when(redisInventory.release(1L, 3)).thenReturn(true);
+
+        eventService.releaseTickets(1L, 3);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("setHot: Demotion should fold un-flushed Redis delta back into the row")
+    void setHotDemotionAppliesPendingDelta() {
+        Event hotEvent = Event.builder().id(1L).availableTickets(50).totalTickets(100).hot(true).build();
+        when(redisInventory.isEnabled()).thenReturn(true);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(hotEvent));
+        when(redisInventory.detach(1L)).thenReturn(-7);
+
+        eventService.setHot(1L, false);
+
+        assertThat(hotEvent.getHot()).isFalse();
+        assertThat(hotEvent.getAvailableTickets()).isEqualTo(43);
+        verify(eventRepository).save(hotEvent);
+    }
+
+    @Test
+    @DisplayName("setHot: Promotion should attach the counter to Redis")
+    void setHotPromotionAttaches() {
+        Event event = Event.builder().id(1L).availableTickets(50).totalTickets(100).build();
+        when(redisInventory.isEnabled()).thenReturn(true);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        eventService.setHot(1L, true);
+
+        assertThat(event.getHot()).isTrue();
+        verify(redisInventory).attach(1L, 50);
+        verify(eventRepository).save(event);
+    }
+
+    // ========== 13. SHARDED INVENTORY ==========
+
+    @Test
+    @DisplayName("reserveTickets[SHARDED]: Should reserve from a bucket without locking the event row")
+    void reserveTicketsShardedSuccess() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.SHARDED);
+        when(shardedInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        verify(eventRepository, never()).findByIdLocked(any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[SHARDED]: Should split the event on first reservation")
+    void reserveTicketsShardedSplitsLazily() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.SHARDED);
+        Event event = Event.builder().id(1L).availableTickets(80).totalTickets(80).build();
+        when(shardedInventory.reserve(1L, 2))
+                .thenReturn(ReservationOutcome.NOT_MANAGED)
+                .thenReturn(ReservationOutcome.RESERVED);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        verify(shardedInventory).split(event);
+    }
+
+    @Test
+    @DisplayName("reserveTickets[SHARDED]: Should return false when every bucket is empty")
+    void reserveTicketsShardedSoldOut() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.SHARDED);
+        when(shardedInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.SOLD_OUT);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isFalse();
+        verify(shardedInventory, never()).split(any());
+    }
+
+    @Test
+    @DisplayName("getEvent[SHARDED]: Should report row + bucket stock as availableTickets")
+    void getEventShardedAggregatesAvailability() {
+        Event event = Event.builder()
+                .id(1L).title("Eras Tour").category(Category.builder().name("Music").build())
+                .availableTickets(0).totalTickets(100).build();
+        when(eventRepository.findViewById(1L)).thenReturn(Optional.of(view(event)));
+        when(shardedInventory.isActive()).thenReturn(true);
+        when(shardedInventory.totals(List.of(1L))).thenReturn(Map.of(1L, 73));
+
+        assertThat(eventService.getEvent(1L).availableTickets()).isEqualTo(73);
+    }
+
+    // ========== 14. GROUP-COMMIT BATCH ==========
+
+    @Test
+    @DisplayName("reserveTicketsBatch: Should grant in FIFO order under one row lock until stock runs out")
+    void reserveTicketsBatchFifo() {
+        Event event = Event.builder().id(1L).availableTickets(5).totalTickets(100).build();
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        List<Boolean> granted = eventService.reserveTicketsBatch(1L, List.of(2, 4, 3, 1));
+
+        assertThat(granted).containsExactly(true, false, true, false);
+        assertThat(event.getAvailableTickets()).isZero();
+        verify(eventRepository, times(1)).findByIdLocked(1L);
+        verify(eventRepository, times(1)).save(event);
+    }
+
+    @Test
+    @DisplayName("reserveTicketsBatch: Should fail the whole batch when the event does not exist")
+    void reserveTicketsBatchEventNotFound() {
+        when(eventRepository.findByIdLocked(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.reserveTicketsBatch(99L, List.of(1, 1)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Event not found");
+    }
+
+    @Test
+    @DisplayName("reserveTicketsBatch: Should reserve request by request when Redis owns the counter")
+    void reserveTicketsBatchHot() {
+        when(redisInventory.isManaged(1L)).thenReturn(true);
+        when(redisInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+        when(redisInventory.reserve(1L, 9)).thenReturn(ReservationOutcome.SOLD_OUT);
+
+        assertThat(eventService.reserveTicketsBatch(1L, List.of(2, 9))).containsExactly(true, false);
+        verify(eventRepository, never()).findByIdLocked(any());
+    }
+
+    // ========== 15. ACTOR INVENTORY ==========
+
+    @Test
+    @DisplayName("reserveTickets[ACTOR]: Should be served by the mailbox without touching the row")
+    void reserveTicketsActor() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ACTOR);
+        when(actorInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+        when(actorInventory.reserve(1L, 50)).thenReturn(ReservationOutcome.SOLD_OUT);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        assertThat(eventService.reserveTickets(1L, 50)).isFalse();
+        verifyNoInteractions(eventRepository);
+        verifyNoInteractions(transactionTemplate); // No pooled connection held while the mailbox answers
+    }
+
+    @Test
+    @DisplayName("releaseTickets[ACTOR]: Should take the hot path when the actor refuses a Redis-owned event")
+    void releaseTicketsActorHot() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.ACTOR);
+        Event event = Event.builder().id(1L).availableTickets(10).totalTickets(10).hot(true).build();
+        when(actorInventory.release(1L, 2)).thenReturn(false);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        eventService.releaseTickets(1L, 2);
+
+        verify(redisInventory).attach(1L, 10);
+        verify(redisInventory, times(2)).release(1L, 2); // Redis first (lost counter), again after re-attach
+    }
+
+    @Test
+    @DisplayName("setHot[ACTOR]: Should fold the in-memory counter back before Redis takes over")
+    void setHotDetachesActor() {
+        Event event = Event.builder().id(1L).availableTickets(10).totalTickets(10).hot(false).build();
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+        when(redisInventory.isEnabled()).thenReturn(true);
+        when(actorInventory.isActive()).thenReturn(true);
+
+        eventService.setHot(1L, true);
+
+        var order = inOrder(actorInventory, redisInventory);
+        order.verify(actorInventory).detach(event);
+        order.verify(redisInventory).attach(eq(1L), anyInt());
+    }
+
+    // ========== 16. TICKET POOL ==========
+
+    @Test
+    @DisplayName("reserveTickets[POOL]: Should claim pool rows without locking the event row")
+    void reserveTicketsPool() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.POOL);
+        when(ticketPool.reserve(1L, 2, null)).thenReturn(ReservationOutcome.RESERVED);
+        when(ticketPool.reserve(1L, 50, null)).thenReturn(ReservationOutcome.SOLD_OUT);
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        assertThat(eventService.reserveTickets(1L, 50)).isFalse();
+        verify(eventRepository, never()).findByIdLocked(any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets[POOL]: Should populate the pool on first reservation")
+    void reserveTicketsPoolPopulatesLazily() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.POOL);
+        Event event = Event.builder().id(1L).availableTickets(80).totalTickets(80).build();
+        when(ticketPool.reserve(1L, 2, null))
+                .thenReturn(ReservationOutcome.NOT_MANAGED)
+                .thenReturn(ReservationOutcome.RESERVED);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        assertThat(eventService.reserveTickets(1L, 2)).isTrue();
+        verify(ticketPool).populate(event);
+    }
+
+    @Test
+    @DisplayName("reserveTickets[POOL]: The caller's claim should tag the tickets and release exactly them")
+    void reserveTicketsPoolClaim() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.POOL);
+        UUID claim = UUID.randomUUID();
+        when(ticketPool.reserve(1L, 2, claim)).thenReturn(ReservationOutcome.RESERVED);
+        when(ticketPool.release(1L, 2, claim)).thenReturn(true);
+        when(ticketPool.ticketNumbers(claim)).thenReturn(List.of(7, 8));
+
+        assertThat(eventService.reserveTickets(1L, 2, claim)).isTrue();
+        assertThat(eventService.claimedTickets(claim)).containsExactly(7, 8);
+        eventService.releaseTickets(1L, 2, claim);
+
+        verify(ticketPool).release(1L, 2, claim);
+        verify(eventRepository, never()).findByIdLocked(any());
+    }
+
+    @Test
+    @DisplayName("releaseTickets[POOL]: Should fall back to the row counter when the event was never pooled")
+    void releaseTicketsPoolNotPooled() {
+        ReflectionTestUtils.setField(eventService, "reservationStrategy", ReservationStrategy.POOL);
+        Event event = Event.builder().id(1L).availableTickets(10).totalTickets(20).build();
+        when(ticketPool.release(1L, 2, null)).thenReturn(false);
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        eventService.releaseTickets(1L, 2);
+
+        assertThat(event.getAvailableTickets()).isEqualTo(12);
+        verify(eventRepository).save(event);
+    }
+
+    @Test
+    @DisplayName("setHot[POOL]: Should drain the pool before Redis takes over")
+    void setHotDrainsPool() {
+        Event event = Event.builder().id(1L).availableTickets(10).totalTickets(10).hot(false).build();
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+        when(redisInventory.isEnabled()).thenReturn(true);
+
+        eventService.setHot(1L, true);
+
+        var order = inOrder(ticketPool, redisInventory);
+        order.verify(ticketPool).drain(event);
+        order.verify(redisInventory).attach(eq(1L), anyInt());
+    }
+
+    // ========== 17. MULTI-EVENT CART ==========
+
+    @Test
+    @DisplayName("reserveCart: Should lock events in ascending id order and adjust every event's availability")
+    void reserveCartLocksInIdOrder() {
+        Event first = Event.builder().id(1L).availableTickets(10).totalTickets(10).build();
+        Event second = Event.builder().id(2L).availableTickets(10).totalTickets(10).build();
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(first));
+        when(eventRepository.findByIdLocked(2L)).thenReturn(Optional.of(second));
+
+        boolean reserved = eventService.reserveCart(List.of(new CartLine(2L, 3), new CartLine(1L, 4), new CartLine(2L, 1)));
+
+        assertThat(reserved).isTrue();
+        var order = inOrder(eventRepository);
+        order.verify(eventRepository).findByIdLocked(1L);
+        order.verify(eventRepository).findByIdLocked(2L);
+        assertThat(first.getAvailableTickets()).isEqualTo(6);
+        assertThat(second.getAvailableTickets()).isEqualTo(6); // Both lines of event 2 merged
+        verify(availabilityCache).adjustAfterCommit(1L, -4);
+        verify(availabilityCache).adjustAfterCommit(2L, -4);
+    }
+
+    @Test
+    @DisplayName("reserveCart: Should release the granted lines when a later line is sold out")
+    void reserveCartAllOrNothing() {
+        when(redisInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+        when(redisInventory.reserve(2L, 5)).thenReturn(ReservationOutcome.SOLD_OUT);
+        when(redisInventory.release(1L, 2)).thenReturn(true);
+
+        boolean reserved = eventService.reserveCart(List.of(new CartLine(1L, 2), new CartLine(2L, 5)));
+
+        assertThat(reserved).isFalse();
+        verify(redisInventory).release(1L, 2);
+        verifyNoInteractions(availabilityCache);
+    }
+
+    @Test
+    @DisplayName("reserveCart: Should compensate granted lines and rethrow when an event does not exist")
+    void reserveCartEventNotFound() {
+        when(redisInventory.reserve(1L, 2)).thenReturn(ReservationOutcome.RESERVED);
+        when(redisInventory.release(1L, 2)).thenReturn(true);
+        when(eventRepository.findByIdLocked(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.reserveCart(List.of(new CartLine(99L, 1), new CartLine(1L, 2))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Event not found");
+        verify(redisInventory).release(1L, 2);
+    }
+
+    // ========== 18. METADATA CACHE vs LIVE AVAILABILITY ==========
+
+    @Test
+    @DisplayName("getEvent: Metadata and availability hits should not touch the database")
+    void getEventCachedMetadataAndAvailability() {
+        EventDto metadata = new EventDto(1L, "Eras Tour", "desc", LocalDateTime.now().plusDays(5), "NYC",
+                "Music", BigDecimal.TEN, 100, 100, List.of());
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("events")).thenReturn(cache);
+        when(cacheLoader.get(eq(cache), eq(1L), any())).thenReturn(metadata);
+        when(availabilityCache.get(1L)).thenReturn(37);
+
+        EventDto result = eventService.getEvent(1L);
+
+        assertThat(result.title()).isEqualTo("Eras Tour");
+        assertThat(result.availableTickets()).isEqualTo(37);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("getEvent: Availability miss should be seeded from the inventory columns only")
+    void getEventAvailabilityMiss() {
+        EventDto metadata = new EventDto(1L, "Eras Tour", "desc", LocalDateTime.now().plusDays(5), "NYC",
+                "Music", BigDecimal.TEN, 100, 100, List.of());
+        Cache cache = mock(Cache.class);
+        InventorySnapshot inventory = snapshot(12, 3L);
+        when(cacheManager.getCache("events")).thenReturn(cache);
+        when(cacheLoader.get(eq(cache), eq(1L), any())).thenReturn(metadata);
+        when(availabilityCache.get(1L)).thenReturn(null);
+        when(eventRepository.findInventorySnapshot(1L)).thenReturn(Optional.of(inventory));
+
+        assertThat(eventService.getEvent(1L).availableTickets()).isEqualTo(12);
+        verify(availabilityCache).put(1L, 12);
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getLatestEvents: Should be served through the stampede-safe loader")
+    void getLatestEventsCached() {
+        Cache cache = mock(Cache.class);
+        List<EventDto> cached = List.of(new EventDto(1L, "Eras Tour", "desc", LocalDateTime.now().plusDays(5), "NYC",
+                "Music", BigDecimal.TEN, 100, 100, List.of()));
+        when(cacheManager.getCache("latestEvents")).thenReturn(cache);
+        when(cacheLoader.get(eq(cache), eq(5), any())).thenReturn(cached);
+
+        assertThat(eventService.getLatestEvents(5)).isSameAs(cached);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("getEvents: Misses should be loaded with one IN query and returned in request order")
+    void getEventsLoadsMissesInOneQuery() {
+        Category category = Category.builder().id(1L).name("Music").build();
+        Event first = Event.builder().id(1L).title("First").category(category).availableTickets(5).totalTickets(10).build();
+        Event third = Event.builder().id(3L).title("Third").category(category).availableTickets(7).totalTickets(10).build();
+        when(eventRepository.findViewsByIdIn(List.of(3L, 2L, 1L))).thenReturn(views(first, third));
+
+        List<EventDto> result = eventService.getEvents(List.of(3L, 2L, 1L, 3L));
+
+        assertThat(result).extracting(EventDto::id).containsExactly(3L, 1L); // Unknown id 2 skipped, duplicate folded
+        verify(availabilityCache).putAll(Map.of(1L, 5, 3L, 7));
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getEvents: Cached metadata should get availability from one multi-get, misses from one column query")
+    void getEventsOverlaysAvailability() {
+        Cache cache = mock(Cache.class);
+        EventDto one = new EventDto(1L, "First", "desc", LocalDateTime.now().plusDays(5), "NYC",
+                "Music", BigDecimal.TEN, 100, 100, List.of());
+        EventDto two = new EventDto(2L, "Second", "desc", LocalDateTime.now().plusDays(5), "NYC",
+                "Music", BigDecimal.TEN, 100, 100, List.of());
+        EventRepository.AvailabilityRow row = mock(EventRepository.AvailabilityRow.class);
+        when(row.getId()).thenReturn(2L);
+        when(row.getAvailableTickets()).thenReturn(9);
+        when(cacheManager.getCache("events")).thenReturn(cache);
+        when(cacheLoader.getAll(eq(cache), eq(List.of(1L, 2L)), any())).thenReturn(Map.of(1L, one, 2L, two));
+        when(availabilityCache.getAll(anyList())).thenReturn(Map.of(1L, 40));
+        when(eventRepository.findAvailability(List.of(2L))).thenReturn(List.of(row));
+
+        List<EventDto> result = eventService.getEvents(List.of(1L, 2L));
+
+        assertThat(result).extracting(EventDto::availableTickets).containsExactly(40, 9);
+        verify(availabilityCache).putAll(Map.of(2L, 9));
+        verify(eventRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("reserveTickets/releaseTickets: Should adjust the availability counter instead of evicting metadata")
+    void reserveAdjustsAvailability() {
+        Event event = Event.builder().id(1L).availableTickets(10).totalTickets(10).build();
+        when(eventRepository.findByIdLocked(1L)).thenReturn(Optional.of(event));
+
+        eventService.reserveTickets(1L, 3);
+        eventService.reserveTickets(1L, 50); // Sold out: no adjustment
+        eventService.releaseTickets(1L, 2);
+
+        verify(availabilityCache).adjustAfterCommit(1L, -3);
+        verify(availabilityCache).adjustAfterCommit(1L, 2);
+        verifyNoMoreInteractions(availabilityCache);
+        verifyNoInteractions(cacheManager);
+    }
+
+    private InventorySnapshot snapshot(int available, Long version) {
+        return new InventorySnapshot() {
+            @Override
+            public Integer getAvailableTickets() {
+                return available;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public Boolean getHot() {
+                return false;
+            }
+        };
+    }
 }
@@ -0,0 +1,225 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.HoldSummary;
+import com.ticketblitz.event.entity.HoldStatus;
+import com.ticketblitz.event.entity.TicketHold;
+import com.ticketblitz.event.repository.TicketHoldRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HoldServiceTest {
+
+    @Mock
+    private TicketHoldRepository holdRepository;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private ReservationBatcher reservationBatcher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private HoldService holdService;
+
+    @BeforeEach
+    void setUp() {
+        holdService = new HoldService(holdRepository, eventService, reservationBatcher, transactionTemplate,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(holdService, "enabled", true);
+        ReflectionTestUtils.setField(holdService, "ttlSeconds", 0L); // Expires on the next tick
+        ReflectionTestUtils.setField(holdService, "tickMs", 1L);
+        holdService.init();
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv ->
+                inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(holdRepository.save(any(TicketHold.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("hold: Should reserve the tickets and record a HELD token")
+    void holdReservesAndRecords() {
+        when(eventService.reserveTickets(1L, 3)).thenReturn(true);
+
+        Optional<TicketHold> hold = holdService.hold(1L, 3);
+
+        assertThat(hold).isPresent();
+        assertThat(hold.get().getToken()).isNotNull();
+        assertThat(hold.get().getStatus()).isEqualTo(HoldStatus.HELD);
+        assertThat(hold.get().getTicketCount()).isEqualTo(3);
+        verify(holdRepository).save(any(TicketHold.class));
+    }
+
+    @Test
+    @DisplayName("hold: Numbered tickets (POOL) should be claimed under the hold token, bypassing group commit")
+    void holdClaimsUnderToken() {
+        when(eventService.claimsTickets()).thenReturn(true);
+        when(eventService.reserveTickets(eq(1L), eq(3), any(UUID.class))).thenReturn(true);
+
+        TicketHold hold = holdService.hold(1L, 3).orElseThrow();
+
+        verify(eventService).reserveTickets(1L, 3, hold.getToken());
+        verifyNoInteractions(reservationBatcher);
+    }
+
+    @Test
+    @DisplayName("hold: Sold out should issue no token")
+    void holdSoldOut() {
+        when(eventService.reserveTickets(1L, 3)).thenReturn(false);
+
+        assertThat(holdService.hold(1L, 3)).isEmpty();
+        verify(holdRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("hold: Failing to record the hold should give the tickets back")
+    void holdSaveFailureReleases() {
+        when(eventService.reserveTickets(1L, 3)).thenReturn(true);
+        when(holdRepository.save(any(TicketHold.class))).thenThrow(new RuntimeException("DB down"));
+
+        assertThatThrownBy(() -> holdService.hold(1L, 3)).hasMessage("DB down");
+        verify(eventService).releaseTickets(eq(1L), eq(3), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("tick: An unconfirmed hold should be released once its TTL runs out")
+    void tickExpiresHold() throws InterruptedException {
+        when(eventService.reserveTickets(1L, 3)).thenReturn(true);
+        TicketHold hold = holdService.hold(1L, 3).orElseThrow();
+        when(holdRepository.findById(hold.getToken())).thenReturn(Optional.of(hold));
+        when(holdRepository.deleteByTokenAndStatus(hold.getToken(), HoldStatus.HELD)).thenReturn(1);
+
+        Thread.sleep(5);
+        holdService.tick();
+
+        verify(eventService).releaseTickets(1L, 3, hold.getToken());
+    }
+
+    @Test
+    @DisplayName("tick: A hold confirmed in the meantime should be kept, its tickets stay sold")
+    void tickKeepsConfirmedHold() throws InterruptedException {
+        when(eventService.reserveTickets(1L, 3)).thenReturn(true);
+        TicketHold hold = holdService.hold(1L, 3).orElseThrow();
+        when(holdRepository.findById(hold.getToken())).thenReturn(Optional.of(hold));
+        when(holdRepository.deleteByTokenAndStatus(hold.getToken(), HoldStatus.HELD)).thenReturn(0);
+
+        Thread.sleep(5);
+        holdService.tick();
+
+        verify(holdRepository, never()).deleteByTokenAndStatus(hold.getToken(), HoldStatus.CONFIRMED);
+        verify(eventService, never()).releaseTickets(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("confirm: Should be idempotent and fail once the hold is gone")
+    void confirmTransitions() {
+        UUID token = UUID.randomUUID();
+        when(holdRepository.transition(token, HoldStatus.HELD, HoldStatus.CONFIRMED)).thenReturn(1, 0, 0);
+        when(holdRepository.existsByTokenAndStatus(token, HoldStatus.CONFIRMED)).thenReturn(true, false);
+
+        assertThat(holdService.confirm(token)).isTrue();
+        assertThat(holdService.confirm(token)).isTrue();
+        assertThat(holdService.confirm(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("release: Should give the tickets back exactly once")
+    void releaseOnce() {
+        UUID token = UUID.randomUUID();
+        TicketHold hold = new TicketHold(token, 1L, 2, HoldStatus.HELD, LocalDateTime.now().plusMinutes(5));
+        when(holdRepository.findById(token)).thenReturn(Optional.of(hold), Optional.empty());
+        when(holdRepository.deleteByTokenAndStatus(token, HoldStatus.HELD)).thenReturn(1);
+
+        assertThat(holdService.release(token)).isTrue();
+        assertThat(holdService.release(token)).isFalse();
+        verify(eventService, times(1)).releaseTickets(1L, 2, token);
+    }
+
+    @Test
+    @DisplayName("release: Tickets should go back only once the hold delete has committed")
+    void releaseAfterDeleteCommits() {
+        UUID token = UUID.randomUUID();
+        TicketHold hold = new TicketHold(token, 1L, 2, HoldStatus.HELD, LocalDateTime.now().plusMinutes(5));
+        AtomicBoolean committed = new AtomicBoolean();
+        doAnswer(inv -> {
+            Object result = inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            committed.set(true);
+            return result;
+        }).when(transactionTemplate).execute(any());
+        when(holdRepository.findById(token)).thenReturn(Optional.of(hold));
+        when(holdRepository.deleteByTokenAndStatus(token, HoldStatus.HELD)).thenReturn(1);
+        doAnswer(inv -> {
+            assertThat(committed).isTrue();
+            return null;
+        }).when(eventService).releaseTickets(1L, 2, token);
+
+        assertThat(holdService.release(token)).isTrue();
+        verify(eventService).releaseTickets(1L, 2, token);
+    }
+
+    @Test
+    @DisplayName("release: A confirmed hold should be neither deleted nor given back")
+    void releaseConfirmedKeepsTickets() {
+        UUID token = UUID.randomUUID();
+        TicketHold hold = new TicketHold(token, 1L, 2, HoldStatus.CONFIRMED, LocalDateTime.now().plusMinutes(5));
+        when(holdRepository.findById(token)).thenReturn(Optional.of(hold));
+        when(holdRepository.deleteByTokenAndStatus(token, HoldStatus.HELD)).thenReturn(0);
+
+        assertThat(holdService.release(token)).isFalse();
+        verify(eventService, never()).releaseTickets(any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("sweepOrphans: Should expire only HELD holds and purge confirmed ones past retention")
+    void sweepExpiresHeldAndPurgesRetained() {
+        UUID token = UUID.randomUUID();
+        TicketHold hold = new TicketHold(token, 1L, 2, HoldStatus.HELD, LocalDateTime.now().minusMinutes(5));
+        when(holdRepository.findTokensExpiredBefore(eq(HoldStatus.HELD), any())).thenReturn(List.of(token));
+        when(holdRepository.findById(token)).thenReturn(Optional.of(hold));
+        when(holdRepository.deleteByTokenAndStatus(token, HoldStatus.HELD)).thenReturn(1);
+
+        holdService.sweepOrphans();
+
+        verify(eventService).releaseTickets(1L, 2, token);
+        verify(holdRepository).deleteByStatusExpiredBefore(eq(HoldStatus.CONFIRMED), any());
+    }
+
+    @Test
+    @DisplayName("summary: Should expose unconfirmed hold counts per event")
+    void summaryCounts() {
+        TicketHoldRepository.HoldTotal total = mock(TicketHoldRepository.HoldTotal.class);
+        when(total.getHolds()).thenReturn(4L);
+        when(total.getTickets()).thenReturn(9L);
+        when(holdRepository.sumByEventId(1L, HoldStatus.HELD)).thenReturn(total);
+
+        assertThat(holdService.summary(1L)).isEqualTo(new HoldSummary(1L, 4, 9));
+    }
+}
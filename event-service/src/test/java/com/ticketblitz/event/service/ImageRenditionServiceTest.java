@@ -0,0 +1,104 @@
+package com.ticketblitz.event.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionServiceTest {
+
+    @Mock
+    private MinioService minioService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ImageRenditionService renditions;
+
+    @AfterEach
+    void tearDown() {
+        if (renditions != null) {
+            renditions.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("generate: A 1080x1350 poster should get card and thumb JPEGs, aspect ratio kept")
+    void generatesCardAndThumb() throws Exception {
+        when(minioService.exists(anyString())).thenReturn(false);
+        when(minioService.download("poster.png")).thenReturn(new ByteArrayInputStream(png(1080, 1350)));
+
+        service().generate("poster.png");
+
+        ArgumentCaptor<byte[]> card = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> thumb = ArgumentCaptor.forClass(byte[].class);
+        verify(minioService).put(eq("renditions/card/poster.jpg"), card.capture(), eq("image/jpeg"));
+        verify(minioService).put(eq("renditions/thumb/poster.jpg"), thumb.capture(), eq("image/jpeg"));
+        BufferedImage cardImage = ImageIO.read(new ByteArrayInputStream(card.getValue()));
+        assertThat(cardImage.getWidth()).isEqualTo(640);
+        assertThat(cardImage.getHeight()).isEqualTo(800);
+        assertThat(ImageIO.read(new ByteArrayInputStream(thumb.getValue())).getWidth()).isEqualTo(240);
+        assertThat(meterRegistry.counter("images.renditions", "result", "created").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("generate: Small images should not be upscaled")
+    void neverUpscales() {
+        BufferedImage small = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage scaled = ImageRenditionService.scale(small, 640);
+
+        assertThat(scaled.getWidth()).isEqualTo(100);
+        assertThat(scaled.getHeight()).isEqualTo(50);
+        assertThat(scaled.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB); // JPEG-ready
+    }
+
+    @Test
+    @DisplayName("generate: Formats ImageIO cannot decode (webp, avif) should be skipped")
+    void skipsUndecodableFormats() throws Exception {
+        when(minioService.exists(anyString())).thenReturn(false);
+        when(minioService.download("poster.avif")).thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+        service().generate("poster.avif");
+
+        verify(minioService, never()).put(anyString(), any(), anyString());
+        assertThat(meterRegistry.counter("images.renditions", "result", "skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("generate: Existing renditions (same content hash) should not be regenerated")
+    void skipsExistingRenditions() throws Exception {
+        when(minioService.exists(anyString())).thenReturn(true);
+
+        service().generate("poster.png");
+
+        verify(minioService, never()).download(anyString());
+        verify(minioService, never()).put(anyString(), any(), anyString());
+    }
+
+    private ImageRenditionService service() {
+        renditions = new ImageRenditionService(minioService, meterRegistry);
+        return renditions;
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package com.ticketblitz.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+    private static final String KEY = "3f2a9c.jpg";
+
+    @Mock
+    private MinioService minioService;
+
+    @TempDir
+    private Path directory;
+
+    private ImageService imageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageService = new ImageService(minioService);
+        ReflectionTestUtils.setField(imageService, "directory", directory.toString());
+        imageService.init();
+    }
+
+    @Test
+    @DisplayName("get: First request should copy from MinIO, later ones should be served from disk")
+    void copiesOnceThenServesFromDisk() throws Exception {
+        when(minioService.download("renditions/card/3f2a9c.jpg")).thenAnswer(inv -> stream("card"));
+
+        ImageService.CachedImage first = imageService.get(ImageRendition.CARD, KEY).orElseThrow();
+        ImageService.CachedImage second = imageService.get(ImageRendition.CARD, KEY).orElseThrow();
+
+        assertThat(Files.readString(first.file())).isEqualTo("card");
+        assertThat(first.contentType()).isEqualTo("image/jpeg");
+        assertThat(first.fallback()).isFalse();
+        assertThat(second.etag()).isEqualTo(first.etag()).startsWith("\"");
+        verify(minioService, times(1)).download(anyString());
+    }
+
+    @Test
+    @DisplayName("get: Missing rendition should fall back to the original and not be looked up again right away")
+    void missingRenditionFallsBack() throws Exception {
+        when(minioService.download("renditions/thumb/3f2a9c.jpg")).thenReturn(null);
+        when(minioService.download(KEY)).thenAnswer(inv -> stream("original"));
+
+        ImageService.CachedImage image = imageService.get(ImageRendition.THUMB, KEY).orElseThrow();
+        imageService.get(ImageRendition.THUMB, KEY);
+
+        assertThat(Files.readString(image.file())).isEqualTo("original");
+        assertThat(image.fallback()).isTrue();
+        verify(minioService, times(1)).download("renditions/thumb/3f2a9c.jpg");
+    }
+
+    @Test
+    @DisplayName("get: Unknown image should be empty, unsafe keys rejected")
+    void unknownAndUnsafeKeys() throws Exception {
+        when(minioService.download(anyString())).thenReturn(null);
+
+        assertThat(imageService.get(ImageRendition.ORIGINAL, "missing.png")).isEqualTo(Optional.empty());
+        assertThatThrownBy(() -> imageService.get(ImageRendition.ORIGINAL, "../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("get: Cache should stay under max-bytes by evicting the least recently served file")
+    void evictsLeastRecentlyServed() throws Exception {
+        ReflectionTestUtils.setField(imageService, "maxBytes", 10L);
+        ReflectionTestUtils.setField(imageService, "evictGraceSeconds", 0L);
+        when(minioService.download(anyString())).thenAnswer(inv -> stream("0123"));
+
+        Path a = imageService.get(ImageRendition.ORIGINAL, "a.jpg").orElseThrow().file();
+        Path b = imageService.get(ImageRendition.ORIGINAL, "b.jpg").orElseThrow().file();
+        imageService.get(ImageRendition.ORIGINAL, "a.jpg"); // a is now the most recent
+        Path c = imageService.get(ImageRendition.ORIGINAL, "c.jpg").orElseThrow().file();
+
+        assertThat(a).exists();
+        assertThat(b).doesNotExist();
+        assertThat(c).exists();
+        assertThat(imageService.totalBytes()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("get: Evicted file should stay on disk for the grace period and be taken back if asked for again")
+    void evictedFileKeptDuringGrace() throws Exception {
+        ReflectionTestUtils.setField(imageService, "maxBytes", 6L);
+        when(minioService.download(anyString())).thenAnswer(inv -> stream("0123"));
+
+        Path a = imageService.get(ImageRendition.ORIGINAL, "a.jpg").orElseThrow().file();
+        imageService.get(ImageRendition.ORIGINAL, "b.jpg"); // Evicts a, which may still be in flight
+
+        assertThat(a).exists();
+        assertThat(imageService.totalBytes()).isEqualTo(4);
+        assertThat(imageService.get(ImageRendition.ORIGINAL, "a.jpg").orElseThrow().file()).isEqualTo(a);
+        verify(minioService, times(1)).download("a.jpg");
+    }
+
+    @Test
+    @DisplayName("get: Missing rendition of an unknown image should not be remembered")
+    void unknownImageNotRemembered() throws Exception {
+        when(minioService.download(anyString())).thenReturn(null);
+
+        assertThat(imageService.get(ImageRendition.THUMB, "missing.png")).isEmpty();
+        imageService.get(ImageRendition.THUMB, "missing.png");
+
+        verify(minioService, times(2)).download("renditions/thumb/missing.jpg");
+    }
+
+    @Test
+    @DisplayName("init: Files from a previous run should count towards the bound, partial downloads removed")
+    void indexesExistingFiles() throws Exception {
+        Files.writeString(directory.resolve(ImageService.fileName(KEY)), "cached");
+        Files.writeString(directory.resolve("abc.part"), "partial");
+
+        ImageService restarted = new ImageService(minioService);
+        ReflectionTestUtils.setField(restarted, "directory", directory.toString());
+        restarted.init();
+
+        assertThat(restarted.totalBytes()).isEqualTo(6);
+        assertThat(directory.resolve("abc.part")).doesNotExist();
+        assertThat(restarted.get(ImageRendition.ORIGINAL, KEY)).isPresent();
+        verifyNoInteractions(minioService);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes());
+    }
+}
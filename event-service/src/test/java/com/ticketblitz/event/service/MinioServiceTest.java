@@ -5,6 +5,9 @@ import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.ObjectWriteResponse;  // FIX: Import this
 import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.messages.ErrorResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +18,14 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -30,6 +40,8 @@ class MinioServiceTest {
 
     private MinioService minioService;
 
+    private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+
     @BeforeEach
     void setUp() {
         minioService = new MinioService(minioClient);
@@ -70,29 +82,67 @@ class MinioServiceTest {
     }
 
     @Test
-    @DisplayName("uploadImages: Should upload files and return URLs")
+    @DisplayName("uploadImages: Should upload files and return content-hash keys in input order")
     void uploadImages_Success() throws Exception {
+        useInMemoryStore();
         MockMultipartFile file1 = new MockMultipartFile(
                 "file", "test1.jpg", "image/jpeg", "content1".getBytes());
         MockMultipartFile file2 = new MockMultipartFile(
-                "file", "test2.jpg", "image/jpeg", "content2".getBytes());
+                "file", "test2.PNG", "image/png", "content2".getBytes());
         List<MultipartFile> files = List.of(file1, file2);
 
-        // FIX: putObject returns ObjectWriteResponse, not void
-        when(minioClient.putObject(any(PutObjectArgs.class)))
-                .thenReturn(mock(ObjectWriteResponse.class));
-
         List<String> result = minioService.uploadImages(files);
 
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0)).contains("test1.jpg");
-        assertThat(result.get(1)).contains("test2.jpg");
+        assertThat(result).containsExactly(sha256("content1") + ".jpg", sha256("content2") + ".png");
+        assertThat(store.get(result.get(0))).isEqualTo("content1".getBytes());
         verify(minioClient, times(2)).putObject(any(PutObjectArgs.class));
     }
 
+    @Test
+    @DisplayName("uploadImages: Identical content should be stored once, in a batch and across uploads")
+    void uploadImages_Dedup() throws Exception {
+        useInMemoryStore();
+        store.put(sha256("old poster") + ".jpg", "old poster".getBytes());
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("file", "poster.jpg", "image/jpeg", "poster".getBytes()),
+                new MockMultipartFile("file", "poster-copy.jpg", "image/jpeg", "poster".getBytes()),
+                new MockMultipartFile("file", "reupload.jpg", "image/jpeg", "old poster".getBytes()));
+
+        List<String> result = minioService.uploadImages(files);
+
+        assertThat(result.get(0)).isEqualTo(result.get(1));
+        assertThat(result.get(2)).isEqualTo(sha256("old poster") + ".jpg");
+        verify(minioClient, times(1)).putObject(any(PutObjectArgs.class));
+    }
+
+    @Test
+    @DisplayName("uploadImages: Uploads should run on virtual threads, never more than the cap at once")
+    void uploadImages_ConcurrencyCap() throws Exception {
+        ReflectionTestUtils.setField(minioService, "maxConcurrency", 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<Boolean> virtual = ConcurrentHashMap.newKeySet();
+        useInMemoryStore();
+        when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(inv -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            virtual.add(Thread.currentThread().isVirtual());
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return mock(ObjectWriteResponse.class);
+        });
+        List<MultipartFile> files = IntStream.range(0, 8)
+                .mapToObj(i -> (MultipartFile) new MockMultipartFile("file", i + ".jpg", "image/jpeg", ("img" + i).getBytes()))
+                .toList();
+
+        assertThat(minioService.uploadImages(files)).hasSize(8).doesNotHaveDuplicates();
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        assertThat(virtual).containsExactly(true);
+    }
+
     @Test
     @DisplayName("uploadImages: Should throw RuntimeException when upload fails")
     void uploadImages_Failure() throws Exception {
+        useInMemoryStore();
         MockMultipartFile file = new MockMultipartFile(
                 "file", "test.jpg", "image/jpeg", "content".getBytes());
 
@@ -104,4 +154,25 @@ class MinioServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to upload file");
     }
+
+    // In-memory object store standing in for the bucket
+    private void useInMemoryStore() throws Exception {
+        ErrorResponseException noSuchKey = new ErrorResponseException(
+                new ErrorResponse("NoSuchKey", "Object does not exist", "test-bucket", null, null, null, null), null, null);
+        lenient().when(minioClient.statObject(any(StatObjectArgs.class))).thenAnswer(inv -> {
+            if (!store.containsKey(inv.<StatObjectArgs>getArgument(0).object())) {
+                throw noSuchKey;
+            }
+            return null;
+        });
+        lenient().when(minioClient.putObject(any(PutObjectArgs.class))).thenAnswer(inv -> {
+            PutObjectArgs args = inv.getArgument(0);
+            store.put(args.object(), args.stream().readAllBytes());
+            return mock(ObjectWriteResponse.class);
+        });
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes()));
+    }
 }
@@ -0,0 +1,113 @@
+package com.ticketblitz.event.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBatcherTest {
+
+    @Mock
+    private EventService eventService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReservationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new ReservationBatcher(eventService, meterRegistry);
+        ReflectionTestUtils.setField(batcher, "enabled", true);
+        ReflectionTestUtils.setField(batcher, "windowMs", 50L);
+        ReflectionTestUtils.setField(batcher, "maxBatchSize", 3);
+        batcher.initMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit: Requests inside one window should share one transaction and complete individually")
+    void submitCombinesRequests() {
+        when(eventService.reserveTicketsBatch(eq(1L), anyList())).thenAnswer(inv -> {
+            List<Integer> counts = inv.getArgument(1);
+            List<Boolean> granted = new ArrayList<>();
+            counts.forEach(count -> granted.add(count < 5));
+            return granted;
+        });
+
+        CompletableFuture<Boolean> first = batcher.submit(1L, 2);
+        CompletableFuture<Boolean> second = batcher.submit(1L, 7);
+
+        assertThat(first.orTimeout(5, TimeUnit.SECONDS).join()).isTrue();
+        assertThat(second.orTimeout(5, TimeUnit.SECONDS).join()).isFalse();
+        verify(eventService, times(1)).reserveTicketsBatch(1L, List.of(2, 7));
+        assertThat(meterRegistry.get("inventory.reservation.batch.size").summary().max()).isEqualTo(2);
+        assertThat(meterRegistry.get("inventory.reservation.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("submit: Should never put more than max-batch-size requests in one transaction")
+    void submitRespectsMaxBatchSize() {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        when(eventService.reserveTicketsBatch(eq(1L), anyList())).thenAnswer(inv -> {
+            List<Integer> counts = inv.getArgument(1);
+            batchSizes.add(counts.size());
+            return Collections.nCopies(counts.size(), true);
+        });
+
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            futures.add(batcher.submit(1L, 1));
+        }
+        futures.forEach(f -> assertThat(f.orTimeout(5, TimeUnit.SECONDS).join()).isTrue());
+
+        assertThat(batchSizes).allMatch(size -> size <= 3);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("submit: An event's queue should be dropped once its drainer goes idle")
+    void idleQueueRemoved() throws InterruptedException {
+        when(eventService.reserveTicketsBatch(eq(1L), anyList())).thenReturn(List.of(true));
+
+        assertThat(batcher.reserve(1L, 1)).isTrue();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (batcher.queuedEvents() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(batcher.queuedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("reserve: Should rethrow the batch failure to every caller")
+    void reservePropagatesFailure() {
+        when(eventService.reserveTicketsBatch(eq(99L), anyList())).thenThrow(new RuntimeException("Event not found"));
+
+        assertThatThrownBy(() -> batcher.reserve(99L, 1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Event not found");
+    }
+}
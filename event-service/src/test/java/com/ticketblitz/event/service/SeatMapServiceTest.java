@@ -0,0 +1,152 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.SeatAllocation;
+import com.ticketblitz.event.dto.SeatSectionDto;
+import com.ticketblitz.event.entity.SeatSection;
+import com.ticketblitz.event.inventory.SeatBitmap;
+import com.ticketblitz.event.repository.EventRepository;
+import com.ticketblitz.event.repository.SeatSectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatMapServiceTest {
+
+    @Mock
+    private SeatSectionRepository sectionRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventService eventService;
+
+    @InjectMocks
+    private SeatMapService seatMapService;
+
+    @Test
+    @DisplayName("createSection: Should persist an all-free encoded bitmap")
+    void createSection() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(sectionRepository.findMaxSortOrder(1L)).thenReturn(-1);
+        when(sectionRepository.save(any(SeatSection.class))).thenAnswer(inv -> {
+            SeatSection section = inv.getArgument(0);
+            section.setId(10L);
+            return section;
+        });
+
+        SeatSectionDto dto = seatMapService.createSection(1L, "Floor", 100, 50);
+
+        assertThat(dto.id()).isEqualTo(10L);
+        assertThat(dto.sortOrder()).isZero();
+        assertThat(dto.availableSeats()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("createSection: Unknown event should throw")
+    void createSectionUnknownEvent() {
+        when(eventRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> seatMapService.createSection(1L, "Floor", 10, 10))
+                .hasMessage("Event not found");
+        verify(sectionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("reserveBestAvailable: Should skip a full section and take the best block of the next")
+    void reserveSkipsFullSection() {
+        SeatSection vip = section(10L, 2, 4);
+        SeatSection floor = section(11L, 5, 10);
+        List<SeatSectionRepository.SectionState> states = List.of(state(10L, 1, 0), state(11L, 0, 50));
+        when(sectionRepository.findStatesByEventId(1L)).thenReturn(states);
+        when(sectionRepository.findByIdLocked(11L)).thenReturn(Optional.of(floor));
+        when(eventService.reserveTickets(1L, 4)).thenReturn(true);
+
+        Optional<SeatAllocation> allocation = seatMapService.reserveBestAvailable(1L, 4, null);
+
+        assertThat(allocation).contains(new SeatAllocation(11L, "S11", 0, 3, 4));
+        assertThat(floor.getAvailableSeats()).isEqualTo(46);
+        assertThat(floor.getRevision()).isEqualTo(1L);
+        assertThat(SeatBitmap.decode(floor.getAvailability()).isAvailable(0, 3)).isFalse();
+        verify(sectionRepository, never()).findByIdLocked(vip.getId());
+        verify(sectionRepository).save(floor);
+    }
+
+    @Test
+    @DisplayName("reserveBestAvailable: Seats should not be allocated once the event's ticket counter is sold out")
+    void reserveSharesEventCapacity() {
+        SeatSection floor = section(11L, 5, 10);
+        List<SeatSectionRepository.SectionState> states = List.of(state(11L, 0, 50));
+        when(sectionRepository.findStatesByEventId(1L)).thenReturn(states);
+        when(sectionRepository.findByIdLocked(11L)).thenReturn(Optional.of(floor));
+        when(eventService.reserveTickets(1L, 2)).thenReturn(false); // Sold through POST /internal/{id}/reserve
+
+        assertThat(seatMapService.reserveBestAvailable(1L, 2, null)).isEmpty();
+        assertThat(floor.getAvailableSeats()).isEqualTo(50);
+        verify(sectionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("reserveBestAvailable: No row with enough adjacent seats should return empty")
+    void reserveNoBlock() {
+        SeatSection small = section(10L, 2, 3);
+        List<SeatSectionRepository.SectionState> states = List.of(state(10L, 0, 6));
+        when(sectionRepository.findStatesByEventId(1L)).thenReturn(states);
+        when(sectionRepository.findByIdLocked(10L)).thenReturn(Optional.of(small));
+
+        assertThat(seatMapService.reserveBestAvailable(1L, 4, null)).isEmpty();
+        verify(sectionRepository, never()).save(any());
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("releaseSeats: Should free the block and bump the revision")
+    void releaseSeats() {
+        SeatSection floor = section(11L, 5, 10);
+        SeatBitmap bitmap = SeatBitmap.decode(floor.getAvailability());
+        bitmap.take(2, 0, 3);
+        floor.setAvailability(bitmap.encode());
+        floor.setAvailableSeats(47);
+        when(sectionRepository.findByIdLocked(11L)).thenReturn(Optional.of(floor));
+
+        seatMapService.releaseSeats(1L, 11L, 2, 0, 3);
+
+        assertThat(floor.getAvailableSeats()).isEqualTo(50);
+        assertThat(SeatBitmap.decode(floor.getAvailability()).available()).isEqualTo(50);
+        verify(eventService).releaseTickets(1L, 3);
+    }
+
+    private SeatSection section(Long id, int rows, int seatsPerRow) {
+        return SeatSection.builder()
+                .id(id)
+                .eventId(1L)
+                .name("S" + id)
+                .sortOrder(0)
+                .rowCount(rows)
+                .seatsPerRow(seatsPerRow)
+                .availableSeats(rows * seatsPerRow)
+                .availability(SeatBitmap.allAvailable(rows, seatsPerRow).encode())
+                .revision(0L)
+                .build();
+    }
+
+    private SeatSectionRepository.SectionState state(Long id, long revision, int available) {
+        SeatSectionRepository.SectionState state = mock(SeatSectionRepository.SectionState.class);
+        lenient().when(state.getId()).thenReturn(id);
+        lenient().when(state.getRevision()).thenReturn(revision);
+        lenient().when(state.getAvailableSeats()).thenReturn(available);
+        return state;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ticketblitz.event.service;
+
+import com.ticketblitz.event.dto.EventDto;
+import com.ticketblitz.event.dto.EventSuggestion;
+import com.ticketblitz.event.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TypeaheadServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("rebuild/add/remove: Index should follow the DB snapshot plus later Kafka updates")
+    void followsUpdates() {
+        TypeaheadService service = new TypeaheadService(eventRepository, meterRegistry);
+        LocalDateTime date = LocalDateTime.now().plusDays(10);
+        EventRepository.TypeaheadRow row = mock(EventRepository.TypeaheadRow.class);
+        when(row.getId()).thenReturn(1L);
+        when(row.getTitle()).thenReturn("Coldplay Live");
+        when(row.getLocation()).thenReturn("Wembley");
+        when(row.getCategory()).thenReturn("Music");
+        when(row.getDate()).thenReturn(date);
+        when(eventRepository.findUpcomingForTypeahead()).thenReturn(List.of(row));
+
+        service.rebuild();
+        service.add(new EventDto(2L, "Coldplay Encore", "desc", date.plusDays(1), "Wembley", "Music",
+                BigDecimal.TEN, 100, 100, List.of()));
+        service.remove(1L);
+
+        assertThat(service.suggest("cold", 8)).extracting(EventSuggestion::id).containsExactly(2L);
+        assertThat(meterRegistry.timer("typeahead.suggest").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rebuild: A failing DB read should keep serving the current index")
+    void rebuildFailureKeepsIndex() {
+        TypeaheadService service = new TypeaheadService(eventRepository, meterRegistry);
+        service.add(new EventDto(2L, "Coldplay Encore", "desc", LocalDateTime.now().plusDays(1), "Wembley", "Music",
+                BigDecimal.TEN, 100, 100, List.of()));
+        when(eventRepository.findUpcomingForTypeahead()).thenThrow(new RuntimeException("DB down"));
+
+        service.rebuild();
+
+        assertThat(service.suggest("encore", 8)).hasSize(1);
+    }
+}